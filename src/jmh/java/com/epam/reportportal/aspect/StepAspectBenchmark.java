@@ -0,0 +1,210 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.aspect;
+
+import com.epam.reportportal.annotations.Step;
+import com.epam.reportportal.annotations.attribute.Attribute;
+import com.epam.reportportal.annotations.attribute.AttributeValue;
+import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.ItemType;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.load.StubReportPortalClient;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import io.reactivex.Maybe;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of {@link Step} annotated methods woven with {@link StepAspect}: the advice, step name templates, attributes parsing
+ * and nested step bookkeeping of the step reporter. The benchmark needs load-time weaving, <code>gradlew jmh</code> runs it with
+ * aspectjweaver Java agent, forked JVMs inherit it. Reporting modes:
+ * <ul>
+ *     <li><code>enabled</code> - steps are reported through a stub client, which includes asynchronous request processing;</li>
+ *     <li><code>disabled</code> - no reporting launch is ever created;</li>
+ *     <li><code>noop</code> - a reporting launch exists on another thread, the benchmark thread is bound to {@link Launch#NOOP_LAUNCH}.</li>
+ * </ul>
+ * Use <code>-PjmhArgs="StepAspectBenchmark -prof gc"</code> to get allocation per call (<code>gc.alloc.rate.norm</code>).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class StepAspectBenchmark {
+
+	/* nested steps are retained by their parent until it finishes, so the parent is replaced periodically */
+	private static final int STEPS_PER_PARENT = 1000;
+
+	public static class City {
+		private final String name = "Minsk";
+	}
+
+	public static class Address {
+		private final String street = "Kuprevicha";
+		private final City city = new City();
+	}
+
+	public static class Customer {
+		private final String name = "Customer name";
+		private final Address address = new Address();
+	}
+
+	public static class Order {
+		private final long id = 42;
+		private final Customer customer = new Customer();
+	}
+
+	public static class Steps {
+		@Step("Simple step")
+		public void simple() {
+		}
+
+		@Step("Order {order.id} of {order.customer.name} to {order.customer.address.city.name}, {order.customer.address.street}")
+		public void deepTemplate(Order order) {
+		}
+
+		@Step("Tags {tags}, items {items}, matrix {matrix}")
+		public void collectionTemplate(String[] tags, List<String> items, int[][] matrix) {
+		}
+
+		@Step(value = "Step with attributes", description = "Step description")
+		@Attributes(attributes = { @Attribute(key = "team", value = "core"), @Attribute(key = "priority", value = "high") },
+				attributeValues = @AttributeValue("smoke"))
+		public void attributes() {
+		}
+	}
+
+	@Param({ "enabled", "disabled", "noop" })
+	public String reporting;
+
+	private final Steps steps = new Steps();
+	private final Order order = new Order();
+	private final String[] tags = new String[] { "smoke", "regression", "api" };
+	private final List<String> items = Arrays.asList("first", "second", "third");
+	private final int[][] matrix = new int[][] { { 1, 2 }, { 3, 4 } };
+
+	private Launch launch;
+	private Maybe<String> parent;
+	private int stepCount;
+
+	private static StartLaunchRQ launchRq() {
+		StartLaunchRQ rq = new StartLaunchRQ();
+		rq.setName("Step aspect benchmark");
+		rq.setStartTime(new Date());
+		return rq;
+	}
+
+	private static StartTestItemRQ parentRq() {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName("Parent");
+		rq.setType(ItemType.STEP.name());
+		rq.setStartTime(new Date());
+		return rq;
+	}
+
+	private static FinishTestItemRQ finishRq() {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setStatus(ItemStatus.PASSED.name());
+		rq.setEndTime(new Date());
+		return rq;
+	}
+
+	@Setup
+	public void setup() throws InterruptedException {
+		if (Arrays.stream(Steps.class.getDeclaredFields()).noneMatch(f -> f.getName().startsWith("ajc$"))) {
+			throw new IllegalStateException("StepAspect is not woven into benchmark steps, run the benchmark with aspectjweaver Java agent");
+		}
+		ListenerParameters parameters = new ListenerParameters();
+		parameters.setEnable(!"disabled".equals(reporting));
+		parameters.setClientJoin(false);
+		parameters.setApiKey(UUID.randomUUID().toString());
+		parameters.setProjectName("step_aspect");
+		ReportPortal reportPortal = ReportPortal.create(new StubReportPortalClient(), parameters);
+		switch (reporting) {
+			case "enabled":
+				launch = reportPortal.newLaunch(launchRq());
+				launch.start();
+				parent = launch.startTestItem(parentRq());
+				break;
+			case "noop":
+				Thread thread = new Thread(() -> reportPortal.newLaunch(launchRq()));
+				thread.start();
+				thread.join();
+				Launch.NOOP_LAUNCH.getParameters();
+				break;
+			default:
+				reportPortal.newLaunch(launchRq());
+		}
+		if (Launch.isReportingActive() == "disabled".equals(reporting)) {
+			throw new IllegalStateException("Unexpected reporting state for '" + reporting + "' mode");
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (launch != null) {
+			launch.finishTestItem(parent, finishRq());
+			FinishExecutionRQ rq = new FinishExecutionRQ();
+			rq.setEndTime(new Date());
+			launch.finish(rq);
+		}
+	}
+
+	private void nextStep() {
+		if (launch != null && ++stepCount % STEPS_PER_PARENT == 0) {
+			launch.finishTestItem(parent, finishRq()).blockingGet();
+			parent = launch.startTestItem(parentRq());
+		}
+	}
+
+	@Benchmark
+	public void simpleName() {
+		steps.simple();
+		nextStep();
+	}
+
+	@Benchmark
+	public void deepFieldTemplate() {
+		steps.deepTemplate(order);
+		nextStep();
+	}
+
+	@Benchmark
+	public void collectionTemplate() {
+		steps.collectionTemplate(tags, items, matrix);
+		nextStep();
+	}
+
+	@Benchmark
+	public void withAttributes() {
+		steps.attributes();
+		nextStep();
+	}
+}
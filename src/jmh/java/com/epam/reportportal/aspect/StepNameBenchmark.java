@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.aspect;
+
+import com.epam.reportportal.annotations.Step;
+import com.epam.reportportal.utils.templating.TemplateConfiguration;
+import com.epam.reportportal.utils.templating.TemplateProcessing;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.aspectj.runtime.reflect.Factory;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of a {@link Step} name generation: a template parsed on every call versus a template compiled once per method.
+ * <p>
+ * Join points are created with AspectJ runtime {@link Factory} the same way as woven code does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StepNameBenchmark {
+
+	public static class Pojo {
+		private final String name = "pojo name";
+		private final int value = 42;
+	}
+
+	private final String id = "benchmark";
+
+	@Step("Simple step")
+	public void constantStep(String text, int number, Pojo pojo) {
+	}
+
+	@Step("Step {method} of {this.id}: {text}, number {1}, pojo {pojo.name} / {pojo.value}")
+	public void templateStep(String text, int number, Pojo pojo) {
+	}
+
+	@Param({ "constantStep", "templateStep" })
+	public String methodName;
+
+	private Step step;
+	private MethodSignature signature;
+	private JoinPoint joinPoint;
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+		Class<?>[] parameterTypes = new Class<?>[] { String.class, int.class, Pojo.class };
+		Method method = StepNameBenchmark.class.getMethod(methodName, parameterTypes);
+		step = method.getAnnotation(Step.class);
+		Factory factory = new Factory("StepNameBenchmark.java", StepNameBenchmark.class);
+		signature = (MethodSignature) factory.makeMethodSig(Modifier.PUBLIC,
+				methodName,
+				StepNameBenchmark.class,
+				parameterTypes,
+				new String[] { "text", "number", "pojo" },
+				new Class<?>[0],
+				void.class
+		);
+		JoinPoint.StaticPart staticPart = factory.makeSJP(JoinPoint.METHOD_EXECUTION, signature, 1);
+		joinPoint = Factory.makeJP(staticPart, this, this, new Object[] { "text value", 7, new Pojo() });
+	}
+
+	@Benchmark
+	public String compiledTemplate() {
+		return StepNameUtils.getStepName(step, signature, joinPoint);
+	}
+
+	@Benchmark
+	public String parsedTemplate() {
+		// the way step names were generated before templates compilation
+		TemplateConfiguration defaultConfig = new TemplateConfiguration();
+		TemplateConfiguration deprecatedConfig = new TemplateConfiguration(step.templateConfig());
+		TemplateConfiguration config = new TemplateConfiguration(step.config());
+		if (!deprecatedConfig.equals(defaultConfig) && config.equals(defaultConfig)) {
+			config = deprecatedConfig;
+		}
+		return TemplateProcessing.processTemplate(step.value(), StepNameUtils.createParamsMapping(config, signature, joinPoint), config);
+	}
+}
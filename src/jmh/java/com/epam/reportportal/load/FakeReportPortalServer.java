@@ -0,0 +1,220 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.load;
+
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.ErrorRS;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import javax.annotation.Nonnull;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process stand-in of Report Portal server, which serves {@link com.epam.reportportal.service.ReportPortalClient} endpoints on the
+ * loopback interface. Every request is delayed by the given latency, a share of requests fails with HTTP 500 and a share of item
+ * finish requests is rejected with {@link ErrorType#FINISH_ITEM_NOT_ALLOWED} the way the server does it for items with unfinished
+ * children. Requests are counted per endpoint.
+ */
+public class FakeReportPortalServer implements Closeable {
+
+	private static final String API_PREFIX = "/api/v1/";
+	private static final byte[] OK = "{\"message\":\"OK\"}".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] BATCH_SAVED = "{\"responses\":[]}".getBytes(StandardCharsets.UTF_8);
+
+	private final long latency;
+	private final double errorRate;
+	private final double finishNotAllowedRate;
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+	private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+	/**
+	 * Start the server on a random port.
+	 *
+	 * @param latency              response delay of every request in milliseconds
+	 * @param errorRate            share of requests which fail with HTTP 500, from 0 to 1
+	 * @param finishNotAllowedRate share of item finish requests which are rejected with {@link ErrorType#FINISH_ITEM_NOT_ALLOWED}
+	 * @throws IOException if the server can't be started
+	 */
+	public FakeReportPortalServer(long latency, double errorRate, double finishNotAllowedRate) throws IOException {
+		this.latency = latency;
+		this.errorRate = errorRate;
+		this.finishNotAllowedRate = finishNotAllowedRate;
+		executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("fake-rp-%s").setDaemon(true).build());
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.setExecutor(executor);
+		server.createContext("/", this::handle);
+		server.start();
+	}
+
+	/**
+	 * @return base URL to use as <code>rp.endpoint</code>
+	 */
+	@Nonnull
+	public String getBaseUrl() {
+		return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+	}
+
+	/**
+	 * @return number of requests per endpoint, including failed ones
+	 */
+	@Nonnull
+	public Map<String, Long> getRequests() {
+		return snapshot(requests);
+	}
+
+	/**
+	 * @return number of failed requests per endpoint
+	 */
+	@Nonnull
+	public Map<String, Long> getFailures() {
+		return snapshot(failures);
+	}
+
+	private static Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+		Map<String, Long> result = new TreeMap<>();
+		counters.forEach((k, v) -> result.put(k, v.sum()));
+		return result;
+	}
+
+	@Nonnull
+	private static String endpoint(@Nonnull String method, @Nonnull String path) {
+		// path: /api/v1/{projectName}/{resource}/...
+		String[] segments = path.substring(Math.min(path.length(), API_PREFIX.length())).split("/");
+		String resource = segments.length > 1 ? segments[1] : "";
+		switch (resource) {
+			case "launch":
+				if ("POST".equals(method)) {
+					return segments.length > 2 ? "mergeLaunches" : "startLaunch";
+				}
+				return "GET".equals(method) ? "getLaunchByUuid" : "finishLaunch";
+			case "item":
+				if ("POST".equals(method)) {
+					return "startTestItem";
+				}
+				return "GET".equals(method) ? "getItemByUuid" : "finishTestItem";
+			case "log":
+				return "log";
+			default:
+				return "unknown";
+		}
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String method = exchange.getRequestMethod();
+		String path = exchange.getRequestURI().getPath();
+		String endpoint = endpoint(method, path);
+		requests.computeIfAbsent(endpoint, k -> new LongAdder()).increment();
+		boolean multipart = String.valueOf(exchange.getRequestHeaders().getFirst("Content-Type")).startsWith("multipart/");
+		try (InputStream body = exchange.getRequestBody()) {
+			ByteStreams.exhaust(body);
+		}
+		if (latency > 0) {
+			try {
+				TimeUnit.MILLISECONDS.sleep(latency);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		if (random.nextDouble() < errorRate) {
+			failures.computeIfAbsent(endpoint, k -> new LongAdder()).increment();
+			respond(exchange, 500, error(ErrorType.UNCLASSIFIED_ERROR, "Injected server error"));
+			return;
+		}
+		if ("finishTestItem".equals(endpoint) && random.nextDouble() < finishNotAllowedRate) {
+			failures.computeIfAbsent(endpoint, k -> new LongAdder()).increment();
+			respond(exchange, 406, error(ErrorType.FINISH_ITEM_NOT_ALLOWED, "Finish test item is not allowed"));
+			return;
+		}
+		String id = UUID.randomUUID().toString();
+		switch (endpoint) {
+			case "startLaunch":
+				respond(exchange, 201, json("{\"id\":\"" + id + "\",\"number\":1}"));
+				break;
+			case "startTestItem":
+				respond(exchange, 201, json("{\"id\":\"" + id + "\",\"uniqueId\":\"" + id + "\"}"));
+				break;
+			case "log":
+				respond(exchange, 201, multipart ? BATCH_SAVED : json("{\"id\":\"" + id + "\"}"));
+				break;
+			case "getLaunchByUuid":
+			case "getItemByUuid":
+				String uuid = path.substring(path.lastIndexOf('/') + 1);
+				respond(exchange, 200, json("{\"id\":1,\"uuid\":\"" + uuid + "\"}"));
+				break;
+			case "mergeLaunches":
+				respond(exchange, 200, json("{\"id\":1,\"uuid\":\"" + id + "\"}"));
+				break;
+			case "unknown":
+				respond(exchange, 404, error(ErrorType.UNCLASSIFIED_ERROR, "Unknown endpoint: " + method + " " + path));
+				break;
+			default:
+				respond(exchange, 200, OK);
+		}
+	}
+
+	private static byte[] json(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] error(ErrorType type, String message) {
+		ErrorRS rs = new ErrorRS();
+		rs.setErrorType(type);
+		rs.setMessage(message);
+		try {
+			return HttpRequestUtils.MAPPER.writeValueAsBytes(rs);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void respond(HttpExchange exchange, int code, byte[] body) throws IOException {
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(code, body.length);
+		try (OutputStream output = exchange.getResponseBody()) {
+			output.write(body);
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.load;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.ItemType;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import io.reactivex.Maybe;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end reporting load test: N threads report M test items with K logs each through {@link ReportPortal} and {@link Launch} to
+ * {@link FakeReportPortalServer}. Prints test execution time, drain time after the last test (time spent in
+ * {@link Launch#finish(FinishExecutionRQ)}), peak heap, peak thread count and requests per endpoint.
+ * <p>
+ * Load is configured with system properties:
+ * <ul>
+ * <li><code>load.threads</code> - number of test threads, default 10</li>
+ * <li><code>load.items</code> - number of test items per thread, default 100</li>
+ * <li><code>load.logs</code> - number of logs per test item, default 10</li>
+ * <li><code>load.latency</code> - server response delay in milliseconds, default 20</li>
+ * <li><code>load.error.rate</code> - share of requests which fail with HTTP 500, default 0</li>
+ * <li><code>load.finish.not.allowed.rate</code> - share of rejected item finish requests, default 0</li>
+ * </ul>
+ * Client is configured with usual <code>rp.*</code> properties, e.g. <code>rp.reporting.async</code>, <code>rp.batch.size.logs</code>
+ * or <code>rp.io.pool.size</code>, server address and credentials are set by the harness. Run with <code>gradlew loadTest</code>.
+ */
+public class LoadHarness {
+
+	private static final String LOG_MESSAGE = "Expected condition failed: waiting for visibility of element located by By.xpath: "
+			+ "//div[@class='login-form']//button[@type='submit'] (tried for 10 second(s) with 500 milliseconds interval)";
+
+	private final ListenerParameters parameters;
+	private final int threads;
+	private final int items;
+	private final int logs;
+
+	public LoadHarness(ListenerParameters parameters, int threads, int items, int logs) {
+		this.parameters = parameters;
+		this.threads = threads;
+		this.items = items;
+		this.logs = logs;
+	}
+
+	private static StartTestItemRQ startItem(String name, ItemType type) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(name);
+		rq.setType(type.name());
+		rq.setStartTime(Calendar.getInstance().getTime());
+		return rq;
+	}
+
+	private static FinishTestItemRQ finishItem(ItemStatus status) {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setStatus(status == null ? null : status.name());
+		rq.setEndTime(Calendar.getInstance().getTime());
+		return rq;
+	}
+
+	private void runTests(Launch launch, int thread) {
+		Maybe<String> suite = launch.startTestItem(startItem("Suite " + thread, ItemType.SUITE));
+		for (int i = 0; i < items; i++) {
+			Maybe<String> test = launch.startTestItem(suite, startItem("Test " + i, ItemType.STEP));
+			for (int j = 0; j < logs; j++) {
+				ReportPortal.emitLog(LOG_MESSAGE, LogLevel.INFO.name(), Calendar.getInstance().getTime());
+			}
+			launch.finishTestItem(test, finishItem(ItemStatus.PASSED));
+		}
+		launch.finishTestItem(suite, finishItem(null));
+	}
+
+	/**
+	 * Report a launch and measure it.
+	 *
+	 * @return measurements
+	 * @throws InterruptedException if interrupted
+	 * @throws ExecutionException   if a test thread failed
+	 */
+	public Result run() throws InterruptedException, ExecutionException {
+		ExecutorService testThreads = Executors.newFixedThreadPool(threads);
+		try (ResourceMonitor monitor = new ResourceMonitor()) {
+			long start = System.nanoTime();
+			StartLaunchRQ launchRq = new StartLaunchRQ();
+			launchRq.setName(parameters.getLaunchName());
+			launchRq.setStartTime(Calendar.getInstance().getTime());
+			Launch launch = ReportPortal.builder().withParameters(parameters).build().newLaunch(launchRq);
+			launch.start();
+
+			List<Future<?>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				final int thread = i;
+				results.add(testThreads.submit(() -> runTests(launch, thread)));
+			}
+			for (Future<?> result : results) {
+				result.get();
+			}
+			long testsEnd = System.nanoTime();
+
+			FinishExecutionRQ finishRq = new FinishExecutionRQ();
+			finishRq.setEndTime(Calendar.getInstance().getTime());
+			launch.finish(finishRq);
+			long finishEnd = System.nanoTime();
+
+			return new Result(TimeUnit.NANOSECONDS.toMillis(testsEnd - start),
+					TimeUnit.NANOSECONDS.toMillis(finishEnd - testsEnd),
+					monitor.getPeakHeap(),
+					monitor.getPeakThreads()
+			);
+		} finally {
+			testThreads.shutdownNow();
+		}
+	}
+
+	public static class Result {
+		private final long testTime;
+		private final long drainTime;
+		private final long peakHeap;
+		private final int peakThreads;
+
+		public Result(long testTime, long drainTime, long peakHeap, int peakThreads) {
+			this.testTime = testTime;
+			this.drainTime = drainTime;
+			this.peakHeap = peakHeap;
+			this.peakThreads = peakThreads;
+		}
+
+		/**
+		 * @return time from the launch start to the last test finish (or the last replayed call) in milliseconds
+		 */
+		public long getTestTime() {
+			return testTime;
+		}
+
+		/**
+		 * @return time from the last test finish to the launch finish in milliseconds
+		 */
+		public long getDrainTime() {
+			return drainTime;
+		}
+
+		/**
+		 * @return maximum sampled heap usage in bytes
+		 */
+		public long getPeakHeap() {
+			return peakHeap;
+		}
+
+		/**
+		 * @return maximum number of live threads in the JVM
+		 */
+		public int getPeakThreads() {
+			return peakThreads;
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		int threads = Integer.getInteger("load.threads", 10);
+		int items = Integer.getInteger("load.items", 100);
+		int logs = Integer.getInteger("load.logs", 10);
+		long latency = Long.getLong("load.latency", 20);
+		double errorRate = Double.parseDouble(System.getProperty("load.error.rate", "0"));
+		double finishNotAllowedRate = Double.parseDouble(System.getProperty("load.finish.not.allowed.rate", "0"));
+
+		try (FakeReportPortalServer server = new FakeReportPortalServer(latency, errorRate, finishNotAllowedRate)) {
+			ListenerParameters parameters = new ListenerParameters(PropertiesLoader.load());
+			parameters.setEnable(true);
+			parameters.setBaseUrl(server.getBaseUrl());
+			parameters.setApiKey(UUID.randomUUID().toString());
+			parameters.setProjectName("load_test");
+			parameters.setLaunchName("Load test");
+
+			System.out.printf("Load: %d threads x %d items x %d logs, server latency %d ms, error rate %s, finish not allowed rate %s%n",
+					threads,
+					items,
+					logs,
+					latency,
+					errorRate,
+					finishNotAllowedRate
+			);
+			System.out.printf("Client: async reporting %s, log batch size %d, I/O pool size %d, virtual threads %s%n",
+					parameters.isAsyncReporting(),
+					parameters.getBatchLogsSize(),
+					parameters.getIoPoolSize(),
+					parameters.isIoVirtualThreads()
+			);
+
+			Result result = new LoadHarness(parameters, threads, items, logs).run();
+			print(result, server.getRequests(), server.getFailures());
+		}
+	}
+
+	/**
+	 * Print measurements to the standard output.
+	 *
+	 * @param result   measurements
+	 * @param requests number of requests per endpoint
+	 * @param failures number of failed requests per endpoint
+	 */
+	static void print(Result result, Map<String, Long> requests, Map<String, Long> failures) {
+		System.out.printf("Test execution: %d ms%n", result.getTestTime());
+		System.out.printf("Drain after the last test: %d ms%n", result.getDrainTime());
+		System.out.printf("Peak heap: %d MB%n", result.getPeakHeap() / (1024 * 1024));
+		System.out.printf("Peak threads: %d%n", result.getPeakThreads());
+		System.out.println("Requests per endpoint:");
+		requests.forEach((endpoint, count) -> System.out.printf("  %-16s %8d (failed %d)%n",
+				endpoint,
+				count,
+				failures.getOrDefault(endpoint, 0L)
+		));
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.load;
+
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Samples heap usage and tracks peak JVM thread count from its creation until it's closed.
+ */
+public class ResourceMonitor implements Closeable {
+
+	private static final long SAMPLE_PERIOD_MS = 50;
+	private static final int GC_ATTEMPTS = 5;
+
+	private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+	private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+	private final AtomicLong peakHeap = new AtomicLong();
+	private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread t = new Thread(r, "load-sampler");
+		t.setDaemon(true);
+		return t;
+	});
+
+	public ResourceMonitor() {
+		threads.resetPeakThreadCount();
+		sampler.scheduleAtFixedRate(() -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+				0,
+				SAMPLE_PERIOD_MS,
+				TimeUnit.MILLISECONDS
+		);
+	}
+
+	/**
+	 * @return maximum sampled heap usage in bytes
+	 */
+	public long getPeakHeap() {
+		return Math.max(peakHeap.get(), memory.getHeapMemoryUsage().getUsed());
+	}
+
+	/**
+	 * @return maximum number of live threads in the JVM
+	 */
+	public int getPeakThreads() {
+		return threads.getPeakThreadCount();
+	}
+
+	/**
+	 * Run garbage collection several times and return the lowest observed heap usage, which approximates the size of live objects.
+	 *
+	 * @return used heap in bytes
+	 * @throws InterruptedException if interrupted
+	 */
+	public static long usedHeapAfterGc() throws InterruptedException {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		long used = Long.MAX_VALUE;
+		for (int i = 0; i < GC_ATTEMPTS; i++) {
+			System.gc();
+			Thread.sleep(SAMPLE_PERIOD_MS);
+			used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+		}
+		return used;
+	}
+
+	@Override
+	public void close() {
+		sampler.shutdownNow();
+	}
+}
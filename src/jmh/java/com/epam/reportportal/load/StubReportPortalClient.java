@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.load;
+
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.*;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.LaunchResource;
+import com.epam.ta.reportportal.ws.model.launch.MergeLaunchesRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory {@link ReportPortalClient} without a transport, which answers every call immediately and counts calls per endpoint. Used to
+ * profile the client itself with no network and server in the picture.
+ */
+public class StubReportPortalClient implements ReportPortalClient {
+
+	private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+
+	private void count(String endpoint) {
+		requests.computeIfAbsent(endpoint, k -> new LongAdder()).increment();
+	}
+
+	/**
+	 * @return number of calls per endpoint
+	 */
+	@Nonnull
+	public Map<String, Long> getRequests() {
+		Map<String, Long> result = new TreeMap<>();
+		requests.forEach((k, v) -> result.put(k, v.sum()));
+		return result;
+	}
+
+	@Override
+	public Maybe<StartLaunchRS> startLaunch(StartLaunchRQ rq) {
+		count("startLaunch");
+		return Maybe.just(new StartLaunchRS(UUID.randomUUID().toString(), 1L));
+	}
+
+	@Override
+	public Maybe<LaunchResource> mergeLaunches(MergeLaunchesRQ rq) {
+		count("mergeLaunches");
+		return Maybe.just(new LaunchResource());
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishLaunch(String launch, FinishExecutionRQ rq) {
+		count("finishLaunch");
+		return Maybe.just(new OperationCompletionRS());
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(StartTestItemRQ rq) {
+		count("startTestItem");
+		String id = UUID.randomUUID().toString();
+		return Maybe.just(new ItemCreatedRS(id, id));
+	}
+
+	@Override
+	public Maybe<ItemCreatedRS> startTestItem(String parent, StartTestItemRQ rq) {
+		count("startTestItem");
+		String id = UUID.randomUUID().toString();
+		return Maybe.just(new ItemCreatedRS(id, id));
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishTestItem(String itemId, FinishTestItemRQ rq) {
+		count("finishTestItem");
+		return Maybe.just(new OperationCompletionRS());
+	}
+
+	@Override
+	public Maybe<EntryCreatedAsyncRS> log(SaveLogRQ rq) {
+		count("log");
+		return Maybe.just(new EntryCreatedAsyncRS());
+	}
+
+	@Override
+	public Maybe<BatchSaveOperatingRS> log(List<MultipartBody.Part> parts) {
+		count("log");
+		return Maybe.just(new BatchSaveOperatingRS());
+	}
+
+	@Override
+	public Maybe<LaunchResource> getLaunchByUuid(String launchUuid) {
+		count("getLaunchByUuid");
+		LaunchResource rs = new LaunchResource();
+		rs.setUuid(launchUuid);
+		return Maybe.just(rs);
+	}
+
+	@Override
+	public Maybe<TestItemResource> getItemByUuid(String itemUuid) {
+		count("getItemByUuid");
+		return Maybe.just(new TestItemResource());
+	}
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.load;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.recording.WorkloadRecord;
+import com.epam.reportportal.service.recording.WorkloadRecorder;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.reportportal.utils.http.LogRequestBenchmark;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.reactivex.Maybe;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Replays a workload recorded by {@link WorkloadRecorder} (<code>rp.reporting.recording.file</code> property) through {@link Launch}
+ * API: calls of every recorded lane are made from a separate thread in the recorded order and at the recorded pace, with requests,
+ * messages and attachments of the recorded sizes. Reports the same measurements as {@link LoadHarness}.
+ * <p>
+ * Usage: <code>gradlew replayWorkload -Pworkload=&lt;file&gt;</code>, system properties:
+ * <ul>
+ * <li><code>load.replay.speed</code> - pace multiplier, 1 is the original pace, 0 replays calls as fast as possible, default 1</li>
+ * <li><code>load.replay.transport</code> - <code>stub</code> to answer calls in memory with {@link StubReportPortalClient} or
+ * <code>http</code> to send them to {@link FakeReportPortalServer}, default <code>stub</code></li>
+ * <li><code>load.latency</code> - server response delay in milliseconds for <code>http</code> transport, default 0</li>
+ * </ul>
+ * Client is configured with usual <code>rp.*</code> properties.
+ */
+public class WorkloadReplay {
+
+	private static final long ITEM_WAIT_TIMEOUT_SECONDS = 60;
+
+	private static final class Call {
+		private final WorkloadRecord record;
+		private final Object request;
+
+		private Call(WorkloadRecord record, Object request) {
+			this.record = record;
+			this.request = request;
+		}
+	}
+
+	private static final class LogContent {
+		private final String message;
+		private final byte[] file;
+
+		private LogContent(String message, byte[] file) {
+			this.message = message;
+			this.file = file;
+		}
+	}
+
+	private final List<WorkloadRecord> records;
+	private final double speed;
+	private final Map<Integer, String> messages = new HashMap<>();
+	private final Map<Long, byte[]> files = new HashMap<>();
+	private final Map<Integer, CompletableFuture<Maybe<String>>> items = new ConcurrentHashMap<>();
+	private byte[] image;
+
+	/**
+	 * @param records recorded calls
+	 * @param speed   pace multiplier, 0 or less to replay calls as fast as possible
+	 */
+	public WorkloadReplay(List<WorkloadRecord> records, double speed) {
+		this.records = records;
+		this.speed = speed;
+	}
+
+	private static <T> T pad(T rq, long size, BiConsumer<T, String> setter) {
+		try {
+			long base = HttpRequestUtils.MAPPER.writeValueAsBytes(rq).length;
+			if (size > base) {
+				setter.accept(rq, StringUtils.repeat('x', (int) Math.min(Integer.MAX_VALUE, size - base)));
+			}
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+		return rq;
+	}
+
+	private byte[] file(long size, String contentType) throws IOException {
+		if (contentType != null && contentType.startsWith("image/")) {
+			// a valid image, so image conversion works the same way, padded to the recorded size
+			if (image == null) {
+				image = LogRequestBenchmark.createImage();
+			}
+			return Arrays.copyOf(image, (int) Math.max(image.length, size));
+		}
+		return files.computeIfAbsent(size, s -> new byte[(int) (long) s]);
+	}
+
+	private Call prepare(WorkloadRecord record) throws IOException {
+		switch (record.getType()) {
+			case ITEM_START:
+				StartTestItemRQ startRq = new StartTestItemRQ();
+				startRq.setName("Item " + record.getItem());
+				startRq.setType(record.getKind());
+				startRq.setStartTime(new Date());
+				return new Call(record, pad(startRq, record.getSize(), StartTestItemRQ::setDescription));
+			case ITEM_FINISH:
+				FinishTestItemRQ finishRq = new FinishTestItemRQ();
+				finishRq.setStatus(record.getKind());
+				finishRq.setEndTime(new Date());
+				return new Call(record, pad(finishRq, record.getSize(), FinishTestItemRQ::setDescription));
+			case LOG:
+				String message = messages.computeIfAbsent((int) record.getSize(), s -> StringUtils.repeat('x', s));
+				byte[] file = record.getFileSize() > 0 ? file(record.getFileSize(), record.getContentType()) : null;
+				return new Call(record, new LogContent(message, file));
+			default:
+				return new Call(record, null);
+		}
+	}
+
+	private Maybe<String> item(int ordinal) throws InterruptedException, ExecutionException {
+		try {
+			return items.computeIfAbsent(ordinal, k -> new CompletableFuture<>()).get(ITEM_WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (TimeoutException e) {
+			throw new IllegalStateException("Item " + ordinal + " was not started in the replay", e);
+		}
+	}
+
+	private void pace(long startNanos, long time) throws InterruptedException {
+		if (speed <= 0) {
+			return;
+		}
+		long delay = startNanos + (long) (TimeUnit.MILLISECONDS.toNanos(time) / speed) - System.nanoTime();
+		if (delay > 0) {
+			TimeUnit.NANOSECONDS.sleep(delay);
+		}
+	}
+
+	private static Function<String, SaveLogRQ> log(WorkloadRecord record, LogContent content) {
+		return itemUuid -> {
+			SaveLogRQ rq = new SaveLogRQ();
+			rq.setItemUuid(itemUuid);
+			rq.setLevel(record.getKind());
+			rq.setLogTime(new Date());
+			rq.setMessage(content.message);
+			if (content.file != null) {
+				SaveLogRQ.File file = new SaveLogRQ.File();
+				file.setName(UUID.randomUUID().toString());
+				file.setContent(content.file);
+				file.setContentType(record.getContentType());
+				rq.setFile(file);
+			}
+			return rq;
+		};
+	}
+
+	private void replay(Launch launch, List<Call> calls, long startNanos) throws InterruptedException, ExecutionException {
+		for (Call call : calls) {
+			WorkloadRecord record = call.record;
+			pace(startNanos, record.getTime());
+			switch (record.getType()) {
+				case ITEM_START:
+					StartTestItemRQ startRq = (StartTestItemRQ) call.request;
+					startRq.setStartTime(new Date());
+					Maybe<String> item = record.getParent() < 0 ?
+							launch.startTestItem(startRq) :
+							launch.startTestItem(item(record.getParent()), startRq);
+					items.computeIfAbsent(record.getItem(), k -> new CompletableFuture<>()).complete(item);
+					break;
+				case ITEM_FINISH:
+					if (record.getItem() >= 0) {
+						FinishTestItemRQ finishRq = (FinishTestItemRQ) call.request;
+						finishRq.setEndTime(new Date());
+						launch.finishTestItem(item(record.getItem()), finishRq);
+					}
+					break;
+				case LOG:
+					Function<String, SaveLogRQ> log = log(record, (LogContent) call.request);
+					if (record.getItem() < 0) {
+						ReportPortal.emitLaunchLog(log);
+					} else {
+						ReportPortal.emitLog(item(record.getItem()), log);
+					}
+					break;
+				default:
+			}
+		}
+	}
+
+	/**
+	 * Replay the workload and measure it.
+	 *
+	 * @param reportPortal client to replay the workload with
+	 * @return measurements
+	 * @throws IOException          if attachments can't be prepared
+	 * @throws InterruptedException if interrupted
+	 * @throws ExecutionException   if a lane failed
+	 */
+	public LoadHarness.Result run(ReportPortal reportPortal) throws IOException, InterruptedException, ExecutionException {
+		int launchLane = 0;
+		Map<Integer, Integer> itemLanes = new HashMap<>();
+		for (WorkloadRecord record : records) {
+			if (record.getType() == WorkloadRecord.Type.LAUNCH_START) {
+				launchLane = record.getLane();
+			} else if (record.getType() == WorkloadRecord.Type.ITEM_START) {
+				itemLanes.put(record.getItem(), record.getLane());
+			}
+		}
+		Map<Integer, List<Call>> lanes = new TreeMap<>();
+		for (WorkloadRecord record : records) {
+			int lane;
+			switch (record.getType()) {
+				case LAUNCH_START:
+				case LAUNCH_FINISH:
+					continue;
+				case LOG:
+					lane = itemLanes.getOrDefault(record.getItem(), launchLane);
+					break;
+				default:
+					lane = record.getLane();
+			}
+			lanes.computeIfAbsent(lane, k -> new ArrayList<>()).add(prepare(record));
+		}
+		// logs are written when their batch is sent, so put them in place by their log time
+		lanes.values().forEach(calls -> calls.sort(Comparator.comparingLong(c -> c.record.getTime())));
+
+		ExecutorService laneThreads = Executors.newFixedThreadPool(Math.max(1, lanes.size()));
+		try (ResourceMonitor monitor = new ResourceMonitor()) {
+			long start = System.nanoTime();
+			StartLaunchRQ launchRq = new StartLaunchRQ();
+			launchRq.setName(reportPortal.getParameters().getLaunchName());
+			launchRq.setStartTime(new Date());
+			Launch launch = reportPortal.newLaunch(launchRq);
+			launch.start();
+
+			List<Future<?>> results = new ArrayList<>();
+			for (List<Call> calls : lanes.values()) {
+				results.add(laneThreads.submit(() -> {
+					replay(launch, calls, start);
+					return null;
+				}));
+			}
+			for (Future<?> result : results) {
+				result.get();
+			}
+			long replayEnd = System.nanoTime();
+
+			FinishExecutionRQ finishRq = new FinishExecutionRQ();
+			finishRq.setEndTime(new Date());
+			launch.finish(finishRq);
+			long finishEnd = System.nanoTime();
+
+			return new LoadHarness.Result(TimeUnit.NANOSECONDS.toMillis(replayEnd - start),
+					TimeUnit.NANOSECONDS.toMillis(finishEnd - replayEnd),
+					monitor.getPeakHeap(),
+					monitor.getPeakThreads()
+			);
+		} finally {
+			laneThreads.shutdownNow();
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1) {
+			throw new IllegalArgumentException("A workload file is required");
+		}
+		double speed = Double.parseDouble(System.getProperty("load.replay.speed", "1"));
+		String transport = System.getProperty("load.replay.transport", "stub");
+		long latency = Long.getLong("load.latency", 0);
+		List<WorkloadRecord> records = WorkloadRecord.read(Paths.get(args[0]));
+
+		ListenerParameters parameters = new ListenerParameters(PropertiesLoader.load());
+		parameters.setEnable(true);
+		parameters.setRecordingFile(null);
+		parameters.setApiKey(UUID.randomUUID().toString());
+		parameters.setProjectName("load_test");
+		parameters.setLaunchName("Workload replay");
+
+		System.out.printf("Replay: %d calls from %s, speed %s, transport %s%n", records.size(), args[0], speed, transport);
+		WorkloadReplay replay = new WorkloadReplay(records, speed);
+		if ("http".equals(transport)) {
+			try (FakeReportPortalServer server = new FakeReportPortalServer(latency, 0, 0)) {
+				parameters.setBaseUrl(server.getBaseUrl());
+				LoadHarness.Result result = replay.run(ReportPortal.builder().withParameters(parameters).build());
+				LoadHarness.print(result, server.getRequests(), server.getFailures());
+			}
+		} else {
+			StubReportPortalClient client = new StubReportPortalClient();
+			LoadHarness.Result result = replay.run(ReportPortal.create(client, parameters));
+			LoadHarness.print(result, client.getRequests(), Collections.emptyMap());
+		}
+	}
+}
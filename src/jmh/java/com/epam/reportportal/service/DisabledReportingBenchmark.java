@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.annotations.Step;
+import com.epam.reportportal.aspect.StepAspect;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.listeners.LogLevel;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.aspectj.runtime.reflect.Factory;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Modifier;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of public reporting entry points when reporting is disabled and the only {@link Launch} is {@link Launch#NOOP_LAUNCH}.
+ * Every benchmark should stay close to the {@link #baseline()} one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DisabledReportingBenchmark {
+
+	private final StepAspect aspect = new StepAspect();
+	private final Date logTime = new Date();
+
+	private Step step;
+	private JoinPoint joinPoint;
+
+	@Step("Step {method}: {text}")
+	public void templateStep(String text) {
+	}
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+		if (Launch.isReportingActive()) {
+			throw new IllegalStateException("Reporting should be disabled in the benchmark");
+		}
+		step = DisabledReportingBenchmark.class.getMethod("templateStep", String.class).getAnnotation(Step.class);
+		Factory factory = new Factory("DisabledReportingBenchmark.java", DisabledReportingBenchmark.class);
+		MethodSignature signature = (MethodSignature) factory.makeMethodSig(Modifier.PUBLIC,
+				"templateStep",
+				DisabledReportingBenchmark.class,
+				new Class<?>[] { String.class },
+				new String[] { "text" },
+				new Class<?>[0],
+				void.class
+		);
+		JoinPoint.StaticPart staticPart = factory.makeSJP(JoinPoint.METHOD_EXECUTION, signature, 1);
+		joinPoint = Factory.makeJP(staticPart, this, this, new Object[] { "text value" });
+	}
+
+	@Benchmark
+	public void baseline() {
+	}
+
+	@Benchmark
+	public ListenerParameters launchParameters() {
+		return Launch.NOOP_LAUNCH.getParameters();
+	}
+
+	@Benchmark
+	public void stepAspect() {
+		aspect.startNestedStep(joinPoint, step);
+		aspect.finishNestedStep(step);
+	}
+
+	@Benchmark
+	public boolean emitLog() {
+		return ReportPortal.emitLog("Log message", LogLevel.INFO.name(), logTime);
+	}
+
+	@Benchmark
+	public boolean emitLaunchLog() {
+		return ReportPortal.emitLaunchLog("Log message", LogLevel.INFO.name(), logTime);
+	}
+
+	@Benchmark
+	public void sendStep() {
+		Launch.NOOP_LAUNCH.getStepReporter().sendStep("Step name", "Log message");
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.utils.http.LogRequestBenchmark;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.reactivex.FlowableSubscriber;
+import io.reactivex.Maybe;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import org.openjdk.jmh.annotations.*;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the whole log path: {@link LoggingContext#emit(java.util.function.Function)}, batching, multipart request building and
+ * sending. Logs are sent either to a no-op client, which measures the client side only, or to an in-process HTTP server through the
+ * real HTTP client. One operation is one log entry, so <code>-PjmhArgs="LoggingPipelineBenchmark -prof gc"</code> reports bytes
+ * allocated per log (<code>gc.alloc.rate.norm</code>).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingPipelineBenchmark {
+
+	private static final int LOGS_PER_INVOCATION = 100;
+	private static final byte[] RESPONSE = "{}".getBytes(StandardCharsets.UTF_8);
+
+	@Param({ "noop", "http" })
+	public String client;
+
+	@Param({ "text", "attachment" })
+	public String log;
+
+	private final Maybe<String> launchUuid = Maybe.just(UUID.randomUUID().toString());
+	private final Maybe<String> itemUuid = Maybe.just(UUID.randomUUID().toString());
+
+	private ListenerParameters parameters;
+	private ReportPortalClient rpClient;
+	private Scheduler scheduler;
+	private byte[] attachment;
+	private HttpServer server;
+	private ExecutorService serverExecutor;
+
+	private static final class CompletionSubscriber implements FlowableSubscriber<BatchSaveOperatingRS> {
+		private final CountDownLatch completion = new CountDownLatch(1);
+		private volatile Throwable error;
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			s.request(Long.MAX_VALUE);
+		}
+
+		@Override
+		public void onNext(BatchSaveOperatingRS rs) {
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			error = t;
+			completion.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			completion.countDown();
+		}
+
+		private void await() throws InterruptedException {
+			if (!completion.await(1, TimeUnit.MINUTES)) {
+				throw new IllegalStateException("Logs were not sent in time");
+			}
+			if (error != null) {
+				throw new IllegalStateException("Unable to send logs", error);
+			}
+		}
+	}
+
+	private static void respond(HttpExchange exchange) throws IOException {
+		try (InputStream body = exchange.getRequestBody()) {
+			ByteStreams.exhaust(body);
+		}
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(201, RESPONSE.length);
+		try (OutputStream body = exchange.getResponseBody()) {
+			body.write(RESPONSE);
+		}
+	}
+
+	@Setup
+	public void setup() throws IOException {
+		parameters = new ListenerParameters();
+		parameters.setApiKey(UUID.randomUUID().toString());
+		parameters.setProjectName("benchmark");
+		attachment = "attachment".equals(log) ? LogRequestBenchmark.createImage() : null;
+		if ("http".equals(client)) {
+			server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+			serverExecutor = Executors.newFixedThreadPool(4);
+			server.setExecutor(serverExecutor);
+			server.createContext("/", LoggingPipelineBenchmark::respond);
+			server.start();
+			parameters.setBaseUrl("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+			rpClient = ReportPortal.builder().buildClient(ReportPortalClient.class, parameters);
+		} else {
+			rpClient = (ReportPortalClient) Proxy.newProxyInstance(ReportPortalClient.class.getClassLoader(),
+					new Class<?>[] { ReportPortalClient.class },
+					(proxy, method, args) -> Maybe.just(new BatchSaveOperatingRS())
+			);
+		}
+		scheduler = Schedulers.from(ClientRuntime.getIoExecutor(parameters));
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (server != null) {
+			server.stop(0);
+			serverExecutor.shutdownNow();
+		}
+	}
+
+	private SaveLogRQ createLog(String itemUuid) {
+		SaveLogRQ rq = LogRequestBenchmark.createLog(attachment);
+		rq.setItemUuid(itemUuid);
+		return rq;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LOGS_PER_INVOCATION)
+	public void emitAndSend() throws InterruptedException {
+		CompletionSubscriber subscriber = new CompletionSubscriber();
+		LoggingContext context = LoggingContext.init(launchUuid, itemUuid, rpClient, scheduler, parameters, subscriber);
+		for (int i = 0; i < LOGS_PER_INVOCATION; i++) {
+			context.emit(this::createLog);
+		}
+		//noinspection ResultOfMethodCallIgnored
+		LoggingContext.complete();
+		subscriber.await();
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.ItemType;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.load.ResourceMonitor;
+import com.epam.reportportal.load.StubReportPortalClient;
+import com.epam.reportportal.service.tree.TestItemTree;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap retained by the client after reporting a number of finished items into a launch which is still running: {@link LaunchImpl}
+ * queue entries, logging contexts, nested step deques of the step reporter and, in <code>tree</code> variant, {@link TestItemTree}
+ * leaves kept by an agent. The benchmark time is meaningless, the results are reported as secondary metrics per item:
+ * <code>retainedBytes</code> measured with forced garbage collections and <code>retainedEntries</code> counted with
+ * {@link Launch#getFootprint()} and {@link TestItemTree#getFootprint()}. Their ratio is the heap cost of a footprint entry for the
+ * JVM and the variant, which converts footprint counts into bytes.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseSerialGC")
+@State(Scope.Benchmark)
+public class MemoryFootprintBenchmark {
+
+	private static final int LOGS_PER_ITEM = 10;
+	private static final int NESTED_STEPS_PER_ITEM = 5;
+	private static final int ATTACHMENT_SIZE = 16 * 1024;
+	private static final long LOG_DRAIN_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+
+	@Param({ "1000", "10000" })
+	public int items;
+
+	@Param({ "items", "logs", "nested", "attachments", "tree" })
+	public String variant;
+
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class Footprint {
+		public long retainedBytes;
+		public double retainedEntries;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			retainedBytes = 0;
+			retainedEntries = 0;
+		}
+	}
+
+	private ReportPortal reportPortal;
+	private byte[] attachment;
+
+	@Setup
+	public void setup() {
+		ListenerParameters parameters = new ListenerParameters();
+		parameters.setEnable(true);
+		parameters.setClientJoin(false);
+		parameters.setApiKey(UUID.randomUUID().toString());
+		parameters.setProjectName("memory_footprint");
+		parameters.setLaunchName("Memory footprint");
+		reportPortal = ReportPortal.create(new StubReportPortalClient(), parameters);
+		attachment = new byte[ATTACHMENT_SIZE];
+		new Random(42).nextBytes(attachment);
+	}
+
+	private static StartTestItemRQ startRq(String name, ItemType type) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(name);
+		rq.setType(type.name());
+		rq.setStartTime(new Date());
+		return rq;
+	}
+
+	private static FinishTestItemRQ finishRq() {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setStatus(ItemStatus.PASSED.name());
+		rq.setEndTime(new Date());
+		return rq;
+	}
+
+	private SaveLogRQ log(String itemUuid, int number) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setItemUuid(itemUuid);
+		rq.setLevel(LogLevel.INFO.name());
+		rq.setLogTime(new Date());
+		rq.setMessage("Log message number " + number);
+		if ("attachments".equals(variant)) {
+			SaveLogRQ.File file = new SaveLogRQ.File();
+			file.setName("attachment.bin");
+			file.setContentType("application/octet-stream");
+			// a copy per log, a shared array would hide retained attachments
+			file.setContent(Arrays.copyOf(attachment, attachment.length));
+			rq.setFile(file);
+		}
+		return rq;
+	}
+
+	private void reportItem(Launch launch, Maybe<String> suite, TestItemTree tree, int number,
+			List<Maybe<OperationCompletionRS>> finishes) {
+		String name = "Step " + number;
+		Maybe<String> item = launch.startTestItem(suite, startRq(name, ItemType.STEP));
+		switch (variant) {
+			case "logs":
+			case "attachments":
+				for (int i = 0; i < LOGS_PER_ITEM; i++) {
+					final int log = i;
+					ReportPortal.emitLog(item, id -> log(id, log));
+				}
+				break;
+			case "nested":
+				for (int i = 0; i < NESTED_STEPS_PER_ITEM; i++) {
+					launch.getStepReporter().sendStep(ItemStatus.PASSED, "Nested step " + i);
+				}
+				break;
+			default:
+		}
+		Maybe<OperationCompletionRS> finish = launch.finishTestItem(item, finishRq());
+		if ("tree".equals(variant)) {
+			TestItemTree.TestItemLeaf leaf = TestItemTree.createTestItemLeaf(suite, item);
+			leaf.setFinishResponse(finish);
+			tree.getTestItems().put(TestItemTree.ItemTreeKey.of(name), leaf);
+		}
+		finishes.add(finish);
+	}
+
+	@Benchmark
+	public void retainedHeap(Footprint footprint) throws InterruptedException {
+		TestItemTree tree = new TestItemTree();
+		long before = ResourceMonitor.usedHeapAfterGc();
+
+		StartLaunchRQ launchRq = new StartLaunchRQ();
+		launchRq.setName(reportPortal.getParameters().getLaunchName());
+		launchRq.setStartTime(new Date());
+		LaunchImpl launch = (LaunchImpl) reportPortal.newLaunch(launchRq);
+		launch.start();
+		Maybe<String> suite = launch.startTestItem(startRq("Suite", ItemType.SUITE));
+		List<Maybe<OperationCompletionRS>> finishes = new ArrayList<>(items);
+		for (int i = 0; i < items; i++) {
+			reportItem(launch, suite, tree, i, finishes);
+		}
+		finishes.forEach(Maybe::blockingGet);
+		finishes.clear();
+		long deadline = System.currentTimeMillis() + LOG_DRAIN_TIMEOUT_MS;
+		while (launch.getFootprint().getLogBytes() > 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+
+		long after = ResourceMonitor.usedHeapAfterGc();
+		footprint.retainedBytes = (after - before) / items;
+		Launch.Footprint launchFootprint = launch.getFootprint();
+		TestItemTree.Footprint treeFootprint = tree.getFootprint();
+		footprint.retainedEntries = (launchFootprint.getItemCount() + launchFootprint.getCompletionCount()
+				+ launchFootprint.getLoggingContextCount() + launchFootprint.getStepCount() + treeFootprint.getLeafCount()
+				+ treeFootprint.getMapCount()) / (double) items;
+
+		launch.finishTestItem(suite, finishRq());
+		FinishExecutionRQ finishRq = new FinishExecutionRQ();
+		finishRq.setEndTime(new Date());
+		launch.finish(finishRq);
+		tree.getTestItems().clear();
+	}
+}
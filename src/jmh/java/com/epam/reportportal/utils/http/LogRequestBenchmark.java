@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.http;
+
+import com.epam.reportportal.message.TypeAwareByteSource;
+import com.epam.reportportal.utils.MimeTypeDetector;
+import com.epam.reportportal.utils.files.ImageConverter;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.google.common.io.ByteSource;
+import okhttp3.MultipartBody;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of log request preparation stages: multipart batch building, payload size estimation, attachment type
+ * detection and image conversion. Run with <code>-PjmhArgs="LogRequestBenchmark -prof gc"</code> to get bytes allocated per operation
+ * (<code>gc.alloc.rate.norm</code>).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LogRequestBenchmark {
+
+	private static final int BATCH_SIZE = 10;
+	private static final String MESSAGE = "Expected condition failed: waiting for visibility of element located by By.xpath: "
+			+ "//div[@class='login-form']//button[@type='submit'] (tried for 10 second(s) with 500 milliseconds interval)";
+
+	private byte[] image;
+	private SaveLogRQ textLog;
+	private SaveLogRQ attachmentLog;
+	private List<SaveLogRQ> textBatch;
+	private List<SaveLogRQ> attachmentBatch;
+
+	/**
+	 * Create a log entry the same way as agents do.
+	 *
+	 * @param attachment file content or null for text logs
+	 * @return log request
+	 */
+	public static SaveLogRQ createLog(byte[] attachment) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setLaunchUuid(UUID.randomUUID().toString());
+		rq.setItemUuid(UUID.randomUUID().toString());
+		rq.setLevel("ERROR");
+		rq.setLogTime(Calendar.getInstance().getTime());
+		rq.setMessage(MESSAGE);
+		if (attachment != null) {
+			SaveLogRQ.File file = new SaveLogRQ.File();
+			file.setName(UUID.randomUUID().toString());
+			file.setContent(attachment);
+			rq.setFile(file);
+		}
+		return rq;
+	}
+
+	/**
+	 * @return a PNG screenshot-like image
+	 * @throws IOException if the image can't be written
+	 */
+	public static byte[] createImage() throws IOException {
+		BufferedImage image = new BufferedImage(320, 240, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.ORANGE);
+		graphics.fillRect(0, 0, 160, 120);
+		graphics.setColor(Color.BLUE);
+		graphics.drawString(MESSAGE, 10, 200);
+		graphics.dispose();
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", result);
+		return result.toByteArray();
+	}
+
+	@Setup
+	public void setup() throws IOException {
+		image = createImage();
+		textLog = createLog(null);
+		attachmentLog = createLog(image);
+		textBatch = new ArrayList<>();
+		attachmentBatch = new ArrayList<>();
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			textBatch.add(createLog(null));
+			attachmentBatch.add(createLog(image));
+		}
+	}
+
+	@Benchmark
+	public List<MultipartBody.Part> buildTextBatch() {
+		return HttpRequestUtils.buildLogMultiPartRequest(textBatch);
+	}
+
+	@Benchmark
+	public List<MultipartBody.Part> buildAttachmentBatch() {
+		return HttpRequestUtils.buildLogMultiPartRequest(attachmentBatch);
+	}
+
+	@Benchmark
+	public long textRequestSize() {
+		return HttpRequestUtils.calculateRequestSize(textLog);
+	}
+
+	@Benchmark
+	public long attachmentRequestSize() {
+		return HttpRequestUtils.calculateRequestSize(attachmentLog);
+	}
+
+	@Benchmark
+	public String detectMimeType() throws IOException {
+		return MimeTypeDetector.detect(ByteSource.wrap(image), null);
+	}
+
+	@Benchmark
+	public TypeAwareByteSource convertImage() {
+		return ImageConverter.convertIfImage(new TypeAwareByteSource(ByteSource.wrap(image), "image/png"));
+	}
+}
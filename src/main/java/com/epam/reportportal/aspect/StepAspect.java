@@ -23,8 +23,6 @@ import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.*;
 import org.aspectj.lang.reflect.MethodSignature;
 
-import static java.util.Optional.ofNullable;
-
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
@@ -42,27 +40,39 @@ public class StepAspect {
 
 	@Before(value = "anyMethod() && withStepAnnotation(step)", argNames = "joinPoint,step")
 	public void startNestedStep(JoinPoint joinPoint, Step step) {
-		if (step.isIgnored()) {
+		if (!Launch.isReportingActive() || step.isIgnored()) {
+			return;
+		}
+		Launch launch = Launch.currentLaunch();
+		if (launch == null || launch == Launch.NOOP_LAUNCH) {
 			return;
 		}
 		MethodSignature signature = (MethodSignature) joinPoint.getSignature();
 		StartTestItemRQ startStepRequest = StepRequestUtils.buildStartStepRequest(signature, step, joinPoint);
-		ofNullable(Launch.currentLaunch()).ifPresent(l -> l.getStepReporter().startNestedStep(startStepRequest));
+		launch.getStepReporter().startNestedStep(startStepRequest);
 	}
 
 	@AfterReturning(value = "anyMethod() && withStepAnnotation(step)", argNames = "step")
 	public void finishNestedStep(Step step) {
-		if (step.isIgnored()) {
+		if (!Launch.isReportingActive() || step.isIgnored()) {
 			return;
 		}
-		ofNullable(Launch.currentLaunch()).ifPresent(l -> l.getStepReporter().finishNestedStep());
+		Launch launch = Launch.currentLaunch();
+		if (launch == null || launch == Launch.NOOP_LAUNCH) {
+			return;
+		}
+		launch.getStepReporter().finishNestedStep();
 	}
 
 	@AfterThrowing(value = "anyMethod() && withStepAnnotation(step)", throwing = "throwable", argNames = "step,throwable")
 	public void failedNestedStep(Step step, final Throwable throwable) {
-		if (step.isIgnored()) {
+		if (!Launch.isReportingActive() || step.isIgnored()) {
+			return;
+		}
+		Launch launch = Launch.currentLaunch();
+		if (launch == null || launch == Launch.NOOP_LAUNCH) {
 			return;
 		}
-		ofNullable(Launch.currentLaunch()).ifPresent(l -> l.getStepReporter().finishNestedStep(throwable));
+		launch.getStepReporter().finishNestedStep(throwable);
 	}
 }
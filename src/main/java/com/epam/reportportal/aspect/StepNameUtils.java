@@ -17,15 +17,20 @@
 package com.epam.reportportal.aspect;
 
 import com.epam.reportportal.annotations.Step;
+import com.epam.reportportal.utils.templating.CompiledTemplate;
 import com.epam.reportportal.utils.templating.TemplateConfiguration;
 import com.epam.reportportal.utils.templating.TemplateProcessing;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Optional.ofNullable;
 
@@ -34,6 +39,13 @@ import static java.util.Optional.ofNullable;
  */
 public class StepNameUtils {
 
+	private static final int METHOD_NAME_SLOT = 0;
+	private static final int SELF_SLOT = 1;
+	private static final int ARGUMENTS_SLOT = 2;
+	private static final Object[] NO_SLOTS = new Object[0];
+
+	private static final Map<Method, StepNameTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
 	private StepNameUtils() {
 		throw new IllegalStateException("Static only class");
 	}
@@ -53,6 +65,22 @@ public class StepNameUtils {
 			return signature.getMethod().getName();
 		}
 
+		Method method = signature.getMethod();
+		if (method != null) {
+			String[] parameterNames = signature.getParameterNames();
+			StepNameTemplate template = TEMPLATES.get(method);
+			if (template == null || !template.isCompiledFor(step, parameterNames)) {
+				template = new StepNameTemplate(step, method, parameterNames);
+				TEMPLATES.put(method, template);
+			}
+			return template.render(method, signature, joinPoint);
+		}
+
+		return getStepName(nameTemplate, getTemplateConfiguration(step), signature, joinPoint);
+	}
+
+	@Nonnull
+	private static TemplateConfiguration getTemplateConfiguration(@Nonnull Step step) {
 		TemplateConfiguration defaultConfig = new TemplateConfiguration();
 		TemplateConfiguration deprecatedConfig = new TemplateConfiguration(step.templateConfig());
 		TemplateConfiguration config = new TemplateConfiguration(step.config());
@@ -61,8 +89,7 @@ public class StepNameUtils {
 				config = deprecatedConfig;
 			}
 		}
-
-		return getStepName(nameTemplate, config, signature, joinPoint);
+		return config;
 	}
 
 	/**
@@ -96,4 +123,65 @@ public class StepNameUtils {
 		}
 		return paramsMapping;
 	}
+
+	/**
+	 * Step name template compiled for a specific method. Template references are bound to method name, 'this' object and method
+	 * arguments in the same order of precedence as {@link #createParamsMapping(TemplateConfiguration, MethodSignature, JoinPoint)} does.
+	 */
+	private static class StepNameTemplate {
+		private final Step step;
+		private final String[] parameterNames;
+		private final TemplateConfiguration config;
+		private final CompiledTemplate template;
+		private final int argumentNumber;
+		private final boolean hasSelf;
+
+		private StepNameTemplate(@Nonnull Step stepAnnotation, @Nonnull Method method, @Nullable String[] methodParameterNames) {
+			step = stepAnnotation;
+			parameterNames = methodParameterNames;
+			config = getTemplateConfiguration(step);
+			argumentNumber = Math.min(ofNullable(parameterNames).map(p -> p.length).orElse(0), method.getParameterCount());
+			hasSelf = !Modifier.isStatic(method.getModifiers());
+			template = CompiledTemplate.compile(step.value(), config, name -> {
+				for (int i = argumentNumber - 1; i >= 0; i--) {
+					if (name.equals(parameterNames[i]) || name.equals(Integer.toString(i))) {
+						return ARGUMENTS_SLOT + i;
+					}
+				}
+				if (hasSelf && name.equals(config.getSelfName())) {
+					return SELF_SLOT;
+				}
+				if (name.equals(config.getMethodName())) {
+					return METHOD_NAME_SLOT;
+				}
+				return CompiledTemplate.NOT_FOUND;
+			});
+		}
+
+		private boolean isCompiledFor(@Nonnull Step stepAnnotation, @Nullable String[] methodParameterNames) {
+			return (step == stepAnnotation || step.equals(stepAnnotation)) && (parameterNames == methodParameterNames || Arrays.equals(
+					parameterNames,
+					methodParameterNames
+			));
+		}
+
+		@Nonnull
+		private String render(@Nonnull Method method, @Nonnull MethodSignature signature, @Nonnull JoinPoint joinPoint) {
+			if (template.isConstant()) {
+				return template.render(NO_SLOTS);
+			}
+			Object self = joinPoint.getThis();
+			if (hasSelf && self == null) {
+				// unusual join point, which the template was not compiled for
+				return getStepName(step.value(), config, signature, joinPoint);
+			}
+			Object[] args = ofNullable(joinPoint.getArgs()).orElse(new Object[0]);
+			int argsCount = Math.min(argumentNumber, args.length);
+			Object[] slots = new Object[ARGUMENTS_SLOT + argsCount];
+			slots[METHOD_NAME_SLOT] = method.getName();
+			slots[SELF_SLOT] = self;
+			System.arraycopy(args, 0, slots, ARGUMENTS_SLOT, argsCount);
+			return template.render(slots);
+		}
+	}
 }
@@ -26,13 +26,21 @@ import org.aspectj.lang.reflect.MethodSignature;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Optional.ofNullable;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
 public class StepRequestUtils {
 
+	private static final Map<Method, StepMetadata> METADATA = new ConcurrentHashMap<>();
+
 	private StepRequestUtils() {
 		//static only
 	}
@@ -49,15 +57,68 @@ public class StepRequestUtils {
 	public static StartTestItemRQ buildStartStepRequest(@Nonnull MethodSignature signature, @Nonnull Step step,
 			@Nonnull JoinPoint joinPoint) {
 		String name = StepNameUtils.getStepName(step, signature, joinPoint);
-		return buildStartStepRequest(name, step.description(), signature);
+		Method method = signature.getMethod();
+		if (method == null) {
+			return buildStartStepRequest(name, step.description(), signature);
+		}
+		StepMetadata metadata = getMetadata(method);
+		String description = metadata.getStep() == step ? metadata.getDescription() : step.description();
+		StartTestItemRQ request = com.epam.reportportal.service.step.StepRequestUtils.buildStartStepRequest(name, description);
+		request.setAttributes(metadata.copyAttributes());
+		return request;
+	}
+
+	@Nonnull
+	private static StepMetadata getMetadata(@Nonnull Method method) {
+		StepMetadata metadata = METADATA.get(method);
+		if (metadata == null) {
+			metadata = METADATA.computeIfAbsent(method, StepMetadata::new);
+		}
+		return metadata;
 	}
 
 	@Nullable
 	private static Set<ItemAttributesRQ> createStepAttributes(@Nonnull MethodSignature methodSignature) {
-		Attributes attributesAnnotation = methodSignature.getMethod().getAnnotation(Attributes.class);
-		if (attributesAnnotation != null) {
-			return AttributeParser.retrieveAttributes(attributesAnnotation);
+		return ofNullable(methodSignature.getMethod()).map(StepRequestUtils::getMetadata).map(StepMetadata::copyAttributes).orElse(null);
+	}
+
+	/**
+	 * Invocation independent data of a {@link Step} method, which is read from its annotations once.
+	 */
+	private static class StepMetadata {
+		private final Step step;
+		private final String description;
+		private final Set<ItemAttributesRQ> attributes;
+
+		private StepMetadata(@Nonnull Method method) {
+			step = method.getAnnotation(Step.class);
+			description = ofNullable(step).map(Step::description).orElse(null);
+			attributes = ofNullable(method.getAnnotation(Attributes.class)).map(AttributeParser::retrieveAttributes).orElse(null);
+		}
+
+		@Nullable
+		public Step getStep() {
+			return step;
+		}
+
+		@Nullable
+		public String getDescription() {
+			return description;
+		}
+
+		/**
+		 * @return a deep copy of the attribute set, since a request and its attributes can be modified by listeners
+		 */
+		@Nullable
+		public Set<ItemAttributesRQ> copyAttributes() {
+			if (attributes == null) {
+				return null;
+			}
+			Set<ItemAttributesRQ> result = new LinkedHashSet<>(attributes.size());
+			for (ItemAttributesRQ attribute : attributes) {
+				result.add(new ItemAttributesRQ(attribute.getKey(), attribute.getValue(), attribute.isSystem()));
+			}
+			return result;
 		}
-		return null;
 	}
 }
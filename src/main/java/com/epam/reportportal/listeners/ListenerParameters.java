@@ -51,6 +51,8 @@ public class ListenerParameters implements Cloneable {
 
 	private static final int DEFAULT_REPORTING_TIMEOUT = 5 * 60;
 	private static final int DEFAULT_IO_POOL_SIZE = 100;
+	private static final int DEFAULT_SCHEDULER_POOL_SIZE = 1;
+	private static final boolean DEFAULT_IO_VIRTUAL_THREADS = true;
 	private static final boolean DEFAULT_ENABLE = true;
 	private static final boolean DEFAULT_SKIP_ISSUE = true;
 	private static final boolean DEFAULT_CONVERT_IMAGE = false;
@@ -59,6 +61,10 @@ public class ListenerParameters implements Cloneable {
 	private static final boolean DEFAULT_CALLBACK_REPORTING_ENABLED = false;
 	private static final boolean DEFAULT_HTTP_LOGGING = false;
 	private static final int DEFAULT_RX_BUFFER_SIZE = 128;
+	private static final int DEFAULT_ITEM_ADMISSION_LIMIT = 0;
+	private static final Duration DEFAULT_ITEM_ADMISSION_TIMEOUT = Duration.ZERO;
+	private static final boolean DEFAULT_STEP_COMPACTION = false;
+	private static final Duration DEFAULT_STEP_COMPACTION_THRESHOLD = Duration.ofMillis(100);
 
 	private static final boolean DEFAULT_CLIENT_JOIN = true;
 	private static final String DEFAULT_CLIENT_JOIN_MODE = "FILE";
@@ -69,6 +75,8 @@ public class ListenerParameters implements Cloneable {
 	private static final String DEFAULT_CLIENT_JOIN_TIMEOUT_UNIT = "MILLISECONDS";
 	private static final String DEFAULT_CLIENT_JOIN_LOCK_TIMEOUT_UNIT = DEFAULT_CLIENT_JOIN_TIMEOUT_UNIT;
 	private static final int DEFAULT_CLIENT_JOIN_LOCK_PORT = 25464;
+	private static final boolean DEFAULT_CLIENT_JOIN_LOG_FORWARDING = false;
+	private static final int DEFAULT_CLIENT_JOIN_LOG_PORT = 25465;
 
 	private static final boolean DEFAULT_TRUNCATE_ITEM_NAMES = true;
 	private static final int DEFAULT_TRUNCATE_ITEM_NAMES_LIMIT = 1024;
@@ -103,6 +111,13 @@ public class ListenerParameters implements Cloneable {
 	private boolean asyncReporting;
 	private boolean callbackReportingEnabled;
 	private Integer ioPoolSize;
+	private boolean ioVirtualThreads;
+	private String recordingFile;
+	private int schedulerPoolSize;
+	private int itemAdmissionLimit;
+	private Duration itemAdmissionTimeout;
+	private boolean stepCompaction;
+	private Duration stepCompactionThreshold;
 
 	private boolean clientJoin;
 	private LaunchIdLockMode clientJoinMode;
@@ -111,6 +126,9 @@ public class ListenerParameters implements Cloneable {
 	private long lockWaitTimeout;
 	private long clientJoinTimeout;
 	private int lockPortNumber;
+	private String lockCoordinatorHost;
+	private boolean logForwarding;
+	private int logForwardingPortNumber;
 
 	private int rxBufferSize;
 
@@ -168,6 +186,12 @@ public class ListenerParameters implements Cloneable {
 		this.callbackReportingEnabled = DEFAULT_CALLBACK_REPORTING_ENABLED;
 
 		this.ioPoolSize = DEFAULT_IO_POOL_SIZE;
+		this.ioVirtualThreads = DEFAULT_IO_VIRTUAL_THREADS;
+		this.schedulerPoolSize = DEFAULT_SCHEDULER_POOL_SIZE;
+		this.itemAdmissionLimit = DEFAULT_ITEM_ADMISSION_LIMIT;
+		this.itemAdmissionTimeout = DEFAULT_ITEM_ADMISSION_TIMEOUT;
+		this.stepCompaction = DEFAULT_STEP_COMPACTION;
+		this.stepCompactionThreshold = DEFAULT_STEP_COMPACTION_THRESHOLD;
 
 		this.clientJoin = DEFAULT_CLIENT_JOIN;
 		this.clientJoinMode = LaunchIdLockMode.valueOf(DEFAULT_CLIENT_JOIN_MODE);
@@ -181,6 +205,8 @@ public class ListenerParameters implements Cloneable {
 		this.truncateItemNamesLimit = DEFAULT_TRUNCATE_ITEM_NAMES_LIMIT;
 		this.truncateItemNamesReplacement = DEFAULT_TRUNCATE_REPLACEMENT;
 		this.lockPortNumber = DEFAULT_CLIENT_JOIN_LOCK_PORT;
+		this.logForwarding = DEFAULT_CLIENT_JOIN_LOG_FORWARDING;
+		this.logForwardingPortNumber = DEFAULT_CLIENT_JOIN_LOG_PORT;
 	}
 
 	public ListenerParameters(PropertiesLoader properties) {
@@ -216,6 +242,19 @@ public class ListenerParameters implements Cloneable {
 		this.callbackReportingEnabled = properties.getPropertyAsBoolean(CALLBACK_REPORTING_ENABLED, DEFAULT_CALLBACK_REPORTING_ENABLED);
 
 		this.ioPoolSize = properties.getPropertyAsInt(IO_POOL_SIZE, DEFAULT_IO_POOL_SIZE);
+		this.ioVirtualThreads = properties.getPropertyAsBoolean(IO_VIRTUAL_THREADS, DEFAULT_IO_VIRTUAL_THREADS);
+		this.recordingFile = properties.getProperty(RECORDING_FILE);
+		this.schedulerPoolSize = properties.getPropertyAsInt(SCHEDULER_POOL_SIZE, DEFAULT_SCHEDULER_POOL_SIZE);
+		this.itemAdmissionLimit = properties.getPropertyAsInt(ITEM_ADMISSION_LIMIT, DEFAULT_ITEM_ADMISSION_LIMIT);
+		this.itemAdmissionTimeout = ofNullable(getDurationProperty(properties,
+				ITEM_ADMISSION_TIMEOUT_VALUE,
+				ITEM_ADMISSION_TIMEOUT_UNIT
+		)).orElse(DEFAULT_ITEM_ADMISSION_TIMEOUT);
+		this.stepCompaction = properties.getPropertyAsBoolean(STEP_COMPACTION, DEFAULT_STEP_COMPACTION);
+		this.stepCompactionThreshold = ofNullable(getDurationProperty(properties,
+				STEP_COMPACTION_THRESHOLD_VALUE,
+				STEP_COMPACTION_THRESHOLD_UNIT
+		)).orElse(DEFAULT_STEP_COMPACTION_THRESHOLD);
 
 		clientJoin = properties.getPropertyAsBoolean(CLIENT_JOIN_MODE, DEFAULT_CLIENT_JOIN);
 		clientJoinMode = LaunchIdLockMode.valueOf(properties.getProperty(CLIENT_JOIN_MODE_VALUE, DEFAULT_CLIENT_JOIN_MODE));
@@ -260,6 +299,9 @@ public class ListenerParameters implements Cloneable {
 		}
 
 		lockPortNumber = properties.getPropertyAsInt(CLIENT_JOIN_LOCK_PORT, DEFAULT_CLIENT_JOIN_LOCK_PORT);
+		lockCoordinatorHost = properties.getProperty(CLIENT_JOIN_COORDINATOR_HOST);
+		logForwarding = properties.getPropertyAsBoolean(CLIENT_JOIN_LOG_FORWARDING, DEFAULT_CLIENT_JOIN_LOG_FORWARDING);
+		logForwardingPortNumber = properties.getPropertyAsInt(CLIENT_JOIN_LOG_PORT, DEFAULT_CLIENT_JOIN_LOG_PORT);
 
 		this.rxBufferSize = properties.getPropertyAsInt(RX_BUFFER_SIZE, DEFAULT_RX_BUFFER_SIZE);
 
@@ -436,6 +478,65 @@ public class ListenerParameters implements Cloneable {
 		this.ioPoolSize = ioPoolSize;
 	}
 
+	public boolean isIoVirtualThreads() {
+		return ioVirtualThreads;
+	}
+
+	public void setIoVirtualThreads(boolean ioVirtualThreads) {
+		this.ioVirtualThreads = ioVirtualThreads;
+	}
+
+	@Nullable
+	public String getRecordingFile() {
+		return recordingFile;
+	}
+
+	public void setRecordingFile(@Nullable String recordingFile) {
+		this.recordingFile = recordingFile;
+	}
+
+	public int getSchedulerPoolSize() {
+		return schedulerPoolSize;
+	}
+
+	public void setSchedulerPoolSize(int schedulerPoolSize) {
+		this.schedulerPoolSize = schedulerPoolSize;
+	}
+
+	public int getItemAdmissionLimit() {
+		return itemAdmissionLimit;
+	}
+
+	public void setItemAdmissionLimit(int itemAdmissionLimit) {
+		this.itemAdmissionLimit = itemAdmissionLimit;
+	}
+
+	@Nonnull
+	public Duration getItemAdmissionTimeout() {
+		return itemAdmissionTimeout;
+	}
+
+	public void setItemAdmissionTimeout(@Nonnull Duration itemAdmissionTimeout) {
+		this.itemAdmissionTimeout = itemAdmissionTimeout;
+	}
+
+	public boolean isStepCompaction() {
+		return stepCompaction;
+	}
+
+	public void setStepCompaction(boolean stepCompaction) {
+		this.stepCompaction = stepCompaction;
+	}
+
+	@Nonnull
+	public Duration getStepCompactionThreshold() {
+		return stepCompactionThreshold;
+	}
+
+	public void setStepCompactionThreshold(@Nonnull Duration stepCompactionThreshold) {
+		this.stepCompactionThreshold = stepCompactionThreshold;
+	}
+
 	public boolean getClientJoin() {
 		return clientJoin;
 	}
@@ -492,6 +593,31 @@ public class ListenerParameters implements Cloneable {
 		this.lockPortNumber = lockPortNumber;
 	}
 
+	@Nullable
+	public String getLockCoordinatorHost() {
+		return lockCoordinatorHost;
+	}
+
+	public void setLockCoordinatorHost(@Nullable String lockCoordinatorHost) {
+		this.lockCoordinatorHost = lockCoordinatorHost;
+	}
+
+	public boolean isLogForwarding() {
+		return logForwarding;
+	}
+
+	public void setLogForwarding(boolean logForwarding) {
+		this.logForwarding = logForwarding;
+	}
+
+	public int getLogForwardingPortNumber() {
+		return logForwardingPortNumber;
+	}
+
+	public void setLogForwardingPortNumber(int logForwardingPortNumber) {
+		this.logForwardingPortNumber = logForwardingPortNumber;
+	}
+
 	public boolean isHttpLogging() {
 		return httpLogging;
 	}
@@ -626,6 +752,13 @@ public class ListenerParameters implements Cloneable {
 		sb.append(", rerunOf='").append(rerunOf).append('\'');
 		sb.append(", asyncReporting=").append(asyncReporting);
 		sb.append(", ioPoolSize=").append(ioPoolSize);
+		sb.append(", ioVirtualThreads=").append(ioVirtualThreads);
+		sb.append(", recordingFile='").append(recordingFile).append('\'');
+		sb.append(", schedulerPoolSize=").append(schedulerPoolSize);
+		sb.append(", itemAdmissionLimit=").append(itemAdmissionLimit);
+		sb.append(", itemAdmissionTimeout=").append(itemAdmissionTimeout);
+		sb.append(", stepCompaction=").append(stepCompaction);
+		sb.append(", stepCompactionThreshold=").append(stepCompactionThreshold);
 		sb.append(", callbackReportingEnabled=").append(callbackReportingEnabled);
 		sb.append(", clientJoin=").append(clientJoin);
 		sb.append(", clientJoinMode=").append(ofNullable(clientJoinMode).map(Enum::name).orElse(null));
@@ -634,6 +767,9 @@ public class ListenerParameters implements Cloneable {
 		sb.append(", syncFileName=").append(syncFileName);
 		sb.append(", lockWaitTimeout=").append(lockWaitTimeout);
 		sb.append(", lockPortNumber=").append(lockPortNumber);
+		sb.append(", lockCoordinatorHost=").append(lockCoordinatorHost);
+		sb.append(", logForwarding=").append(logForwarding);
+		sb.append(", logForwardingPortNumber=").append(logForwardingPortNumber);
 		sb.append(", rxBufferSize=").append(rxBufferSize);
 		sb.append('}');
 		return sb.toString();
@@ -0,0 +1,450 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * JVM-wide scheduling and I/O threads of the client, which are shared by all {@link ReportPortal} instances and launches. Thread pools
+ * are created on the first use with the parameters given, so {@link ListenerParameters#getIoPoolSize()} and
+ * {@link ListenerParameters#getSchedulerPoolSize()} set the thread budget of the whole JVM, different values passed later are ignored
+ * with a warning. Launch ID lock heartbeats and state checks run on their own pool of {@link #LOCK_POOL_SIZE} threads, so they are
+ * never queued behind requests when the server is slow. All threads are daemons and are released when idle. Shared pools ignore
+ * shutdown calls, since they are not owned by their callers, use {@link #newIoExecutor(ListenerParameters)} to get an executor which can
+ * be shut down.
+ * <p>
+ * Server loops which wait on sockets or file system events for the whole launch run on dedicated daemon threads outside of the budget:
+ * <code>rp-file-lock-watcher</code> of FILE Launch ID lock mode, Launch ID lock server of SOCKET and NETWORK modes and log forwarding
+ * server of a primary launch. There is at most one of each per JVM or per launch, and they do not take I/O threads from requests.
+ * <p>
+ * On JVMs with virtual threads (Java 21+) requests and responses are processed on a virtual thread per task instead of the I/O pool,
+ * unless {@link ListenerParameters#isIoVirtualThreads()} is turned off. The client is built for Java 8, so virtual threads are created
+ * through reflection. Retrofit calls are executed synchronously on these threads, so the number of concurrently running tasks is still
+ * bounded by {@link ListenerParameters#getIoPoolSize()}, tasks above the bound wait on their own virtual threads. OkHttp 3 waits on object
+ * monitors while reading HTTP/2 streams (<code>Http2Stream.takeHeaders</code>, <code>FramingSource.read</code>), which pins carrier
+ * threads on Java 21-23 for the time of a response wait, turn virtual threads off if the server speaks HTTP/2 and it matters.
+ */
+public final class ClientRuntime {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ClientRuntime.class);
+
+	private static final long KEEP_ALIVE_SECONDS = 60;
+	private static final String IO_THREAD_PREFIX = "rp-io-";
+	private static final String LOCK_THREAD_PREFIX = "rp-lock-";
+
+	/**
+	 * Number of threads which run Launch ID lock heartbeats and state checks
+	 */
+	public static final int LOCK_POOL_SIZE = 2;
+
+	private static volatile ExecutorService ioExecutor;
+	private static volatile ScheduledExecutorService scheduler;
+	private static volatile ExecutorService lockExecutor;
+	/* pool settings in use, to warn about different ones */
+	private static volatile String ioSettings;
+	private static volatile int schedulerSize;
+	private static final AtomicBoolean IO_SETTINGS_WARNED = new AtomicBoolean();
+	private static final AtomicBoolean SCHEDULER_SETTINGS_WARNED = new AtomicBoolean();
+
+	private ClientRuntime() {
+		throw new IllegalStateException("Static only class");
+	}
+
+	private static int poolSize(Integer size) {
+		return Math.max(1, ofNullable(size).orElse(1));
+	}
+
+	/**
+	 * Return the shared executor for requests and responses processing.
+	 *
+	 * @param parameters Report Portal client configuration parameters, used only on the executor creation
+	 * @return the shared I/O executor
+	 */
+	@Nonnull
+	public static ExecutorService getIoExecutor(@Nonnull final ListenerParameters parameters) {
+		ExecutorService result = ioExecutor;
+		String settings = poolSize(parameters.getIoPoolSize()) + (parameters.isIoVirtualThreads() ? " virtual" : " platform");
+		if (result == null) {
+			synchronized (ClientRuntime.class) {
+				result = ioExecutor;
+				if (result == null) {
+					ExecutorService virtualExecutor = parameters.isIoVirtualThreads() ? createVirtualThreadExecutor(IO_THREAD_PREFIX) : null;
+					int size = poolSize(parameters.getIoPoolSize());
+					result = virtualExecutor == null ?
+							new SharedExecutor(size, IO_THREAD_PREFIX) :
+							new SharedVirtualThreadExecutor(virtualExecutor, size);
+					ioSettings = settings;
+					ioExecutor = result;
+					return result;
+				}
+			}
+		}
+		if (!settings.equals(ioSettings) && IO_SETTINGS_WARNED.compareAndSet(false, true)) {
+			LOGGER.warn("I/O pool is already created with {} threads, rp.io.pool.size and rp.io.virtual.threads values of {} threads "
+					+ "are ignored", ioSettings, settings);
+		}
+		return result;
+	}
+
+	/**
+	 * Return an executor which runs tasks on the shared I/O pool, but can be shut down and awaited by its owner like an executor of its
+	 * own. Shutdown rejects new tasks of the executor, termination is reached when its submitted tasks are finished.
+	 *
+	 * @param parameters Report Portal client configuration parameters, used only on the shared pool creation
+	 * @return a new executor
+	 */
+	@Nonnull
+	public static ExecutorService newIoExecutor(@Nonnull final ListenerParameters parameters) {
+		return new OwnedExecutor(getIoExecutor(parameters));
+	}
+
+	/**
+	 * Return the shared executor for Launch ID lock heartbeats and state checks.
+	 *
+	 * @return the lock executor
+	 */
+	@Nonnull
+	public static ExecutorService getLockExecutor() {
+		ExecutorService result = lockExecutor;
+		if (result == null) {
+			synchronized (ClientRuntime.class) {
+				result = lockExecutor;
+				if (result == null) {
+					result = new SharedExecutor(LOCK_POOL_SIZE, LOCK_THREAD_PREFIX);
+					lockExecutor = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Return the shared scheduler for periodic and delayed tasks. Scheduled tasks should be short and non-blocking, tasks which do I/O,
+	 * such as launch heartbeats and lock state checks, should be scheduled with
+	 * {@link #scheduleBlockingWithFixedDelay(ListenerParameters, Runnable, long, long, TimeUnit)}.
+	 *
+	 * @param parameters Report Portal client configuration parameters, used only on the scheduler creation
+	 * @return the shared scheduler
+	 */
+	@Nonnull
+	public static ScheduledExecutorService getScheduler(@Nonnull final ListenerParameters parameters) {
+		ScheduledExecutorService result = scheduler;
+		int size = poolSize(parameters.getSchedulerPoolSize());
+		if (result == null) {
+			synchronized (ClientRuntime.class) {
+				result = scheduler;
+				if (result == null) {
+					result = new SharedScheduler(size);
+					schedulerSize = size;
+					scheduler = result;
+					return result;
+				}
+			}
+		}
+		if (size != schedulerSize && SCHEDULER_SETTINGS_WARNED.compareAndSet(false, true)) {
+			LOGGER.warn("Scheduler pool is already created with {} threads, rp.scheduler.pool.size value of {} is ignored",
+					schedulerSize,
+					size
+			);
+		}
+		return result;
+	}
+
+	/**
+	 * Schedule a periodic Launch ID lock task which may block. The shared scheduler only triggers the task, it runs on the lock executor,
+	 * so a stalled run does not delay scheduled tasks of other launches and locks, and the task does not wait behind requests in the I/O
+	 * pool queue. A run is skipped if the previous one is still in progress.
+	 *
+	 * @param parameters   Report Portal client configuration parameters, used only on the pools creation
+	 * @param task         the task to run
+	 * @param initialDelay the delay before the first run
+	 * @param delay        the delay between the end of one trigger and the start of the next
+	 * @param unit         the time unit of the delays
+	 * @return a future to cancel the task
+	 */
+	@Nonnull
+	public static ScheduledFuture<?> scheduleBlockingWithFixedDelay(@Nonnull final ListenerParameters parameters,
+			@Nonnull final Runnable task, long initialDelay, long delay, @Nonnull final TimeUnit unit) {
+		final ExecutorService executor = getLockExecutor();
+		final AtomicBoolean running = new AtomicBoolean();
+		final Runnable run = () -> {
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				LOGGER.warn("Scheduled task failed: {}", e.getLocalizedMessage(), e);
+			} finally {
+				running.set(false);
+			}
+		};
+		return getScheduler(parameters).scheduleWithFixedDelay(() -> {
+			if (running.compareAndSet(false, true)) {
+				try {
+					executor.execute(run);
+				} catch (RejectedExecutionException e) {
+					running.set(false);
+					LOGGER.warn("Unable to run scheduled task: {}", e.getLocalizedMessage(), e);
+				}
+			}
+		}, initialDelay, delay, unit);
+	}
+
+	/**
+	 * Create a virtual thread per task executor with <code>Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 0)
+	 * .factory())</code> call.
+	 *
+	 * @param prefix thread name prefix
+	 * @return the executor or null if the JVM does not support virtual threads
+	 */
+	@Nullable
+	static ExecutorService createVirtualThreadExecutor(@Nonnull String prefix) {
+		try {
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+			ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+			Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+			return (ExecutorService) newExecutor.invoke(null, factory);
+		} catch (ClassNotFoundException | NoSuchMethodException e) {
+			return null;
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// e.g. virtual threads are a preview feature on Java 19 and 20
+			LOGGER.debug("Unable to create virtual threads, a thread pool will be used: {}", e.getLocalizedMessage(), e);
+			return null;
+		}
+	}
+
+	static final class SharedVirtualThreadExecutor extends AbstractExecutorService {
+		private final ExecutorService delegate;
+		private final Semaphore permits;
+
+		SharedVirtualThreadExecutor(@Nonnull ExecutorService delegate, int maxRunning) {
+			this.delegate = delegate;
+			permits = new Semaphore(maxRunning);
+		}
+
+		@Override
+		public void execute(@Nonnull Runnable command) {
+			// a virtual thread waits for a permit, so callers are never blocked
+			delegate.execute(() -> {
+				permits.acquireUninterruptibly();
+				try {
+					command.run();
+				} finally {
+					permits.release();
+				}
+			});
+		}
+
+		@Override
+		public void shutdown() {
+			// shared executor is never shut down
+		}
+
+		@Override
+		@Nonnull
+		public List<Runnable> shutdownNow() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return false;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return false;
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) {
+			// never terminates
+			return false;
+		}
+	}
+
+	/**
+	 * An executor of an owner, which runs tasks on a shared executor and tracks them to support shutdown and termination.
+	 */
+	static final class OwnedExecutor extends AbstractExecutorService {
+		private final ExecutorService delegate;
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition terminated = lock.newCondition();
+		private boolean shutdown;
+		private int running;
+
+		OwnedExecutor(@Nonnull ExecutorService delegate) {
+			this.delegate = delegate;
+		}
+
+		private void finished() {
+			lock.lock();
+			try {
+				if (--running == 0 && shutdown) {
+					terminated.signalAll();
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public void execute(@Nonnull Runnable command) {
+			lock.lock();
+			try {
+				if (shutdown) {
+					throw new RejectedExecutionException("Executor is shut down");
+				}
+				running++;
+			} finally {
+				lock.unlock();
+			}
+			try {
+				delegate.execute(() -> {
+					try {
+						command.run();
+					} finally {
+						finished();
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				finished();
+				throw e;
+			}
+		}
+
+		@Override
+		public void shutdown() {
+			lock.lock();
+			try {
+				shutdown = true;
+				if (running == 0) {
+					terminated.signalAll();
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Shut the executor down, queued tasks are in the shared queue, so they are not returned and still run.
+		 *
+		 * @return an empty list
+		 */
+		@Override
+		@Nonnull
+		public List<Runnable> shutdownNow() {
+			shutdown();
+			return Collections.emptyList();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			lock.lock();
+			try {
+				return shutdown;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public boolean isTerminated() {
+			lock.lock();
+			try {
+				return shutdown && running == 0;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+			long remaining = unit.toNanos(timeout);
+			lock.lock();
+			try {
+				while (!(shutdown && running == 0)) {
+					if (remaining <= 0) {
+						return false;
+					}
+					remaining = terminated.awaitNanos(remaining);
+				}
+				return true;
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private static final class SharedExecutor extends ThreadPoolExecutor {
+		private SharedExecutor(int size, @Nonnull String prefix) {
+			super(size,
+					size,
+					KEEP_ALIVE_SECONDS,
+					TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(),
+					new ThreadFactoryBuilder().setNameFormat(prefix + "%s").setDaemon(true).build()
+			);
+			allowCoreThreadTimeOut(true);
+		}
+
+		@Override
+		public void shutdown() {
+			// shared executor is never shut down
+		}
+
+		@Override
+		@Nonnull
+		public List<Runnable> shutdownNow() {
+			return Collections.emptyList();
+		}
+	}
+
+	private static final class SharedScheduler extends ScheduledThreadPoolExecutor {
+		private SharedScheduler(int size) {
+			super(size, new ThreadFactoryBuilder().setNameFormat("rp-scheduler-%s").setDaemon(true).build());
+			setRemoveOnCancelPolicy(true);
+			setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+			allowCoreThreadTimeOut(true);
+		}
+
+		@Override
+		public void shutdown() {
+			// shared scheduler is never shut down
+		}
+
+		@Override
+		@Nonnull
+		public List<Runnable> shutdownNow() {
+			return Collections.emptyList();
+		}
+	}
+}
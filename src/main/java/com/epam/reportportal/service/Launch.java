@@ -31,6 +31,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.lang.reflect.Proxy;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Objects.requireNonNull;
 
@@ -40,6 +42,9 @@ import static java.util.Objects.requireNonNull;
 public abstract class Launch {
 	private static final ThreadLocal<Launch> CURRENT_LAUNCH = new InheritableThreadLocal<>();
 
+	/* Number of unfinished reporting Launches and logging contexts, while there are none every reporting entry point is a no-op */
+	private static final AtomicInteger ACTIVE_REPORTERS = new AtomicInteger();
+
 	static final Logger LOGGER = LoggerFactory.getLogger(Launch.class);
 
 	private final ListenerParameters parameters;
@@ -48,11 +53,16 @@ public abstract class Launch {
 
 	protected final ReportPortalClient client;
 
+	private final AtomicBoolean reporting = new AtomicBoolean();
+
 	Launch(@Nonnull ReportPortalClient reportPortalClient, @Nonnull ListenerParameters listenerParameters, @Nonnull StepReporter reporter) {
 		parameters = requireNonNull(listenerParameters, "ListenerParameters shouldn't be NULL");
 		stepReporter = requireNonNull(reporter, "StepReporter shouldn't be NULL");
 		CURRENT_LAUNCH.set(this);
 		client = reportPortalClient;
+		if (reporter != StepReporter.NOOP_STEP_REPORTER) {
+			activateReporting(reporting);
+		}
 	}
 
 	Launch(@Nonnull ReportPortalClient reportPortalClient, @Nonnull ListenerParameters listenerParameters) {
@@ -60,6 +70,7 @@ public abstract class Launch {
 		stepReporter = new DefaultStepReporter(this);
 		CURRENT_LAUNCH.set(this);
 		client = requireNonNull(reportPortalClient, "ReportPortalClient shouldn't be NULL");
+		activateReporting(reporting);
 	}
 
 	@Nonnull
@@ -115,10 +126,51 @@ public abstract class Launch {
 	@Nonnull
 	public ListenerParameters getParameters() {
 		// Sticking any thread which makes this call to the current Launch to be able to use Step Reporter and other methods
-		CURRENT_LAUNCH.set(this);
+		if (CURRENT_LAUNCH.get() != this) {
+			CURRENT_LAUNCH.set(this);
+		}
 		return parameters;
 	}
 
+	/**
+	 * Tells if there is an unfinished reporting {@link Launch} or logging context in this JVM. If not, then all reporting calls do
+	 * nothing, and can be skipped with this check, which costs a single volatile read.
+	 *
+	 * @return true if reporting is active, false if there are no launches, all launches are finished or are {@link #NOOP_LAUNCH}
+	 */
+	public static boolean isReportingActive() {
+		return ACTIVE_REPORTERS.get() > 0;
+	}
+
+	/**
+	 * Counts a launch or a logging context as an active reporter, once per the given state.
+	 *
+	 * @param state the reporter's state, which is set to true
+	 */
+	static void activateReporting(@Nonnull final AtomicBoolean state) {
+		if (state.compareAndSet(false, true)) {
+			ACTIVE_REPORTERS.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Stops counting a launch or a logging context as an active reporter, once per the given state.
+	 *
+	 * @param state the reporter's state, which is set to false
+	 */
+	static void deactivateReporting(@Nonnull final AtomicBoolean state) {
+		if (state.compareAndSet(true, false)) {
+			ACTIVE_REPORTERS.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Marks the launch as finished. Once all launches and logging contexts are finished, reporting entry points are no-ops again.
+	 */
+	protected void finishReporting() {
+		deactivateReporting(reporting);
+	}
+
 	/**
 	 * Returns a current launch in a link to the current thread.
 	 *
@@ -149,6 +201,19 @@ public abstract class Launch {
 		return client;
 	}
 
+	/**
+	 * Count entries retained by the launch: tracked items, queued completions, unfinished logging contexts, nested steps kept by the
+	 * {@link StepReporter} and log batches being sent. Finished root items are retained until the launch finish, so the numbers grow
+	 * with the launch size. The cost of the call is proportional to the number of unfinished items, so agents may call it
+	 * periodically to spot a leak or a launch which is too large for the heap.
+	 *
+	 * @return the launch footprint
+	 */
+	@Nonnull
+	public Footprint getFootprint() {
+		return new Footprint(0, 0, 0, getStepReporter().getRetainedStepCount(), 0);
+	}
+
 	/**
 	 * Returns current launch UUID {@link Maybe}, empty if the launch is not started.
 	 *
@@ -209,6 +274,68 @@ public abstract class Launch {
 		}
 	};
 
+	/**
+	 * Memory footprint of a {@link Launch}: numbers of entries retained by the launch and size of log payloads being sent. Heap cost of
+	 * a single entry depends on the JVM and the reported data, {@code MemoryFootprintBenchmark} in JMH sources measures retained heap
+	 * per item next to these numbers, so they can be converted to bytes for a particular setup.
+	 */
+	public static final class Footprint {
+		private final long itemCount;
+		private final long completionCount;
+		private final long loggingContextCount;
+		private final long stepCount;
+		private final long logBytes;
+
+		Footprint(long itemCount, long completionCount, long loggingContextCount, long stepCount, long logBytes) {
+			this.itemCount = itemCount;
+			this.completionCount = completionCount;
+			this.loggingContextCount = loggingContextCount;
+			this.stepCount = stepCount;
+			this.logBytes = logBytes;
+		}
+
+		/**
+		 * @return number of items tracked by the launch, including the launch itself
+		 */
+		public long getItemCount() {
+			return itemCount;
+		}
+
+		/**
+		 * @return number of completions queued until their parent items or the launch finish
+		 */
+		public long getCompletionCount() {
+			return completionCount;
+		}
+
+		/**
+		 * @return number of item logging contexts which are not completed yet, each of them buffers a log batch
+		 */
+		public long getLoggingContextCount() {
+			return loggingContextCount;
+		}
+
+		/**
+		 * @return number of entries retained by the {@link StepReporter}, see {@link StepReporter#getRetainedStepCount()}
+		 */
+		public long getStepCount() {
+			return stepCount;
+		}
+
+		/**
+		 * @return size of messages and attachments of log batches being sent, in bytes
+		 */
+		public long getLogBytes() {
+			return logBytes;
+		}
+
+		@Override
+		public String toString() {
+			return "Footprint{itemCount=" + itemCount + ", completionCount=" + completionCount + ", loggingContextCount="
+					+ loggingContextCount + ", stepCount=" + stepCount + ", logBytes=" + logBytes + '}';
+		}
+	}
+
 	/**
 	 * An Issue to remove 'To Investigate' mark from a skipped/failed Test Item
 	 */
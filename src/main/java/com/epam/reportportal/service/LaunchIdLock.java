@@ -20,6 +20,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A service to perform blocking operation to get single launch UUID for multiple clients.
@@ -63,4 +64,36 @@ public interface LaunchIdLock {
 	default Collection<String> getLiveInstanceUuids() {
 		return Collections.emptyList();
 	}
+
+	/**
+	 * Return a future which completes when all instances except the given one finish their Launches.
+	 *
+	 * @param instanceUuid a Client instance UUID of the waiting instance
+	 * @return a completion future, or null if the lock does not support completion notifications and
+	 * {@link #getLiveInstanceUuids()} should be polled instead
+	 */
+	@Nullable
+	default CompletableFuture<Void> getInstancesCompletion(@Nonnull final String instanceUuid) {
+		return null;
+	}
+
+	/**
+	 * Notify other instances that the primary Launch was started on the server.
+	 *
+	 * @param launchUuid the primary Launch UUID
+	 */
+	default void publishLaunchStart(@Nonnull final String launchUuid) {
+	}
+
+	/**
+	 * Return a future which completes with true when the primary Launch publishes its start, or with false if the primary instance is
+	 * gone without that.
+	 *
+	 * @param launchUuid the primary Launch UUID
+	 * @return a launch start future, or null if the lock does not support launch start notifications
+	 */
+	@Nullable
+	default CompletableFuture<Boolean> getLaunchStart(@Nonnull final String launchUuid) {
+		return null;
+	}
 }
@@ -19,14 +19,18 @@ import com.epam.reportportal.exception.InternalReportPortalClientException;
 import com.epam.reportportal.exception.ReportPortalException;
 import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.recording.WorkloadRecorder;
 import com.epam.reportportal.service.statistics.StatisticsService;
+import com.epam.reportportal.utils.AdmissionController;
 import com.epam.reportportal.utils.RetryWithDelay;
+import com.epam.reportportal.utils.http.HttpRequestUtils;
 import com.epam.reportportal.utils.properties.DefaultProperties;
 import com.epam.ta.reportportal.ws.model.*;
 import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
 import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -37,6 +41,7 @@ import io.reactivex.functions.Predicate;
 import io.reactivex.schedulers.Schedulers;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +49,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.epam.reportportal.service.logs.LaunchLoggingCallback.*;
 import static com.epam.reportportal.utils.SubscriptionUtils.logCompletableResults;
@@ -107,8 +113,13 @@ public class LaunchImpl extends Launch {
 	protected final Maybe<String> launch;
 	private final ExecutorService executor;
 	private final Scheduler scheduler;
-	private StatisticsService statisticsService;
+	private final AdmissionController admission;
+	private final StatisticsService statisticsService;
 	private final StartLaunchRQ startRq;
+	@Nullable
+	private final WorkloadRecorder recorder;
+	private final AtomicLong inFlightLogBytes = new AtomicLong();
+	private final AtomicLong openLoggingContexts = new AtomicLong();
 
 	protected LaunchImpl(@Nonnull final ReportPortalClient reportPortalClient, @Nonnull final ListenerParameters parameters,
 			@Nonnull final StartLaunchRQ rq, @Nonnull final ExecutorService executorService) {
@@ -116,8 +127,10 @@ public class LaunchImpl extends Launch {
 		requireNonNull(parameters, "Parameters shouldn't be NULL");
 		executor = requireNonNull(executorService);
 		scheduler = createScheduler(executor);
+		admission = createAdmissionController(parameters, scheduler);
 		statisticsService = new StatisticsService(parameters);
 		startRq = rq;
+		recorder = ofNullable(parameters.getRecordingFile()).map(WorkloadRecorder::create).orElse(null);
 
 		LOGGER.info("Rerun: {}", parameters.isRerun());
 
@@ -142,8 +155,10 @@ public class LaunchImpl extends Launch {
 		requireNonNull(parameters, "Parameters shouldn't be NULL");
 		executor = requireNonNull(executorService);
 		scheduler = createScheduler(executor);
+		admission = createAdmissionController(parameters, scheduler);
 		statisticsService = new StatisticsService(parameters);
 		startRq = emptyStartLaunchForStatistics();
+		recorder = ofNullable(parameters.getRecordingFile()).map(WorkloadRecorder::create).orElse(null);
 
 		LOGGER.info("Rerun: {}", parameters.isRerun());
 		launch = launchMaybe.cache();
@@ -159,6 +174,14 @@ public class LaunchImpl extends Launch {
 		return SCHEDULERS.computeIfAbsent(executorService, Schedulers::from);
 	}
 
+	private static AdmissionController createAdmissionController(ListenerParameters parameters, Scheduler scheduler) {
+		return new AdmissionController(parameters.getItemAdmissionLimit(),
+				parameters.getItemAdmissionTimeout().toMillis(),
+				TimeUnit.MILLISECONDS,
+				scheduler
+		);
+	}
+
 	/**
 	 * Returns a current executor which is used to process launch events such as requests and responses.
 	 *
@@ -177,6 +200,63 @@ public class LaunchImpl extends Launch {
 		return scheduler;
 	}
 
+	/**
+	 * Sends a batch of log entries of the launch to ReportPortal.
+	 *
+	 * @param rqs log entries
+	 * @return batch save response
+	 */
+	@Nonnull
+	protected Maybe<BatchSaveOperatingRS> sendLogs(@Nonnull final List<SaveLogRQ> rqs) {
+		if (recorder != null) {
+			recorder.logs(rqs);
+		}
+		final long size = getPayloadBytes(rqs);
+		return getClient().log(HttpRequestUtils.buildLogMultiPartRequest(rqs))
+				.doOnSubscribe(d -> inFlightLogBytes.addAndGet(size))
+				.doFinally(() -> inFlightLogBytes.addAndGet(-size));
+	}
+
+	private static long getPayloadBytes(@Nonnull List<SaveLogRQ> rqs) {
+		long size = 0;
+		for (SaveLogRQ rq : rqs) {
+			size += ofNullable(rq.getMessage()).map(m -> (long) m.length()).orElse(0L);
+			size += ofNullable(rq.getFile()).map(SaveLogRQ.File::getContent).map(c -> (long) c.length).orElse(0L);
+		}
+		return size;
+	}
+
+	private void trackLoggingContext(@Nonnull LoggingContext context) {
+		openLoggingContexts.incrementAndGet();
+		context.whenCompleted().subscribe(openLoggingContexts::decrementAndGet);
+	}
+
+	@Override
+	@Nonnull
+	public Footprint getFootprint() {
+		long items = 0;
+		long completions = 0;
+		for (LaunchImpl.TreeItem item : QUEUE.asMap().values()) {
+			items++;
+			completions += item.children.size();
+		}
+		return new Footprint(items,
+				completions,
+				openLoggingContexts.get(),
+				getStepReporter().getRetainedStepCount(),
+				inFlightLogBytes.get()
+		);
+	}
+
+	/**
+	 * Returns a current {@link AdmissionController} which limits simultaneous Test Item requests.
+	 *
+	 * @return an {@link AdmissionController}
+	 */
+	public AdmissionController getAdmissionController() {
+		return admission;
+	}
+
 	@Override
 	@Nonnull
 	public Maybe<String> getLaunch() {
@@ -194,8 +274,11 @@ public class LaunchImpl extends Launch {
 	 */
 	@Nonnull
 	public Maybe<String> start() {
+		if (recorder != null) {
+			recorder.startLaunch(startRq);
+		}
 		launch.subscribe(logMaybeResults("Launch start"));
-		LaunchLoggingContext.init(this.launch, getClient(), getScheduler(), getParameters());
+		LaunchLoggingContext.init(this.launch, this::sendLogs, getScheduler(), getParameters());
 		getStatisticsService().sendEvent(launch, startRq);
 		return launch;
 	}
@@ -206,6 +289,11 @@ public class LaunchImpl extends Launch {
 	 * @param rq Finish RQ
 	 */
 	public void finish(final FinishExecutionRQ rq) {
+		if (recorder != null) {
+			recorder.finishLaunch(rq);
+		}
+		// summaries of unfinished parents are sent before logging is completed
+		getStepReporter().flush();
 		QUEUE.getUnchecked(launch).addToQueue(LaunchLoggingContext.complete());
 		final Completable finish = Completable.concat(QUEUE.getUnchecked(launch).getChildren())
 				.andThen(launch.map(id -> getClient().finishLaunch(id, rq)
@@ -220,7 +308,10 @@ public class LaunchImpl extends Launch {
 			LOGGER.error("Unable to finish launch in ReportPortal", error);
 		}
 		getStatisticsService().close();
-		statisticsService = new StatisticsService(getParameters());
+		if (recorder != null) {
+			recorder.close();
+		}
+		finishReporting();
 	}
 
 	private static <T> Maybe<T> createErrorResponse(Throwable cause) {
@@ -256,14 +347,21 @@ public class LaunchImpl extends Launch {
 		}
 		truncateName(rq);
 
+		admission.awaitAdmission();
 		Maybe<String> item = launch.flatMap((Function<String, Maybe<String>>) launchId -> {
 			rq.setLaunchUuid(launchId);
-			return getClient().startTestItem(rq).retry(DEFAULT_REQUEST_RETRY).doOnSuccess(logCreated("item")).map(TO_ID);
+			return admission.limitInFlight(getClient().startTestItem(rq))
+					.retry(DEFAULT_REQUEST_RETRY)
+					.doOnSuccess(logCreated("item"))
+					.map(TO_ID);
 		}).cache();
 
 		item.subscribeOn(getScheduler()).subscribe(logMaybeResults("Start test item"));
 		QUEUE.getUnchecked(item).addToQueue(item.ignoreElement().onErrorComplete());
-		LoggingContext.init(launch, item, getClient(), getScheduler(), getParameters());
+		trackLoggingContext(LoggingContext.init(launch, item, this::sendLogs, getScheduler(), getParameters()));
+		if (recorder != null) {
+			recorder.startItem(null, item, rq);
+		}
 
 		getStepReporter().setParent(item);
 		return item;
@@ -303,17 +401,21 @@ public class LaunchImpl extends Launch {
 		}
 		truncateName(rq);
 
+		admission.awaitAdmission();
 		final Maybe<String> item = launch.flatMap((Function<String, Maybe<String>>) lId -> parentId.flatMap((Function<String, MaybeSource<String>>) pId -> {
 			rq.setLaunchUuid(lId);
 			LOGGER.debug("Starting test item..." + Thread.currentThread().getName());
-			Maybe<ItemCreatedRS> result = getClient().startTestItem(pId, rq);
+			Maybe<ItemCreatedRS> result = admission.limitInFlight(getClient().startTestItem(pId, rq));
 			result = result.retry(DEFAULT_REQUEST_RETRY);
 			result = result.doOnSuccess(logCreated("item"));
 			return result.map(TO_ID);
 		})).cache();
 		item.subscribeOn(getScheduler()).subscribe(logMaybeResults("Start test item"));
 		QUEUE.getUnchecked(item).withParent(parentId).addToQueue(item.ignoreElement().onErrorComplete());
-		LoggingContext.init(launch, item, getClient(), getScheduler(), getParameters());
+		trackLoggingContext(LoggingContext.init(launch, item, this::sendLogs, getScheduler(), getParameters()));
+		if (recorder != null) {
+			recorder.startItem(parentId, item, rq);
+		}
 
 		getStepReporter().setParent(item);
 		return item;
@@ -339,7 +441,6 @@ public class LaunchImpl extends Launch {
 			return createErrorResponse(new NullPointerException("FinishTestItemRQ should not be null"));
 		}
 		getStepReporter().finishPreviousStep(ofNullable(rq.getStatus()).map(ItemStatus::valueOf).orElse(null));
-
 		if (ItemStatus.SKIPPED.name().equals(rq.getStatus()) && !getParameters().getSkippedAnIssue()) {
 			rq.setIssue(Launch.NOT_ISSUE);
 		}
@@ -360,7 +461,7 @@ public class LaunchImpl extends Launch {
 		Maybe<OperationCompletionRS> finishResponse = this.launch.flatMap((Function<String, Maybe<OperationCompletionRS>>) launchId -> item.flatMap(
 				(Function<String, Maybe<OperationCompletionRS>>) itemId -> {
 					rq.setLaunchUuid(launchId);
-					return getClient().finishTestItem(itemId, rq)
+					return admission.limitInFlight(getClient().finishTestItem(itemId, rq))
 							.retry(TEST_ITEM_FINISH_REQUEST_RETRY)
 							.doOnSuccess(LOG_SUCCESS)
 							.doOnError(LOG_ERROR);
@@ -372,6 +473,9 @@ public class LaunchImpl extends Launch {
 				.ignoreElement()
 				.cache();
 		finishCompletion.subscribeOn(getScheduler()).subscribe(logCompletableResults("Finish test item"));
+		if (recorder != null) {
+			recorder.finishItem(item, rq, finishCompletion);
+		}
 		//find parent and add to its queue
 		final Maybe<String> parent = treeItem.getParent();
 		if (null != parent) {
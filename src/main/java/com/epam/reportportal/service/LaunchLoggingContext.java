@@ -29,11 +29,17 @@ import io.reactivex.internal.operators.flowable.FlowableFromObservable;
 import io.reactivex.plugins.RxJavaPlugins;
 import io.reactivex.subjects.PublishSubject;
 import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static com.epam.reportportal.utils.files.ImageConverter.convert;
 import static com.epam.reportportal.utils.files.ImageConverter.isImage;
@@ -53,7 +59,9 @@ import static com.google.common.io.ByteSource.wrap;
  * @see #init(Maybe, ReportPortalClient, Scheduler)
  */
 public class LaunchLoggingContext {
-	static final String DEFAULT_LAUNCH_KEY = "default";
+	private static final Logger LOGGER = LoggerFactory.getLogger(LaunchLoggingContext.class);
+
+	public static final String DEFAULT_LAUNCH_KEY = "default";
 
 	private static final ConcurrentHashMap<String, LaunchLoggingContext> loggingContextMap = new ConcurrentHashMap<>();
 	/* Log emitter */
@@ -62,10 +70,21 @@ public class LaunchLoggingContext {
 	private final Maybe<String> launchUuid;
 	/* Whether Image should be converted to BlackAndWhite */
 	private final boolean convertImages;
+	/* Serializes emits with the completion, so a log is either accepted into the pipeline or rejected */
+	private final Lock emitLock = new ReentrantLock();
+	private boolean completed;
+	/* Counted by Launch#isReportingActive until the context is completed */
+	private final AtomicBoolean reporting = new AtomicBoolean();
 
 	private LaunchLoggingContext(@Nonnull final Maybe<String> launchUuid, @Nonnull final ReportPortalClient client,
 			@Nonnull final Scheduler scheduler, @Nonnull final ListenerParameters parameters,
 			@Nonnull final FlowableSubscriber<BatchSaveOperatingRS> loggingSubscriber) {
+		this(launchUuid, rqs -> client.log(HttpRequestUtils.buildLogMultiPartRequest(rqs)), scheduler, parameters, loggingSubscriber);
+	}
+
+	private LaunchLoggingContext(@Nonnull final Maybe<String> launchUuid,
+			@Nonnull final Function<List<SaveLogRQ>, Maybe<BatchSaveOperatingRS>> logSender, @Nonnull final Scheduler scheduler,
+			@Nonnull final ListenerParameters parameters, @Nonnull final FlowableSubscriber<BatchSaveOperatingRS> loggingSubscriber) {
 		this.launchUuid = launchUuid;
 		this.emitter = PublishSubject.create();
 		this.convertImages = parameters.isConvertImage();
@@ -73,8 +92,7 @@ public class LaunchLoggingContext {
 						new FlowableFromObservable<>(emitter).flatMap((Function<Maybe<SaveLogRQ>, Publisher<SaveLogRQ>>) Maybe::toFlowable),
 						parameters
 				))
-				.flatMap((Function<List<SaveLogRQ>, Flowable<BatchSaveOperatingRS>>) rqs -> client.log(HttpRequestUtils.buildLogMultiPartRequest(
-						rqs)).toFlowable())
+				.flatMap((Function<List<SaveLogRQ>, Flowable<BatchSaveOperatingRS>>) rqs -> logSender.apply(rqs).toFlowable())
 				.observeOn(scheduler)
 				.onBackpressureBuffer(parameters.getRxBufferSize(), false, true)
 				.subscribe(loggingSubscriber);
@@ -85,6 +103,17 @@ public class LaunchLoggingContext {
 		return loggingContextMap.get(key);
 	}
 
+	@Nonnull
+	private static LaunchLoggingContext register(@Nonnull final LaunchLoggingContext context) {
+		Launch.activateReporting(context.reporting);
+		LaunchLoggingContext previous = loggingContextMap.put(DEFAULT_LAUNCH_KEY, context);
+		if (previous != null) {
+			// the replaced context is not reachable anymore, so it's not an active reporter
+			Launch.deactivateReporting(previous.reporting);
+		}
+		return context;
+	}
+
 	/**
 	 * Initializes new logging context and attaches it to current thread
 	 *
@@ -99,8 +128,7 @@ public class LaunchLoggingContext {
 			@Nonnull final Scheduler scheduler, @Nonnull final ListenerParameters parameters,
 			@Nonnull final FlowableSubscriber<BatchSaveOperatingRS> loggingSubscriber) {
 		LaunchLoggingContext context = new LaunchLoggingContext(launchUuid, client, scheduler, parameters, loggingSubscriber);
-		loggingContextMap.put(DEFAULT_LAUNCH_KEY, context);
-		return context;
+		return register(context);
 	}
 
 	/**
@@ -148,6 +176,22 @@ public class LaunchLoggingContext {
 		return init(launchUuid, client, scheduler, params, new LoggingSubscriber());
 	}
 
+	/**
+	 * Initializes new logging context which sends log batches with the given function
+	 *
+	 * @param launchUuid a UUID of a Launch
+	 * @param logSender  a function which sends a batch of log entries
+	 * @param scheduler  a {@link Scheduler} to use with this LoggingContext
+	 * @param parameters Report Portal client configuration parameters
+	 * @return New Logging Context
+	 */
+	static LaunchLoggingContext init(@Nonnull final Maybe<String> launchUuid,
+			@Nonnull final Function<List<SaveLogRQ>, Maybe<BatchSaveOperatingRS>> logSender, @Nonnull final Scheduler scheduler,
+			@Nonnull final ListenerParameters parameters) {
+		LaunchLoggingContext context = new LaunchLoggingContext(launchUuid, logSender, scheduler, parameters, new LoggingSubscriber());
+		return register(context);
+	}
+
 	/**
 	 * Completes context attached to the current thread
 	 *
@@ -168,25 +212,73 @@ public class LaunchLoggingContext {
 	 * @param logSupplier Log Message Factory. Key if the function is actual test item ID
 	 */
 	void emit(@Nonnull final java.util.function.Function<String, SaveLogRQ> logSupplier) {
-		emitter.onNext(launchUuid.map(input -> {
-			final SaveLogRQ rq = logSupplier.apply(input);
-			SaveLogRQ.File file = rq.getFile();
-			if (convertImages && null != file && isImage(file.getContentType())) {
-				final TypeAwareByteSource source = convert(wrap(file.getContent()));
-				file.setContent(source.read());
-				file.setContentType(source.getMediaType());
-			}
-			return rq;
+		emit(launchUuid.map(input -> convertImage(logSupplier.apply(input))));
+	}
+
+	/**
+	 * Emits a log of a Test Item into the launch log pipeline, so it is batched with other logs and is sent before the launch finish.
+	 * Useful for items which do not have their own {@link LoggingContext}, e.g. items reported through
+	 * {@link com.epam.reportportal.service.tree.ItemTreeReporter}. A log is accepted only if the context belongs to the given launch,
+	 * i.e. it was initialized with the same launch UUID promise.
+	 *
+	 * @param launchUuid  Launch UUID promise the log belongs to
+	 * @param itemUuid    Test Item UUID promise
+	 * @param logSupplier Log Message Factory. Key if the function is actual test item ID
+	 * @return true if the log was emitted, false if the context belongs to another launch or is already completed
+	 */
+	public boolean emit(@Nonnull final Maybe<String> launchUuid, @Nonnull final Maybe<String> itemUuid,
+			@Nonnull final java.util.function.Function<String, SaveLogRQ> logSupplier) {
+		if (launchUuid != this.launchUuid) {
+			return false;
+		}
+		return emit(launchUuid.zipWith(itemUuid, (launchId, itemId) -> {
+			SaveLogRQ rq = logSupplier.apply(itemId);
+			rq.setLaunchUuid(launchId);
+			return convertImage(rq);
 		}));
 	}
 
+	private boolean emit(@Nonnull final Maybe<SaveLogRQ> log) {
+		// an error of one entry, e.g. a failed item start or an unreadable image, must not terminate the whole pipeline
+		Maybe<SaveLogRQ> safeLog = log.doOnError(e -> LOGGER.error("Unable to prepare a log entry: {}", e.getLocalizedMessage(), e))
+				.onErrorComplete();
+		emitLock.lock();
+		try {
+			if (completed) {
+				return false;
+			}
+			emitter.onNext(safeLog);
+			return true;
+		} finally {
+			emitLock.unlock();
+		}
+	}
+
+	@Nonnull
+	private SaveLogRQ convertImage(@Nonnull final SaveLogRQ rq) throws IOException {
+		SaveLogRQ.File file = rq.getFile();
+		if (convertImages && null != file && isImage(file.getContentType())) {
+			final TypeAwareByteSource source = convert(wrap(file.getContent()));
+			file.setContent(source.read());
+			file.setContentType(source.getMediaType());
+		}
+		return rq;
+	}
+
 	/**
 	 * Marks flow as completed
 	 *
 	 * @return {@link Completable}
 	 */
 	private Completable completed() {
-		emitter.onComplete();
+		emitLock.lock();
+		try {
+			completed = true;
+			emitter.onComplete();
+		} finally {
+			emitLock.unlock();
+		}
+		Launch.deactivateReporting(reporting);
 		return emitter.ignoreElements();
 	}
 }
@@ -36,6 +36,7 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.epam.reportportal.utils.files.ImageConverter.convert;
 import static com.epam.reportportal.utils.files.ImageConverter.isImage;
@@ -110,6 +111,7 @@ public class LoggingContext {
 			@Nonnull final ReportPortalClient client, @Nonnull final Scheduler scheduler, @Nonnull final ListenerParameters parameters,
 			@Nonnull final FlowableSubscriber<BatchSaveOperatingRS> loggingSubscriber) {
 		LoggingContext context = new LoggingContext(launchUuid, itemUuid, client, scheduler, parameters, loggingSubscriber);
+		Launch.activateReporting(context.reporting);
 		createContext().push(context);
 		return context;
 	}
@@ -166,6 +168,26 @@ public class LoggingContext {
 		return init(launchUuid, itemUuid, client, scheduler, DEFAULT_LOG_BATCH_SIZE, false);
 	}
 
+	/**
+	 * Initializes new logging context which sends log batches with the given function and attaches it to current thread
+	 *
+	 * @param launchUuid a UUID of a Launch
+	 * @param itemUuid   a Test Item UUID
+	 * @param logSender  a function which sends a batch of log entries
+	 * @param scheduler  a {@link Scheduler} to use with this LoggingContext
+	 * @param parameters Report Portal client configuration parameters
+	 * @return New Logging Context
+	 */
+	@Nonnull
+	static LoggingContext init(@Nonnull final Maybe<String> launchUuid, @Nullable final Maybe<String> itemUuid,
+			@Nonnull final Function<List<SaveLogRQ>, Maybe<BatchSaveOperatingRS>> logSender, @Nonnull final Scheduler scheduler,
+			@Nonnull final ListenerParameters parameters) {
+		LoggingContext context = new LoggingContext(launchUuid, itemUuid, logSender, scheduler, parameters, new LoggingSubscriber());
+		Launch.activateReporting(context.reporting);
+		createContext().push(context);
+		return context;
+	}
+
 	/**
 	 * Completes context attached to the current thread
 	 *
@@ -190,10 +212,24 @@ public class LoggingContext {
 	private final Maybe<String> itemUuid;
 	/* Whether Image should be converted to BlackAndWhite */
 	private final boolean convertImages;
+	/* Counted by Launch#isReportingActive until the context is completed */
+	private final AtomicBoolean reporting = new AtomicBoolean();
 
 	LoggingContext(@Nonnull final Maybe<String> launchUuid, @Nullable final Maybe<String> itemUuid,
 			@Nonnull final ReportPortalClient client, @Nonnull final Scheduler scheduler, @Nonnull final ListenerParameters parameters,
 			@Nonnull final FlowableSubscriber<BatchSaveOperatingRS> loggingSubscriber) {
+		this(launchUuid,
+				itemUuid,
+				rqs -> client.log(HttpRequestUtils.buildLogMultiPartRequest(rqs)),
+				scheduler,
+				parameters,
+				loggingSubscriber
+		);
+	}
+
+	LoggingContext(@Nonnull final Maybe<String> launchUuid, @Nullable final Maybe<String> itemUuid,
+			@Nonnull final Function<List<SaveLogRQ>, Maybe<BatchSaveOperatingRS>> logSender, @Nonnull final Scheduler scheduler,
+			@Nonnull final ListenerParameters parameters, @Nonnull final FlowableSubscriber<BatchSaveOperatingRS> loggingSubscriber) {
 		this.launchUuid = launchUuid;
 		this.itemUuid = itemUuid;
 		this.emitter = PublishSubject.create();
@@ -203,8 +239,7 @@ public class LoggingContext {
 						new FlowableFromObservable<>(emitter).flatMap((Function<Maybe<SaveLogRQ>, Publisher<SaveLogRQ>>) Maybe::toFlowable),
 						parameters
 				))
-				.flatMap((Function<List<SaveLogRQ>, Flowable<BatchSaveOperatingRS>>) rqs -> client.log(HttpRequestUtils.buildLogMultiPartRequest(
-						rqs)).toFlowable())
+				.flatMap((Function<List<SaveLogRQ>, Flowable<BatchSaveOperatingRS>>) rqs -> logSender.apply(rqs).toFlowable())
 				.observeOn(scheduler)
 				.onBackpressureBuffer(parameters.getRxBufferSize(), false, true)
 				.subscribe(loggingSubscriber);
@@ -242,6 +277,16 @@ public class LoggingContext {
 		emitter.onNext(launchUuid.zipWith(logItemUuid, (launchId, itemId) -> prepareRequest(launchId, itemId, logSupplier)));
 	}
 
+	/**
+	 * Returns a {@link Completable} which completes once the context is completed, without completing it.
+	 *
+	 * @return {@link Completable}
+	 */
+	@Nonnull
+	Completable whenCompleted() {
+		return emitter.ignoreElements();
+	}
+
 	/**
 	 * Marks flow as completed
 	 *
@@ -250,6 +295,7 @@ public class LoggingContext {
 	@Nonnull
 	public Completable completed() {
 		emitter.onComplete();
+		Launch.deactivateReporting(reporting);
 		return emitter.ignoreElements();
 	}
 
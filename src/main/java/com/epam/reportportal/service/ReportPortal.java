@@ -28,7 +28,6 @@ import com.epam.reportportal.utils.properties.PropertiesLoader;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.reactivex.Maybe;
 import io.reactivex.schedulers.Schedulers;
 import okhttp3.Cookie;
@@ -59,7 +58,6 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Function;
 
 import static com.epam.reportportal.service.LaunchLoggingContext.DEFAULT_LAUNCH_KEY;
@@ -213,6 +211,14 @@ public class ReportPortal {
 	 * @return true if log has been emitted
 	 */
 	public static boolean emitLog(final Function<String, SaveLogRQ> logSupplier) {
+		if (!Launch.isReportingActive()) {
+			return false;
+		}
+		// a nested step postponed by compaction is started, so the log is attached to the step, not to its parent
+		final Launch launch = Launch.currentLaunch();
+		if (launch != null) {
+			launch.getStepReporter().startPendingStep();
+		}
 		final LoggingContext loggingContext = LoggingContext.context();
 		if (null != loggingContext) {
 			loggingContext.emit(logSupplier);
@@ -228,6 +234,9 @@ public class ReportPortal {
 	 * @return true if log has been emitted
 	 */
 	public static boolean emitLaunchLog(final Function<String, SaveLogRQ> logSupplier) {
+		if (!Launch.isReportingActive()) {
+			return false;
+		}
 		final LaunchLoggingContext launchLoggingContext = LaunchLoggingContext.context(DEFAULT_LAUNCH_KEY);
 		if (null != launchLoggingContext) {
 			launchLoggingContext.emit(logSupplier);
@@ -244,6 +253,9 @@ public class ReportPortal {
 	 * @return true if log has been emitted
 	 */
 	public static boolean emitLog(Maybe<String> itemUuid, final Function<String, SaveLogRQ> logSupplier) {
+		if (!Launch.isReportingActive()) {
+			return false;
+		}
 		final LoggingContext loggingContext = LoggingContext.context();
 		if (null != loggingContext) {
 			loggingContext.emit(itemUuid, logSupplier);
@@ -261,6 +273,9 @@ public class ReportPortal {
 	 * @return true if log has been emitted
 	 */
 	public static boolean emitLog(final String message, final String level, final Date time) {
+		if (!Launch.isReportingActive()) {
+			return false;
+		}
 		return emitLog(itemUuid -> {
 			SaveLogRQ rq = new SaveLogRQ();
 			rq.setLevel(level);
@@ -281,6 +296,9 @@ public class ReportPortal {
 	 * @return true if log has been emitted
 	 */
 	public static boolean emitLaunchLog(final String message, final String level, final Date time) {
+		if (!Launch.isReportingActive()) {
+			return false;
+		}
 		return emitLaunchLog(launchUuid -> {
 			SaveLogRQ rq = new SaveLogRQ();
 			rq.setLevel(level);
@@ -319,6 +337,9 @@ public class ReportPortal {
 	 * @return true if log has been emitted
 	 */
 	public static boolean emitLog(final String message, final String level, final Date time, final File file) {
+		if (!Launch.isReportingActive()) {
+			return false;
+		}
 		return emitLog(itemUuid -> {
 			SaveLogRQ rq = new SaveLogRQ();
 			rq.setItemUuid(itemUuid);
@@ -337,6 +358,9 @@ public class ReportPortal {
 	 * @return true if log has been emitted
 	 */
 	public static boolean emitLaunchLog(final String message, final String level, final Date time, final File file) {
+		if (!Launch.isReportingActive()) {
+			return false;
+		}
 		return emitLaunchLog(launchUuid -> {
 			SaveLogRQ rq = new SaveLogRQ();
 			rq.setLaunchUuid(launchUuid);
@@ -365,6 +389,9 @@ public class ReportPortal {
 	}
 
 	public static boolean emitLog(final ReportPortalMessage message, final String level, final Date time) {
+		if (!Launch.isReportingActive()) {
+			return false;
+		}
 		return emitLog(itemUuid -> {
 			SaveLogRQ rq = new SaveLogRQ();
 			rq.setItemUuid(itemUuid);
@@ -374,6 +401,9 @@ public class ReportPortal {
 	}
 
 	public static boolean emitLaunchLog(final ReportPortalMessage message, final String level, final Date time) {
+		if (!Launch.isReportingActive()) {
+			return false;
+		}
 		return emitLaunchLog(launchUuid -> {
 			SaveLogRQ rq = new SaveLogRQ();
 			rq.setLaunchUuid(launchUuid);
@@ -592,8 +622,6 @@ public class ReportPortal {
 	}
 
 	private static ExecutorService buildExecutorService(ListenerParameters params) {
-		return Executors.newFixedThreadPool(params.getIoPoolSize(),
-				new ThreadFactoryBuilder().setNameFormat("rp-io-%s").setDaemon(true).build()
-		);
+		return ClientRuntime.newIoExecutor(params);
 	}
 }
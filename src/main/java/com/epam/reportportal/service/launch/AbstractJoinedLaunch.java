@@ -17,31 +17,39 @@
 package com.epam.reportportal.service.launch;
 
 import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ClientRuntime;
 import com.epam.reportportal.service.LaunchIdLock;
 import com.epam.reportportal.service.LaunchImpl;
 import com.epam.reportportal.service.ReportPortalClient;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.reactivex.Maybe;
 
 import java.util.Random;
-import java.util.concurrent.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The class for common logic for joined launches.
  */
 public class AbstractJoinedLaunch extends LaunchImpl {
+	/**
+	 * An instance is considered live for {@link ListenerParameters#getLockWaitTimeout()} since its last heartbeat, so heartbeats are sent
+	 * several times per the timeout and a single late heartbeat does not make the instance look gone.
+	 */
+	static final int HEARTBEATS_PER_TIMEOUT = 3;
+
 	final LaunchIdLock lock;
 	volatile String uuid;
-	private final ScheduledExecutorService updater = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat(
-			"rp-poll").setDaemon(true).build());
 	private final ScheduledFuture<?> updateTask;
 
 	private static ScheduledFuture<?> getUpdateTask(String instanceUuid, long updateInterval, LaunchIdLock launchIdLock,
-			ScheduledExecutorService service) {
+			ListenerParameters parameters) {
 		Random r = new Random();
 		int delay = updateInterval > Integer.MAX_VALUE ? r.nextInt(Integer.MAX_VALUE) : r.nextInt((int) updateInterval);
-		return service.scheduleWithFixedDelay(() -> launchIdLock.updateInstanceUuid(instanceUuid),
+		// lock updates wait for files and sockets, so they run on lock threads and do not hold the shared scheduler
+		return ClientRuntime.scheduleBlockingWithFixedDelay(parameters,
+				() -> launchIdLock.updateInstanceUuid(instanceUuid),
 				delay,
 				updateInterval,
 				TimeUnit.MILLISECONDS
@@ -53,7 +61,7 @@ public class AbstractJoinedLaunch extends LaunchImpl {
 		super(rpClient, parameters, launch, executorService);
 		lock = launchIdLock;
 		uuid = instanceUuid;
-		updateTask = getUpdateTask(instanceUuid, parameters.getLockWaitTimeout(), launchIdLock, updater);
+		updateTask = getUpdateTask(instanceUuid, getHeartbeatInterval(parameters), launchIdLock, parameters);
 	}
 
 	public AbstractJoinedLaunch(ReportPortalClient rpClient, ListenerParameters parameters, Maybe<String> launch,
@@ -61,11 +69,14 @@ public class AbstractJoinedLaunch extends LaunchImpl {
 		super(rpClient, parameters, launch, executorService);
 		lock = launchIdLock;
 		uuid = instanceUuid;
-		updateTask = getUpdateTask(instanceUuid, parameters.getLockWaitTimeout(), launchIdLock, updater);
+		updateTask = getUpdateTask(instanceUuid, getHeartbeatInterval(parameters), launchIdLock, parameters);
+	}
+
+	static long getHeartbeatInterval(ListenerParameters parameters) {
+		return Math.max(parameters.getLockWaitTimeout() / HEARTBEATS_PER_TIMEOUT, 1L);
 	}
 
 	void stopRunning() {
 		updateTask.cancel(false);
-		updater.shutdown();
 	}
 }
@@ -20,15 +20,19 @@ import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.Launch;
 import com.epam.reportportal.service.LaunchIdLock;
 import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.service.logs.LogForwardingServer;
 import com.epam.reportportal.utils.Waiter;
 import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import io.reactivex.Maybe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nonnull;
 import java.util.Calendar;
 import java.util.Collection;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.HashSet;
+import java.util.concurrent.*;
 
 import static java.util.Optional.ofNullable;
 
@@ -36,15 +40,47 @@ import static java.util.Optional.ofNullable;
  * The class represents a {@link Launch} which starts and reports into its own one.
  */
 public class PrimaryLaunch extends AbstractJoinedLaunch {
+	private static final Logger LOGGER = LoggerFactory.getLogger(PrimaryLaunch.class);
+
+	private volatile LogForwardingServer logForwardingServer;
+
 	public PrimaryLaunch(ReportPortalClient rpClient, ListenerParameters parameters, StartLaunchRQ launch, ExecutorService executorService,
 			LaunchIdLock launchIdLock, String instanceUuid) {
 		super(rpClient, parameters, launch, executorService, launchIdLock, instanceUuid);
 	}
 
-	@Override
-	public void finish(final FinishExecutionRQ rq) {
-		stopRunning();
+	/**
+	 * Wait for secondary launches on the lock's completion future. The same way as polling does, the wait lasts while the set of live
+	 * instances keeps changing at least once per client join timeout.
+	 */
+	private void waitForCompletion(@Nonnull final CompletableFuture<Void> completion) {
+		long timeout = getParameters().getClientJoinTimeout();
+		Collection<String> launches = null;
+		try {
+			while (true) {
+				try {
+					completion.get(timeout, TimeUnit.MILLISECONDS);
+					return;
+				} catch (TimeoutException e) {
+					Collection<String> current = new HashSet<>(lock.getLiveInstanceUuids());
+					if (current.equals(launches)) {
+						LOGGER.warn("Secondary launches did not finish in time: {}", current);
+						return;
+					}
+					launches = current;
+				}
+			}
+		} catch (InterruptedException e) {
+			// someone just interrupted our thread, normally exit
+			LOGGER.warn("Wait for all launches end was interrupted");
+		} catch (ExecutionException e) {
+			LOGGER.warn("Unable to wait for all launches end: {}", e.getLocalizedMessage(), e);
+		} finally {
+			completion.cancel(false);
+		}
+	}
 
+	private void pollForCompletion() {
 		Callable<Boolean> finishCondition = new Callable<Boolean>() {
 			private volatile Collection<String> launches;
 
@@ -69,6 +105,51 @@ public class PrimaryLaunch extends AbstractJoinedLaunch {
 					.pollingEvery(1, TimeUnit.SECONDS);
 			finished = waiter.till(finishCondition);
 		}
+	}
+
+	/**
+	 * Start the launch and publish its start through the Launch ID lock, so secondary launches do not need to poll the server. If log
+	 * forwarding is enabled, a server for logs of secondary launches is started beforehand.
+	 *
+	 * @return launch ID
+	 */
+	@Nonnull
+	@Override
+	public Maybe<String> start() {
+		if (getParameters().isLogForwarding()) {
+			logForwardingServer = LogForwardingServer.start(uuid, this::sendLogs, getScheduler(), getParameters());
+		}
+		Maybe<String> result = super.start();
+		result.subscribe(
+				id -> lock.publishLaunchStart(uuid),
+				error -> LOGGER.debug("Launch start is not published: {}", error.getLocalizedMessage())
+		);
+		return result;
+	}
+
+	private void completeLogForwarding() {
+		LogForwardingServer server = logForwardingServer;
+		if (server == null) {
+			return;
+		}
+		logForwardingServer = null;
+		Throwable error = server.complete().timeout(getParameters().getReportingTimeout(), TimeUnit.SECONDS).blockingGet();
+		if (error != null) {
+			LOGGER.error("Unable to upload forwarded logs of secondary launches", error);
+		}
+	}
+
+	@Override
+	public void finish(final FinishExecutionRQ rq) {
+		stopRunning();
+
+		CompletableFuture<Void> completion = lock.getInstancesCompletion(uuid);
+		if (completion != null) {
+			waitForCompletion(completion);
+		} else {
+			pollForCompletion();
+		}
+		completeLogForwarding();
 		lock.finishInstanceUuid(uuid);
 		rq.setEndTime(Calendar.getInstance().getTime());
 		super.finish(rq);
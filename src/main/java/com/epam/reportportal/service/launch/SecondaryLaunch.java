@@ -21,21 +21,23 @@ import com.epam.reportportal.service.Launch;
 import com.epam.reportportal.service.LaunchIdLock;
 import com.epam.reportportal.service.LaunchLoggingContext;
 import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.service.logs.LogForwardingClient;
 import com.epam.reportportal.utils.Waiter;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
 import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
 import com.epam.ta.reportportal.ws.model.launch.LaunchResource;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.disposables.Disposable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
+import java.util.List;
 import java.util.Queue;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
 
 /**
  * The class represents a {@link Launch} which reports into existing one and never starts its own.
@@ -44,14 +46,76 @@ public class SecondaryLaunch extends AbstractJoinedLaunch {
 	private static final Logger LOGGER = LoggerFactory.getLogger(SecondaryLaunch.class);
 
 	private final ReportPortalClient client;
+	private final LogForwardingClient logForwardingClient;
+	/* A primary launch without a heartbeat within the lock wait timeout is gone, so the start signal is awaited as long */
+	private final long launchStartTimeout;
 
 	public SecondaryLaunch(ReportPortalClient rpClient, ListenerParameters parameters, Maybe<String> launch,
 			ExecutorService executorService, LaunchIdLock launchIdLock, String instanceUuid) {
 		super(rpClient, parameters, launch, executorService, launchIdLock, instanceUuid);
 		client = rpClient;
+		logForwardingClient = parameters.isLogForwarding() ? new LogForwardingClient(parameters, launch) : null;
+		launchStartTimeout = parameters.getLockWaitTimeout();
+	}
+
+	@Nonnull
+	private Maybe<BatchSaveOperatingRS> uploadLogs(@Nonnull final List<List<SaveLogRQ>> batches) {
+		return Flowable.fromIterable(batches).concatMapMaybe(super::sendLogs).lastElement();
+	}
+
+	/**
+	 * Forward log entries to the primary launch process if log forwarding is enabled, upload them directly otherwise or if the primary
+	 * launch process is not available. Entries are forwarded on the calling thread, so all of them are sent by the moment the launch
+	 * logging contexts are completed. Forwarded entries, which the primary launch process did not acknowledge before a connection
+	 * failure, are uploaded directly too.
+	 *
+	 * @param rqs log entries
+	 * @return batch save response
+	 */
+	@Nonnull
+	@Override
+	protected Maybe<BatchSaveOperatingRS> sendLogs(@Nonnull final List<SaveLogRQ> rqs) {
+		if (logForwardingClient == null || logForwardingClient.isFailed()) {
+			return super.sendLogs(rqs);
+		}
+		return Maybe.defer(() -> {
+			List<List<SaveLogRQ>> rest = logForwardingClient.send(rqs);
+			return rest.isEmpty() ? Maybe.just(new BatchSaveOperatingRS()) : uploadLogs(rest);
+		});
+	}
+
+	/**
+	 * Wait for the launch start signal from the primary launch through the Launch ID lock.
+	 *
+	 * @return true if the primary launch published the launch start, false if the lock does not support the signal, the primary
+	 * launch is gone or the signal was not received within the lock wait timeout
+	 */
+	private boolean waitForLaunchStartSignal() {
+		String launchUuid = launch.blockingGet();
+		if (launchUuid == null) {
+			return false;
+		}
+		CompletableFuture<Boolean> started = lock.getLaunchStart(launchUuid);
+		if (started == null) {
+			return false;
+		}
+		try {
+			return Boolean.TRUE.equals(started.get(launchStartTimeout, TimeUnit.MILLISECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (ExecutionException | TimeoutException e) {
+			LOGGER.debug("Launch start signal was not received: {}", e.getLocalizedMessage());
+			return false;
+		} finally {
+			started.cancel(false);
+		}
 	}
 
 	private void waitForLaunchStart() {
+		if (waitForLaunchStartSignal()) {
+			return;
+		}
 		new Waiter("Wait for Launch start").pollingEvery(1, TimeUnit.SECONDS).timeoutFail().till(new Callable<Boolean>() {
 			private volatile Boolean result = null;
 			private final Queue<Disposable> disposables = new ConcurrentLinkedQueue<>();
@@ -97,8 +161,22 @@ public class SecondaryLaunch extends AbstractJoinedLaunch {
 		if (throwable != null) {
 			LOGGER.error("Unable to finish secondary launch in ReportPortal", throwable);
 		}
+		if (logForwardingClient != null) {
+			List<List<SaveLogRQ>> rest = logForwardingClient.flush();
+			logForwardingClient.close();
+			if (!rest.isEmpty()) {
+				LOGGER.warn("The primary launch did not confirm forwarded logs, uploading them directly");
+				Throwable uploadError = uploadLogs(rest).ignoreElement()
+						.timeout(getParameters().getReportingTimeout(), TimeUnit.SECONDS)
+						.blockingGet();
+				if (uploadError != null) {
+					LOGGER.error("Unable to upload logs which were not forwarded to the primary launch", uploadError);
+				}
+			}
+		}
 		// ignore super call, since only primary launch should finish it
 		stopRunning();
 		lock.finishInstanceUuid(uuid);
+		finishReporting();
 	}
 }
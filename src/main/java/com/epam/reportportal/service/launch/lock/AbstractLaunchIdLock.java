@@ -17,13 +17,158 @@
 package com.epam.reportportal.service.launch.lock;
 
 import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ClientRuntime;
 import com.epam.reportportal.service.LaunchIdLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public abstract class AbstractLaunchIdLock implements LaunchIdLock {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AbstractLaunchIdLock.class);
 
 	protected final ListenerParameters parameters;
+	private final ExecutorService stateChecker;
+
+	private final Map<CompletableFuture<Void>, String> completions = new ConcurrentHashMap<>();
+	private final Map<CompletableFuture<Boolean>, String> launchStarts = new ConcurrentHashMap<>();
+	private final AtomicBoolean checkScheduled = new AtomicBoolean();
+	private int waiters;
 
 	public AbstractLaunchIdLock(ListenerParameters listenerParameters) {
 		parameters = listenerParameters;
+		stateChecker = ClientRuntime.getLockExecutor();
+	}
+
+	/**
+	 * Period of state checks for completion and launch start futures. The checks catch instances which are gone without finishing, so by
+	 * default the period is equal to instance record timeout.
+	 *
+	 * @return check period in milliseconds
+	 */
+	protected long getCheckInterval() {
+		return parameters.getLockWaitTimeout();
+	}
+
+	/**
+	 * Called when the first completion or launch start future is created. Modes with change notifications subscribe on them here.
+	 */
+	protected void startWatching() {
+	}
+
+	/**
+	 * Called when the last completion or launch start future is done.
+	 */
+	protected void stopWatching() {
+	}
+
+	private synchronized void addWaiter() {
+		if (waiters++ == 0) {
+			startWatching();
+		}
+	}
+
+	private synchronized void removeWaiter() {
+		if (--waiters == 0) {
+			stopWatching();
+		}
+	}
+
+	/**
+	 * Notify waiting futures that the lock state could be changed. The check itself runs asynchronously on a lock thread, so the method
+	 * is safe to call from I/O and scheduler threads.
+	 */
+	protected void notifyInstancesChanged() {
+		if ((!completions.isEmpty() || !launchStarts.isEmpty()) && checkScheduled.compareAndSet(false, true)) {
+			stateChecker.execute(() -> {
+				checkScheduled.set(false);
+				checkState();
+			});
+		}
+	}
+
+	private void checkState() {
+		try {
+			if (!completions.isEmpty()) {
+				Collection<String> live = getLiveInstanceUuids();
+				completions.forEach((completion, uuid) -> {
+					if (live.isEmpty() || (live.size() == 1 && live.contains(uuid))) {
+						completion.complete(null);
+					}
+				});
+			}
+			launchStarts.forEach((start, launchUuid) -> {
+				Boolean started = checkLaunchStart(launchUuid);
+				if (started != null) {
+					start.complete(started);
+				}
+			});
+		} catch (RuntimeException e) {
+			LOGGER.warn("Unable to check launch lock state: {}", e.getLocalizedMessage(), e);
+		}
+	}
+
+	@Nonnull
+	private <T> CompletableFuture<T> register(@Nonnull final Map<CompletableFuture<T>, String> futures, @Nonnull final String uuid) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		addWaiter();
+		futures.put(future, uuid);
+		long interval = Math.max(getCheckInterval(), 1L);
+		ScheduledFuture<?> check = ClientRuntime.scheduleBlockingWithFixedDelay(parameters,
+				this::checkState,
+				interval,
+				interval,
+				TimeUnit.MILLISECONDS
+		);
+		future.whenComplete((r, t) -> {
+			check.cancel(false);
+			futures.remove(future);
+			removeWaiter();
+		});
+		notifyInstancesChanged();
+		return future;
+	}
+
+	/**
+	 * Check if the primary launch published its start.
+	 *
+	 * @param launchUuid primary launch UUID
+	 * @return true if the launch was started, false if the primary instance is gone, null if the start is still awaited
+	 */
+	@Nullable
+	protected Boolean checkLaunchStart(@Nonnull final String launchUuid) {
+		return getLiveInstanceUuids().contains(launchUuid) ? null : Boolean.FALSE;
+	}
+
+	/**
+	 * Return a future which completes when all instances except the given one finish. The future is completed on the lock's change
+	 * notifications and on periodic checks with {@link #getCheckInterval()} period. Cancel the future to stop waiting.
+	 *
+	 * @param instanceUuid a Client instance UUID of the waiting instance
+	 * @return a completion future
+	 */
+	@Nonnull
+	@Override
+	public CompletableFuture<Void> getInstancesCompletion(@Nonnull final String instanceUuid) {
+		return register(completions, instanceUuid);
+	}
+
+	/**
+	 * Return a future which completes with true when the primary launch publishes its start, or with false when the primary instance is
+	 * gone. The future is completed on the lock's change notifications and on periodic checks with {@link #getCheckInterval()} period.
+	 * Cancel the future to stop waiting.
+	 *
+	 * @param launchUuid primary launch UUID
+	 * @return a launch start future
+	 */
+	@Nonnull
+	@Override
+	public CompletableFuture<Boolean> getLaunchStart(@Nonnull final String launchUuid) {
+		return register(launchStarts, launchUuid);
 	}
 }
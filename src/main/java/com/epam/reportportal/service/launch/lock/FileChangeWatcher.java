@@ -0,0 +1,212 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.launch.lock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wakes up threads which wait for a file to be changed by another process. The class uses a single {@link WatchService} and a single
+ * daemon thread per process. If the file system does not support watching, waiting degrades to a plain timed wait.
+ */
+final class FileChangeWatcher {
+	private static final Logger LOGGER = LoggerFactory.getLogger(FileChangeWatcher.class);
+
+	private static final FileChangeWatcher INSTANCE = new FileChangeWatcher();
+
+	private final Map<Path, WatchKey> directories = new ConcurrentHashMap<>();
+	private final Set<Path> files = ConcurrentHashMap.newKeySet();
+	private final Set<Runnable> listeners = new CopyOnWriteArraySet<>();
+	private final Object monitor = new Object();
+
+	private volatile WatchService watchService;
+	private boolean initialized;
+	private long version;
+
+	private FileChangeWatcher() {
+	}
+
+	@Nonnull
+	static FileChangeWatcher getInstance() {
+		return INSTANCE;
+	}
+
+	private synchronized WatchService getWatchService() {
+		if (!initialized) {
+			initialized = true;
+			try {
+				watchService = FileSystems.getDefault().newWatchService();
+				Thread thread = new Thread(this::processEvents, "rp-file-lock-watcher");
+				thread.setDaemon(true);
+				thread.start();
+			} catch (IOException | UnsupportedOperationException e) {
+				LOGGER.debug("Unable to create file watch service, falling back to timed waits: {}", e.getLocalizedMessage(), e);
+			}
+		}
+		return watchService;
+	}
+
+	private void processEvents() {
+		WatchService service = watchService;
+		while (true) {
+			WatchKey key;
+			try {
+				key = service.take();
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			}
+			Path directory = (Path) key.watchable();
+			boolean changed = false;
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+					changed = true;
+				} else {
+					changed |= files.contains(directory.resolve((Path) event.context()));
+				}
+			}
+			if (!key.reset()) {
+				// the directory is gone or is not watched anymore, it will be registered again on the next watch call
+				directories.remove(directory, key);
+			}
+			if (changed) {
+				synchronized (monitor) {
+					version++;
+					monitor.notifyAll();
+				}
+				notifyListeners();
+			}
+		}
+	}
+
+	private void notifyListeners() {
+		for (Runnable listener : listeners) {
+			try {
+				listener.run();
+			} catch (RuntimeException e) {
+				LOGGER.warn("File change listener failed: {}", e.getLocalizedMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * Add a listener which is called on the watcher thread on every change of watched files, so it should not block.
+	 *
+	 * @param listener a change listener
+	 */
+	void addListener(@Nonnull Runnable listener) {
+		listeners.add(listener);
+	}
+
+	void removeListener(@Nonnull Runnable listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Start watching a file, if it is not watched yet, and return the current change counter value. The value should be obtained before a
+	 * file check to not miss a change which happens between the check and {@link #await(long, long)} call.
+	 *
+	 * @param file a file to watch
+	 * @return change counter value
+	 */
+	long watch(@Nonnull Path file) {
+		Path path = file.toAbsolutePath().normalize();
+		Path directory = path.getParent();
+		WatchService service = getWatchService();
+		files.add(path);
+		if (service != null && directory != null && !directories.containsKey(directory)) {
+			register(service, directory);
+		}
+		synchronized (monitor) {
+			return version;
+		}
+	}
+
+	private synchronized void register(@Nonnull WatchService service, @Nonnull Path directory) {
+		if (directories.containsKey(directory)) {
+			return;
+		}
+		try {
+			directories.put(directory,
+					directory.register(service,
+							StandardWatchEventKinds.ENTRY_CREATE,
+							StandardWatchEventKinds.ENTRY_MODIFY,
+							StandardWatchEventKinds.ENTRY_DELETE
+					)
+			);
+		} catch (IOException | ClosedWatchServiceException e) {
+			LOGGER.debug("Unable to watch '{}' directory: {}", directory, e.getLocalizedMessage(), e);
+		}
+	}
+
+	/**
+	 * Stop watching a file, for instance, when it is deleted by the process. The watch key of the file directory is canceled if no other
+	 * file in the directory is watched. A later {@link #watch(Path)} call registers the directory again.
+	 *
+	 * @param file a file to stop watching
+	 */
+	synchronized void unwatch(@Nonnull Path file) {
+		Path path = file.toAbsolutePath().normalize();
+		Path directory = path.getParent();
+		files.remove(path);
+		if (directory == null) {
+			return;
+		}
+		// the key is removed before the check, so a concurrent watch call either registers the directory again or is seen by the check
+		WatchKey key = directories.remove(directory);
+		if (key == null) {
+			return;
+		}
+		if (files.stream().anyMatch(f -> directory.equals(f.getParent()))) {
+			directories.put(directory, key);
+		} else {
+			key.cancel();
+		}
+	}
+
+	boolean isWatched(@Nonnull Path directory) {
+		return directories.containsKey(directory.toAbsolutePath().normalize());
+	}
+
+	/**
+	 * Wait until any watched file is changed since the given counter value, or until the timeout.
+	 *
+	 * @param lastVersion  change counter value returned by {@link #watch(Path)} method
+	 * @param timeoutNanos maximum time to wait, in nanoseconds
+	 * @return true if a change happened, false on timeout
+	 * @throws InterruptedException if the current thread was interrupted
+	 */
+	boolean await(long lastVersion, long timeoutNanos) throws InterruptedException {
+		long deadline = System.nanoTime() + timeoutNanos;
+		synchronized (monitor) {
+			long remaining = timeoutNanos;
+			while (version == lastVersion && remaining > 0) {
+				TimeUnit.NANOSECONDS.timedWait(monitor, remaining);
+				remaining = deadline - System.nanoTime();
+			}
+			return version != lastVersion;
+		}
+	}
+}
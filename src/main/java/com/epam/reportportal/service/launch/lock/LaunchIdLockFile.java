@@ -19,7 +19,6 @@ package com.epam.reportportal.service.launch.lock;
 import com.epam.reportportal.exception.InternalReportPortalClientException;
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.LaunchIdLock;
-import com.epam.reportportal.utils.Waiter;
 import com.epam.reportportal.utils.properties.ListenerProperty;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
@@ -36,8 +35,13 @@ import java.nio.channels.FileLock;
 import java.nio.channels.OverlappingFileLockException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import static java.util.Optional.ofNullable;
@@ -46,6 +50,12 @@ import static java.util.Optional.ofNullable;
  * A service to perform blocking I/O operations on '.lock' and '.sync' file to get single launch UUID for multiple clients on a machine.
  * This class uses a local storage disk, therefore applicable in scope of a single hardware machine. You can control lock and sync file
  * paths with {@link ListenerProperty#FILE_LOCK_NAME} and {@link ListenerProperty#FILE_SYNC_NAME} properties.
+ * <p>
+ * Each process keeps a single handle for the '.sync' file. Threads of the same process queue up on an in-process lock, and the thread
+ * which waits for another process reacts on file changes through {@link java.nio.file.WatchService}, short timed waits are used only as
+ * a fallback. The fallback is still needed with a working watcher: a file lock release is not a file change, so a process which only
+ * reads the file under the lock, or whose change event is delivered before the release, produces no event to wake up the waiter. The
+ * watcher thread is one per process and is not a part of the {@link com.epam.reportportal.service.ClientRuntime} pools.
  *
  * @author <a href="mailto:vadzim_hushchanskou@epam.com">Vadzim Hushchanskou</a>
  */
@@ -55,10 +65,17 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock implements LaunchIdLo
 	public static final Charset LOCK_FILE_CHARSET = StandardCharsets.ISO_8859_1;
 	public static final String TIME_SEPARATOR = ":";
 	private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+	private static final String START_FILE_SUFFIX = ".started";
+	private static final long MIN_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private static final Map<String, SharedFile> SHARED_FILES = new ConcurrentHashMap<>();
 
 	private final File lockFile;
 	private final File syncFile;
+	private final File startFile;
 	private final long fileWaitTimeout;
+	private final Runnable changeListener = this::notifyInstancesChanged;
 	private static volatile String lockUuid;
 	private static volatile Pair<RandomAccessFile, FileLock> mainLock;
 
@@ -96,10 +113,105 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock implements LaunchIdLo
 		}
 	}
 
+	/**
+	 * A file handle which is opened once per process and reused by all I/O operations on the file.
+	 */
+	private static class SharedFile {
+		private final File file;
+		private final ReentrantLock processLock = new ReentrantLock();
+		private RandomAccessFile access;
+		private Object fileKey;
+
+		private SharedFile(@Nonnull final File file) {
+			this.file = file;
+		}
+
+		/**
+		 * Read an identity of the file at the path: its file key, or its creation time on file systems without file keys, like Windows
+		 * ones.
+		 */
+		@Nullable
+		private Object readFileKey() throws IOException {
+			BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+			return ofNullable(attributes.fileKey()).orElseGet(attributes::creationTime);
+		}
+
+		private boolean isStale() {
+			try {
+				Object key = readFileKey();
+				return key != null && !key.equals(fileKey);
+			} catch (IOException e) {
+				// the file was removed by another process
+				return true;
+			}
+		}
+
+		/**
+		 * Try to lock the file without waiting, must be called by a thread which holds the process lock.
+		 *
+		 * @return the file handle and its lock, or null if the file is locked by another process
+		 */
+		@Nullable
+		private Pair<RandomAccessFile, FileLock> tryLock() {
+			final String filePath = file.getPath();
+			for (int i = 0; i < 2; i++) {
+				if (access == null) {
+					try {
+						access = new RandomAccessFile(file, "rw");
+						fileKey = readFileKey();
+					} catch (IOException e) {
+						LOGGER.debug("Unable to open '{}' file: {}", filePath, e.getLocalizedMessage(), e);
+						close();
+						return null;
+					}
+				}
+				FileLock lock;
+				try {
+					lock = access.getChannel().tryLock();
+				} catch (OverlappingFileLockException e) {
+					LOGGER.debug("Lock already acquired on '{}' file: {}", filePath, e.getLocalizedMessage(), e);
+					return null;
+				} catch (IOException e) {
+					LOGGER.warn("Unexpected I/O exception while obtaining lock on '{}' file: {}", filePath, e.getLocalizedMessage(), e);
+					close();
+					return null;
+				}
+				if (lock == null) {
+					return null;
+				}
+				if (isStale()) {
+					// the file was deleted or replaced since the handle was opened
+					releaseLock(lock);
+					close();
+					continue;
+				}
+				try {
+					access.seek(0);
+					return Pair.of(access, lock);
+				} catch (IOException e) {
+					LOGGER.warn("Unable to rewind '{}' file: {}", filePath, e.getLocalizedMessage(), e);
+					releaseLock(lock);
+					close();
+					return null;
+				}
+			}
+			return null;
+		}
+
+		private void close() {
+			if (access != null) {
+				closeAccess(access);
+				access = null;
+				fileKey = null;
+			}
+		}
+	}
+
 	public LaunchIdLockFile(@Nonnull final ListenerParameters listenerParameters) {
 		super(listenerParameters);
 		lockFile = new File(parameters.getLockFileName());
 		syncFile = new File(parameters.getSyncFileName());
+		startFile = new File(parameters.getSyncFileName() + START_FILE_SUFFIX);
 		fileWaitTimeout = parameters.getLockWaitTimeout();
 	}
 
@@ -108,7 +220,7 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock implements LaunchIdLo
 		final String filePath = file.getPath();
 		RandomAccessFile lockAccess;
 		try {
-			lockAccess = new RandomAccessFile(file, "rwd");
+			lockAccess = new RandomAccessFile(file, "rw");
 		} catch (FileNotFoundException e) {
 			LOGGER.debug("Unable to open '{}' file: {}", filePath, e.getLocalizedMessage(), e);
 			return null;
@@ -183,19 +295,69 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock implements LaunchIdLo
 		return null;
 	}
 
+	@Nonnull
+	private static SharedFile getSharedFile(@Nonnull final File file) {
+		return SHARED_FILES.computeIfAbsent(file.getAbsolutePath(), p -> new SharedFile(file));
+	}
+
+	private static void closeSharedFile(@Nonnull final File file) {
+		SharedFile sharedFile = SHARED_FILES.get(file.getAbsolutePath());
+		if (sharedFile != null) {
+			sharedFile.processLock.lock();
+			try {
+				sharedFile.close();
+			} finally {
+				sharedFile.processLock.unlock();
+			}
+		}
+	}
+
+	private static long applyDiscrepancy(long waitNanos) {
+		double discrepancy = waitNanos * MAX_WAIT_TIME_DISCREPANCY;
+		return waitNanos + (long) ThreadLocalRandom.current().nextDouble(-discrepancy, discrepancy);
+	}
+
 	@Nullable
 	private <T> T executeBlockingOperation(@Nonnull final IoOperation<T> operation, @Nonnull final File file) {
-		return new Waiter("Wait for a blocking operation on file '" + file.getPath() + "'").duration(fileWaitTimeout, TimeUnit.MILLISECONDS)
-				.applyRandomDiscrepancy(MAX_WAIT_TIME_DISCREPANCY)
-				.till(() -> {
-					Pair<RandomAccessFile, FileLock> fileIo = obtainLock(file);
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(fileWaitTimeout);
+		SharedFile sharedFile = getSharedFile(file);
+		FileChangeWatcher watcher = FileChangeWatcher.getInstance();
+		try {
+			if (!sharedFile.processLock.tryLock(fileWaitTimeout, TimeUnit.MILLISECONDS)) {
+				return null;
+			}
+			try {
+				long waitNanos = MIN_WAIT_NANOS;
+				while (true) {
+					long version = watcher.watch(file.toPath());
+					Pair<RandomAccessFile, FileLock> fileIo = sharedFile.tryLock();
 					if (fileIo != null) {
 						T result = executeOperation(operation, fileIo);
-						closeIo(fileIo);
-						return result;
+						releaseLock(fileIo.getRight());
+						if (result != null) {
+							return result;
+						}
 					}
-					return null;
-				});
+					long remaining = deadline - System.nanoTime();
+					if (remaining <= 0) {
+						return null;
+					}
+					// a change event wakes us up at once, the timeout covers lock releases, which are not file changes
+					if (watcher.await(version, Math.min(remaining, applyDiscrepancy(waitNanos)))) {
+						// the file is being changed under the lock, which will be released soon
+						waitNanos = MIN_WAIT_NANOS;
+					} else {
+						waitNanos = Math.min(waitNanos * 2, MAX_WAIT_NANOS);
+					}
+				}
+			} finally {
+				sharedFile.processLock.unlock();
+			}
+		} catch (InterruptedException e) {
+			// someone just interrupted our thread, normally exit
+			LOGGER.warn("Wait for a blocking operation on file '" + file.getPath() + "' was interrupted");
+			return null;
+		}
 	}
 
 	private void rewriteWith(@Nonnull final RandomAccessFile access, @Nonnull final String content) throws IOException {
@@ -209,6 +371,7 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock implements LaunchIdLo
 			mainLock = null;
 		}
 		lockUuid = null;
+		closeSharedFile(syncFile);
 	}
 
 	@Nonnull
@@ -261,28 +424,36 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock implements LaunchIdLo
 			}
 			return lockUuid;
 		}
-		Pair<RandomAccessFile, FileLock> syncLock = obtainLock(syncFile);
-		if (syncLock != null) {
-			if (mainLock == null) {
-				Pair<RandomAccessFile, FileLock> lock = obtainLock(lockFile);
-				if (lock != null) {
-					// we are the main thread / process
-					lockUuid = instanceUuid;
-					mainLock = lock;
-					writeLaunchUuid(syncLock);
-					closeIo(syncLock);
-					return instanceUuid;
-				} else {
-					executeOperation(new LaunchRead(instanceUuid), syncLock);
-					closeIo(syncLock);
+		SharedFile sharedSync = getSharedFile(syncFile);
+		if (sharedSync.processLock.tryLock()) {
+			try {
+				Pair<RandomAccessFile, FileLock> syncLock = sharedSync.tryLock();
+				if (syncLock != null) {
+					try {
+						if (mainLock == null) {
+							Pair<RandomAccessFile, FileLock> lock = obtainLock(lockFile);
+							if (lock != null) {
+								// we are the main thread / process
+								lockUuid = instanceUuid;
+								mainLock = lock;
+								writeLaunchUuid(syncLock);
+								return instanceUuid;
+							} else {
+								executeOperation(new LaunchRead(instanceUuid), syncLock);
+							}
+						} else {
+							// another thread obtained main lock while we wait for .sync file
+							executeOperation(new UuidAppend(instanceUuid), syncLock);
+							return lockUuid;
+						}
+					} finally {
+						releaseLock(syncLock.getRight());
+					}
+					// main lock file already locked, just release sync lock and proceed with secondary launch logic
 				}
-			} else {
-				// another thread obtained main lock while we wait for .sync file
-				executeOperation(new UuidAppend(instanceUuid), syncLock);
-				closeIo(syncLock);
-				return lockUuid;
+			} finally {
+				sharedSync.processLock.unlock();
 			}
-			// main lock file already locked, just close sync lock and proceed with secondary launch logic
 		}
 		return obtainLaunch(instanceUuid);
 	}
@@ -369,17 +540,25 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock implements LaunchIdLo
 		};
 
 		Boolean isLast = executeBlockingOperation(uuidRemove, syncFile);
+		FileChangeWatcher watcher = FileChangeWatcher.getInstance();
 		if (isLast != null && isLast) {
+			closeSharedFile(syncFile);
 			if (!syncFile.delete()) {
 				LOGGER.warn("Unable to delete synchronization file: " + syncFile.getPath());
 			}
+			watcher.unwatch(syncFile.toPath());
 		}
 
 		if (mainLock != null && lockUuid.equals(instanceUuid)) {
+			if (startFile.exists() && !startFile.delete()) {
+				LOGGER.warn("Unable to delete launch start file: " + startFile.getPath());
+			}
 			reset();
 			if (!lockFile.delete()) {
 				LOGGER.warn("Unable to delete locking file: " + lockFile.getPath());
 			}
+			watcher.unwatch(startFile.toPath());
+			watcher.unwatch(lockFile.toPath());
 		}
 	}
 
@@ -404,4 +583,50 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock implements LaunchIdLo
 				.map(Pair::getValue)
 				.collect(Collectors.toSet());
 	}
+
+	@Override
+	protected void startWatching() {
+		FileChangeWatcher watcher = FileChangeWatcher.getInstance();
+		watcher.addListener(changeListener);
+		watcher.watch(syncFile.toPath());
+		watcher.watch(startFile.toPath());
+	}
+
+	@Override
+	protected void stopWatching() {
+		FileChangeWatcher.getInstance().removeListener(changeListener);
+	}
+
+	/**
+	 * Write the primary launch UUID into '.started' file next to the sync file.
+	 *
+	 * @param launchUuid the primary Launch UUID
+	 */
+	@Override
+	public void publishLaunchStart(@Nonnull final String launchUuid) {
+		if (mainLock == null || !launchUuid.equals(lockUuid)) {
+			return;
+		}
+		try {
+			Files.write(startFile.toPath(), launchUuid.getBytes(LOCK_FILE_CHARSET));
+		} catch (IOException e) {
+			LOGGER.warn("Unable to write launch start file '{}': {}", startFile.getPath(), e.getLocalizedMessage(), e);
+		}
+	}
+
+	@Nullable
+	@Override
+	protected Boolean checkLaunchStart(@Nonnull final String launchUuid) {
+		if (startFile.exists()) {
+			try {
+				if (launchUuid.equals(new String(Files.readAllBytes(startFile.toPath()), LOCK_FILE_CHARSET).trim())) {
+					return Boolean.TRUE;
+				}
+			} catch (IOException e) {
+				// the file is being written or removed, the next change or check will see it
+				LOGGER.debug("Unable to read launch start file '{}': {}", startFile.getPath(), e.getLocalizedMessage(), e);
+			}
+		}
+		return super.checkLaunchStart(launchUuid);
+	}
 }
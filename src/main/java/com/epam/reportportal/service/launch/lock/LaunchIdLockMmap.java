@@ -0,0 +1,683 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.launch.lock;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.LaunchIdLock;
+import com.epam.reportportal.utils.properties.ListenerProperty;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * A service to get single launch UUID for multiple clients on a machine through a memory-mapped registry file. The registry has a fixed
+ * size and consists of a header with the launch UUID and {@link #SLOT_NUMBER} fixed-size slots. Each client instance claims its own slot
+ * and updates a heartbeat timestamp in it with a single memory write, so neither heartbeats, nor live instance scans of the primary launch
+ * perform any file locking or I/O calls.
+ * <p>
+ * The primary launch is elected with a lock on '.lock' file, the same way as {@link LaunchIdLockFile} does, and the registry is stored in
+ * '.sync' file, see {@link ListenerProperty#FILE_LOCK_NAME} and {@link ListenerProperty#FILE_SYNC_NAME} properties. A slot belongs to a
+ * process while the process holds a lock on the slot's byte range, so the operating system frees slots of crashed processes.
+ * <p>
+ * Slot readers do not lock anything, so a slot is published in the following order: the heartbeat and the checksum are cleared, the UUID
+ * is written, then the UUID checksum and at last the heartbeat. Writes are separated with release fences and reads with acquire fences,
+ * see {@link #releaseFence()}. A reader accepts a UUID only if the checksum matches UUID bytes and neither the checksum nor the heartbeat
+ * has changed while the UUID was read, so a torn or reordered read is skipped till the next scan instead of reporting a wrong instance.
+ */
+public class LaunchIdLockMmap extends AbstractLaunchIdLock implements LaunchIdLock {
+	private static final Logger LOGGER = LoggerFactory.getLogger(LaunchIdLockMmap.class);
+
+	public static final Charset REGISTRY_CHARSET = StandardCharsets.ISO_8859_1;
+
+	/**
+	 * "RPJOIN01" in ASCII, marks a formatted registry file
+	 */
+	static final long MAGIC = 0x52504A4F494E3031L;
+	static final int SLOT_SIZE = 128;
+	static final int SLOT_NUMBER = 1024;
+	/**
+	 * The header occupies the first slot of the file
+	 */
+	static final int REGISTRY_SIZE = SLOT_SIZE * (SLOT_NUMBER + 1);
+
+	private static final int MAGIC_POSITION = 0;
+	private static final int SYNC_POSITION = 8;
+	private static final int SYNC_SIZE = 8;
+	private static final int STARTED_POSITION = 16;
+	private static final int LAUNCH_POSITION = 24;
+
+	private static final int HEARTBEAT_OFFSET = 0;
+	private static final int UUID_OFFSET = 8;
+	/**
+	 * UUID checksum is stored at the end of a slot, after the longest possible UUID
+	 */
+	static final int CHECKSUM_OFFSET = SLOT_SIZE - Long.BYTES;
+
+	/**
+	 * Maximum length of an instance UUID in bytes, UUIDs are stored as a length followed by UUID bytes
+	 */
+	static final int MAX_UUID_LENGTH = SLOT_SIZE - LAUNCH_POSITION - Integer.BYTES;
+
+	private static final long MIN_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+	private static final long CHECK_INTERVAL = 100;
+
+	private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+	private static final long FNV_PRIME = 0x100000001B3L;
+
+	private static final MethodHandle RELEASE_FENCE = findFence("releaseFence");
+	private static final MethodHandle ACQUIRE_FENCE = findFence("acquireFence");
+
+	private static final Map<String, Registry> REGISTRIES = new ConcurrentHashMap<>();
+
+	@SuppressWarnings("unused")
+	private static volatile int fence;
+
+	private final File lockFile;
+	private final File syncFile;
+	private final long lockWaitTimeout;
+
+	private static class Slot {
+		private final int position;
+		private final FileLock lock;
+
+		private Slot(int position, @Nonnull FileLock lock) {
+			this.position = position;
+			this.lock = lock;
+		}
+	}
+
+	/**
+	 * A registry file mapping which is opened once per process. All fields except the buffer and the slot map are guarded by the process
+	 * lock.
+	 */
+	private static class Registry {
+		private final File file;
+		private final ReentrantLock processLock = new ReentrantLock();
+		private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+		private RandomAccessFile access;
+		private volatile MappedByteBuffer buffer;
+		private Pair<RandomAccessFile, FileLock> mainLock;
+		private volatile String launchUuid;
+
+		private Registry(@Nonnull final File file) {
+			this.file = file;
+		}
+
+		@Nullable
+		private MappedByteBuffer open() {
+			if (buffer != null) {
+				return buffer;
+			}
+			try {
+				access = new RandomAccessFile(file, "rw");
+				if (access.length() < REGISTRY_SIZE) {
+					access.setLength(REGISTRY_SIZE);
+				}
+				buffer = access.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, REGISTRY_SIZE);
+			} catch (IOException e) {
+				LOGGER.warn("Unable to map '{}' registry file: {}", file.getPath(), e.getLocalizedMessage(), e);
+				close();
+			}
+			return buffer;
+		}
+
+		private void close() {
+			MappedByteBuffer mapping = buffer;
+			slots.values().forEach(slot -> {
+				mapping.putLong(slot.position + HEARTBEAT_OFFSET, 0L);
+				releaseLock(slot.lock);
+			});
+			slots.clear();
+			if (mainLock != null) {
+				mapping.putLong(STARTED_POSITION, 0L);
+				mapping.putInt(LAUNCH_POSITION, 0);
+				releaseLock(mainLock.getRight());
+				closeAccess(mainLock.getLeft());
+				mainLock = null;
+			}
+			launchUuid = null;
+			// Java 8 has no way to unmap a buffer explicitly, the mapping is released by GC
+			buffer = null;
+			if (access != null) {
+				closeAccess(access);
+				access = null;
+			}
+		}
+	}
+
+	public LaunchIdLockMmap(@Nonnull final ListenerParameters listenerParameters) {
+		super(listenerParameters);
+		lockFile = new File(parameters.getLockFileName());
+		syncFile = new File(parameters.getSyncFileName());
+		lockWaitTimeout = parameters.getLockWaitTimeout();
+	}
+
+	private static void releaseLock(@Nonnull final FileLock lock) {
+		try {
+			lock.release();
+		} catch (IOException e) {
+			LOGGER.warn("Unexpected I/O exception while releasing file lock: {}", e.getLocalizedMessage(), e);
+		}
+	}
+
+	private static void closeAccess(@Nonnull final RandomAccessFile access) {
+		try {
+			access.close();
+		} catch (IOException e) {
+			LOGGER.warn("Unexpected I/O exception while closing file: {}", e.getLocalizedMessage(), e);
+		}
+	}
+
+	@Nullable
+	private static MethodHandle findFence(@Nonnull final String name) {
+		try {
+			Class<?> varHandle = Class.forName("java.lang.invoke.VarHandle");
+			return MethodHandles.publicLookup().findStatic(varHandle, name, MethodType.methodType(void.class));
+		} catch (ReflectiveOperationException e) {
+			// Java 8, volatile field access is used instead
+			return null;
+		}
+	}
+
+	/**
+	 * Keep preceding memory writes before following ones. {@code VarHandle.releaseFence()} is used on Java 9+. On Java 8 a volatile
+	 * write is used: the compiler does not move preceding writes after it and the CPU is given a store barrier, which is what the
+	 * mapped memory relies on, since the Java Memory Model itself says nothing about other processes.
+	 */
+	private static void releaseFence() {
+		if (RELEASE_FENCE != null) {
+			try {
+				RELEASE_FENCE.invokeExact();
+				return;
+			} catch (Throwable e) {
+				// fences do not throw, fall back to a volatile write
+			}
+		}
+		fence = 0;
+	}
+
+	/**
+	 * Keep following memory reads after preceding ones, a counterpart of {@link #releaseFence()}.
+	 */
+	private static void acquireFence() {
+		if (ACQUIRE_FENCE != null) {
+			try {
+				ACQUIRE_FENCE.invokeExact();
+				return;
+			} catch (Throwable e) {
+				// fences do not throw, fall back to a volatile read
+			}
+		}
+		//noinspection ResultOfMethodCallIgnored
+		Integer.valueOf(fence); // a volatile read
+	}
+
+	/**
+	 * 64-bit FNV-1a hash of UUID bytes, zero marks a slot without a valid UUID.
+	 */
+	private static long checksum(@Nonnull final byte[] uuid) {
+		long hash = FNV_OFFSET_BASIS;
+		for (byte b : uuid) {
+			hash ^= b & 0xFF;
+			hash *= FNV_PRIME;
+		}
+		return hash == 0L ? 1L : hash;
+	}
+
+	private static long applyDiscrepancy(long waitNanos) {
+		double discrepancy = waitNanos * MAX_WAIT_TIME_DISCREPANCY;
+		return waitNanos + (long) ThreadLocalRandom.current().nextDouble(-discrepancy, discrepancy);
+	}
+
+	@Nonnull
+	private static byte[] toBytes(@Nonnull final String uuid) {
+		byte[] bytes = uuid.getBytes(REGISTRY_CHARSET);
+		if (bytes.length == 0 || bytes.length > MAX_UUID_LENGTH) {
+			throw new IllegalArgumentException("Instance UUID length should be between 1 and " + MAX_UUID_LENGTH + " bytes: " + uuid);
+		}
+		return bytes;
+	}
+
+	private static void writeUuid(@Nonnull final MappedByteBuffer buffer, int position, @Nonnull final byte[] uuid) {
+		buffer.putInt(position, uuid.length);
+		for (int i = 0; i < uuid.length; i++) {
+			buffer.put(position + Integer.BYTES + i, uuid[i]);
+		}
+	}
+
+	@Nullable
+	private static byte[] readUuidBytes(@Nonnull final MappedByteBuffer buffer, int position) {
+		int length = buffer.getInt(position);
+		if (length <= 0 || length > MAX_UUID_LENGTH) {
+			return null;
+		}
+		byte[] uuid = new byte[length];
+		for (int i = 0; i < length; i++) {
+			uuid[i] = buffer.get(position + Integer.BYTES + i);
+		}
+		return uuid;
+	}
+
+	@Nullable
+	private static String readUuid(@Nonnull final MappedByteBuffer buffer, int position) {
+		return ofNullable(readUuidBytes(buffer, position)).map(uuid -> new String(uuid, REGISTRY_CHARSET)).orElse(null);
+	}
+
+	@Nullable
+	private static FileLock tryLockRegion(@Nonnull final FileChannel channel, long position, long size) throws IOException {
+		try {
+			return channel.tryLock(position, size, false);
+		} catch (OverlappingFileLockException e) {
+			// the region is locked by the current process
+			return null;
+		}
+	}
+
+	@Nullable
+	private static Pair<RandomAccessFile, FileLock> obtainLock(@Nonnull final File file) {
+		RandomAccessFile lockAccess = null;
+		try {
+			lockAccess = new RandomAccessFile(file, "rw");
+			FileLock lock = tryLockRegion(lockAccess.getChannel(), 0L, Long.MAX_VALUE);
+			if (lock != null) {
+				return Pair.of(lockAccess, lock);
+			}
+		} catch (IOException e) {
+			LOGGER.warn("Unable to obtain lock on '{}' file: {}", file.getPath(), e.getLocalizedMessage(), e);
+		}
+		if (lockAccess != null) {
+			closeAccess(lockAccess);
+		}
+		return null;
+	}
+
+	@Nonnull
+	private Registry getRegistry() {
+		return REGISTRIES.computeIfAbsent(syncFile.getAbsolutePath(), p -> new Registry(syncFile));
+	}
+
+	@Nullable
+	private <T> T executeLocked(@Nonnull final Registry registry, long deadline, @Nonnull final Function<MappedByteBuffer, T> operation) {
+		try {
+			if (!registry.processLock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+				return null;
+			}
+		} catch (InterruptedException e) {
+			// someone just interrupted our thread, normally exit
+			LOGGER.warn("Wait for registry file '" + syncFile.getPath() + "' was interrupted");
+			return null;
+		}
+		try {
+			return ofNullable(registry.open()).map(operation).orElse(null);
+		} finally {
+			registry.processLock.unlock();
+		}
+	}
+
+	@Nullable
+	private FileLock lockRegion(@Nonnull final Registry registry, long position, long size, long deadline) {
+		long waitNanos = MIN_WAIT_NANOS;
+		while (true) {
+			try {
+				FileLock lock = tryLockRegion(registry.access.getChannel(), position, size);
+				if (lock != null) {
+					return lock;
+				}
+			} catch (IOException e) {
+				LOGGER.warn("Unable to lock registry file '{}': {}", syncFile.getPath(), e.getLocalizedMessage(), e);
+				return null;
+			}
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				return null;
+			}
+			LockSupport.parkNanos(Math.min(remaining, applyDiscrepancy(waitNanos)));
+			waitNanos = Math.min(waitNanos * 2, MAX_WAIT_NANOS);
+		}
+	}
+
+	/**
+	 * Clean up a registry file which was never used or was written by something else. Slots which are locked by other processes are left
+	 * untouched.
+	 */
+	private void format(@Nonnull final Registry registry, @Nonnull final MappedByteBuffer buffer) {
+		FileChannel channel = registry.access.getChannel();
+		for (int position = SLOT_SIZE; position < REGISTRY_SIZE; position += SLOT_SIZE) {
+			try {
+				FileLock lock = tryLockRegion(channel, position, SLOT_SIZE);
+				if (lock != null) {
+					for (int i = 0; i < SLOT_SIZE; i += Long.BYTES) {
+						buffer.putLong(position + i, 0L);
+					}
+					releaseLock(lock);
+				}
+			} catch (IOException e) {
+				LOGGER.warn("Unable to format registry file '{}': {}", syncFile.getPath(), e.getLocalizedMessage(), e);
+				return;
+			}
+		}
+		buffer.putLong(MAGIC_POSITION, MAGIC);
+	}
+
+	/**
+	 * Lock the registry header. If the registry file was deleted by the last instance of another process after the current process had
+	 * mapped it, the new file is mapped and locked instead.
+	 */
+	@Nullable
+	private FileLock lockSync(@Nonnull final Registry registry, long deadline) {
+		FileLock syncLock = lockRegion(registry, SYNC_POSITION, SYNC_SIZE, deadline);
+		if (syncLock != null && registry.slots.isEmpty() && !registry.file.exists()) {
+			releaseLock(syncLock);
+			registry.close();
+			syncLock = registry.open() == null ? null : lockRegion(registry, SYNC_POSITION, SYNC_SIZE, deadline);
+		}
+		return syncLock;
+	}
+
+	@Nonnull
+	private String joinLaunch(@Nonnull final Registry registry, @Nonnull final MappedByteBuffer buffer, @Nonnull final String instanceUuid,
+			@Nonnull final byte[] uuidBytes) {
+		Pair<RandomAccessFile, FileLock> lock = obtainLock(lockFile);
+		if (lock != null) {
+			// we are the main thread / process
+			if (buffer.getLong(MAGIC_POSITION) != MAGIC) {
+				format(registry, buffer);
+			}
+			buffer.putLong(STARTED_POSITION, 0L);
+			writeUuid(buffer, LAUNCH_POSITION, uuidBytes);
+			registry.mainLock = lock;
+			registry.launchUuid = instanceUuid;
+			return instanceUuid;
+		}
+		String launchUuid = buffer.getLong(MAGIC_POSITION) == MAGIC ? readUuid(buffer, LAUNCH_POSITION) : null;
+		return ofNullable(launchUuid).orElse(instanceUuid);
+	}
+
+	/**
+	 * Delete the registry file if no process holds a slot in it. The file is deleted under the header lock, so a process which joins
+	 * meanwhile maps a new file, see {@link #lockSync(Registry, long)}. Java 8 can't unmap a file, so on Windows the file is left in
+	 * place until the mapping is collected and the next launch reuses it.
+	 */
+	private void deleteIfUnused(@Nonnull final Registry registry, long deadline) {
+		FileLock syncLock = lockRegion(registry, SYNC_POSITION, SYNC_SIZE, deadline);
+		if (syncLock == null) {
+			return;
+		}
+		try {
+			FileLock slotsLock = tryLockRegion(registry.access.getChannel(), SLOT_SIZE, REGISTRY_SIZE - SLOT_SIZE);
+			if (slotsLock == null) {
+				// slots of other processes are still in use
+				return;
+			}
+			releaseLock(slotsLock);
+			if (!registry.file.delete()) {
+				LOGGER.debug("Unable to delete registry file: {}", registry.file.getPath());
+			}
+		} catch (IOException e) {
+			LOGGER.warn("Unable to check registry file '{}' usage: {}", syncFile.getPath(), e.getLocalizedMessage(), e);
+		} finally {
+			releaseLock(syncLock);
+		}
+	}
+
+	private void claimSlot(@Nonnull final Registry registry, @Nonnull final MappedByteBuffer buffer, @Nonnull final String instanceUuid,
+			@Nonnull final byte[] uuidBytes) {
+		long now = System.currentTimeMillis();
+		Slot existingSlot = registry.slots.get(instanceUuid);
+		if (existingSlot != null) {
+			buffer.putLong(existingSlot.position + HEARTBEAT_OFFSET, now);
+			return;
+		}
+		long timeoutTime = now - lockWaitTimeout;
+		FileChannel channel = registry.access.getChannel();
+		for (int position = SLOT_SIZE; position < REGISTRY_SIZE; position += SLOT_SIZE) {
+			if (buffer.getLong(position + HEARTBEAT_OFFSET) > timeoutTime) {
+				// the slot is in use or its owner has gone recently, let its record expire before reuse
+				continue;
+			}
+			FileLock lock;
+			try {
+				lock = tryLockRegion(channel, position, SLOT_SIZE);
+			} catch (IOException e) {
+				LOGGER.warn("Unable to claim a slot in registry file '{}': {}", syncFile.getPath(), e.getLocalizedMessage(), e);
+				return;
+			}
+			if (lock == null) {
+				continue;
+			}
+			buffer.putLong(position + HEARTBEAT_OFFSET, 0L);
+			buffer.putLong(position + CHECKSUM_OFFSET, 0L);
+			releaseFence();
+			writeUuid(buffer, position + UUID_OFFSET, uuidBytes);
+			releaseFence();
+			buffer.putLong(position + CHECKSUM_OFFSET, checksum(uuidBytes));
+			releaseFence();
+			buffer.putLong(position + HEARTBEAT_OFFSET, now);
+			registry.slots.put(instanceUuid, new Slot(position, lock));
+			return;
+		}
+		LOGGER.warn("There are no free slots in registry file '{}', instance '{}' will not be tracked", syncFile.getPath(), instanceUuid);
+	}
+
+	void reset() {
+		Registry registry = REGISTRIES.remove(syncFile.getAbsolutePath());
+		if (registry != null) {
+			registry.processLock.lock();
+			try {
+				if (registry.buffer != null) {
+					registry.close();
+				}
+			} finally {
+				registry.processLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Returns a Launch UUID for many Clients launched on one machine.
+	 *
+	 * @param instanceUuid a Client instance UUID, which will be written to a registry slot and, if it the first thread which managed to
+	 *                     obtain lock on '.lock' file, returned to every client instance.
+	 * @return either a Client instance UUID, either the first UUID which thread managed to place a lock on a '.lock' file.
+	 */
+	@Override
+	@Nullable
+	public String obtainLaunchUuid(@Nonnull final String instanceUuid) {
+		Objects.requireNonNull(instanceUuid);
+		byte[] uuidBytes = toBytes(instanceUuid);
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lockWaitTimeout);
+		Registry registry = getRegistry();
+		return executeLocked(registry, deadline, b -> {
+			String launchUuid = registry.launchUuid;
+			if (launchUuid != null) {
+				claimSlot(registry, b, instanceUuid, uuidBytes);
+				return launchUuid;
+			}
+			FileLock syncLock = lockSync(registry, deadline);
+			if (syncLock == null) {
+				return null;
+			}
+			try {
+				// the slot is claimed under the header lock, so the last instance of another process does not delete the file meanwhile
+				MappedByteBuffer buffer = registry.buffer;
+				launchUuid = joinLaunch(registry, buffer, instanceUuid, uuidBytes);
+				claimSlot(registry, buffer, instanceUuid, uuidBytes);
+				return launchUuid;
+			} finally {
+				releaseLock(syncLock);
+			}
+		});
+	}
+
+	/**
+	 * Update heartbeat timestamp in instance slot. For an instance which already has a slot the update is a single memory write without
+	 * any locks.
+	 *
+	 * @param instanceUuid instanceUuid a Client instance UUID
+	 */
+	@Override
+	public void updateInstanceUuid(@Nonnull final String instanceUuid) {
+		Registry registry = getRegistry();
+		Slot slot = registry.slots.get(instanceUuid);
+		MappedByteBuffer buffer = registry.buffer;
+		if (slot != null && buffer != null) {
+			buffer.putLong(slot.position + HEARTBEAT_OFFSET, System.currentTimeMillis());
+			return;
+		}
+		byte[] uuidBytes = toBytes(instanceUuid);
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lockWaitTimeout);
+		executeLocked(registry, deadline, b -> {
+			claimSlot(registry, b, instanceUuid, uuidBytes);
+			return Boolean.TRUE;
+		});
+	}
+
+	/**
+	 * Free instance slot, means that a client finished its Launch. If this is the primary launch, the '.lock' file will be removed.
+	 *
+	 * @param instanceUuid a Client instance UUID.
+	 */
+	@Override
+	public void finishInstanceUuid(@Nonnull final String instanceUuid) {
+		Registry registry = REGISTRIES.get(syncFile.getAbsolutePath());
+		if (registry == null) {
+			return;
+		}
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lockWaitTimeout);
+		Boolean isPrimary = executeLocked(registry, deadline, buffer -> {
+			Slot slot = registry.slots.remove(instanceUuid);
+			if (slot != null) {
+				buffer.putLong(slot.position + HEARTBEAT_OFFSET, 0L);
+				releaseLock(slot.lock);
+			}
+			boolean primary = instanceUuid.equals(registry.launchUuid);
+			if (registry.slots.isEmpty() && (primary || registry.launchUuid == null)) {
+				deleteIfUnused(registry, deadline);
+				registry.close();
+			} else if (primary) {
+				buffer.putLong(STARTED_POSITION, 0L);
+				buffer.putInt(LAUNCH_POSITION, 0);
+				releaseLock(registry.mainLock.getRight());
+				closeAccess(registry.mainLock.getLeft());
+				registry.mainLock = null;
+				registry.launchUuid = null;
+			}
+			return primary;
+		});
+		if (isPrimary != null && isPrimary && !lockFile.delete()) {
+			LOGGER.warn("Unable to delete locking file: " + lockFile.getPath());
+		}
+		notifyInstancesChanged();
+	}
+
+	/**
+	 * Set launch start timestamp in the registry header.
+	 *
+	 * @param launchUuid the primary Launch UUID
+	 */
+	@Override
+	public void publishLaunchStart(@Nonnull final String launchUuid) {
+		Registry registry = getRegistry();
+		MappedByteBuffer buffer = registry.buffer;
+		if (buffer != null && launchUuid.equals(registry.launchUuid)) {
+			buffer.putLong(STARTED_POSITION, System.currentTimeMillis());
+		}
+	}
+
+	@Nullable
+	@Override
+	protected Boolean checkLaunchStart(@Nonnull final String launchUuid) {
+		MappedByteBuffer buffer = getRegistry().buffer;
+		if (buffer != null && buffer.getLong(MAGIC_POSITION) == MAGIC && buffer.getLong(STARTED_POSITION) != 0L
+				&& launchUuid.equals(readUuid(buffer, LAUNCH_POSITION))) {
+			return Boolean.TRUE;
+		}
+		return super.checkLaunchStart(launchUuid);
+	}
+
+	/**
+	 * Memory writes of other processes produce no notifications, but a scan of the registry is cheap enough to run it often.
+	 *
+	 * @return check period in milliseconds
+	 */
+	@Override
+	protected long getCheckInterval() {
+		return CHECK_INTERVAL;
+	}
+
+	/**
+	 * Scan registry slots for instances with fresh heartbeats. The scan reads the mapped memory and does not lock anything, slots which are
+	 * being written meanwhile are validated with UUID checksums.
+	 *
+	 * @return a collection of live instance UUIDs
+	 */
+	@Nonnull
+	@Override
+	public Collection<String> getLiveInstanceUuids() {
+		Registry registry = getRegistry();
+		MappedByteBuffer buffer = registry.buffer;
+		if (buffer == null) {
+			buffer = executeLocked(registry, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lockWaitTimeout), b -> b);
+			if (buffer == null) {
+				return Collections.emptyList();
+			}
+		}
+		long timeoutTime = System.currentTimeMillis() - lockWaitTimeout;
+		Set<String> result = new HashSet<>();
+		for (int position = SLOT_SIZE; position < REGISTRY_SIZE; position += SLOT_SIZE) {
+			if (buffer.getLong(position + HEARTBEAT_OFFSET) <= timeoutTime) {
+				continue;
+			}
+			acquireFence();
+			long checksum = buffer.getLong(position + CHECKSUM_OFFSET);
+			acquireFence();
+			byte[] uuid = readUuidBytes(buffer, position + UUID_OFFSET);
+			acquireFence();
+			// the slot could be freed or claimed by another instance while we were reading it
+			if (uuid != null && checksum != 0L && checksum == checksum(uuid) && buffer.getLong(position + CHECKSUM_OFFSET) == checksum
+					&& buffer.getLong(position + HEARTBEAT_OFFSET) > timeoutTime) {
+				result.add(new String(uuid, REGISTRY_CHARSET));
+			}
+		}
+		return result;
+	}
+}
@@ -28,7 +28,9 @@ import java.lang.reflect.InvocationTargetException;
  */
 public enum LaunchIdLockMode {
 	FILE(LaunchIdLockFile.class),
-	SOCKET(LaunchIdLockSocket.class);
+	SOCKET(LaunchIdLockSocket.class),
+	MMAP(LaunchIdLockMmap.class),
+	NETWORK(LaunchIdLockNetwork.class);
 
 	private final Class<? extends AbstractLaunchIdLock> clazz;
 
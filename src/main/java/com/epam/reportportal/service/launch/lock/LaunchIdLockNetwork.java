@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.launch.lock;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.LaunchIdLock;
+import com.epam.reportportal.utils.properties.ListenerProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * A service to get single launch UUID for multiple clients running on different machines. A coordinator address is set with
+ * {@link ListenerProperty#CLIENT_JOIN_COORDINATOR_HOST} and {@link ListenerProperty#CLIENT_JOIN_LOCK_PORT} properties and must be the
+ * same for all clients. The first client on the coordinator host binds the address and becomes the primary instance, so any agent can
+ * host the coordinator. Clients on other hosts are unable to bind the address, so they connect to it over TCP, obtain the launch UUID and
+ * send heartbeats with their instance UUIDs. A client which does not send a heartbeat within the lock timeout is considered gone.
+ * <p>
+ * The protocol is the same as in {@link LaunchIdLockSocket}. If the host property is not set, the loopback address is used, which is
+ * convenient to run several processes on one machine.
+ * <p>
+ * Only a client which bound the coordinator address can become the primary instance. If the coordinator is unreachable, a client keeps
+ * retrying to bind or connect to it within {@link ListenerProperty#CLIENT_JOIN_LOCK_TIMEOUT_VALUE} and then logs an error and returns
+ * {@code null}, so it reports a separate launch instead of taking over the joined one.
+ */
+public class LaunchIdLockNetwork extends LaunchIdLockSocket implements LaunchIdLock {
+	private static final Logger LOGGER = LoggerFactory.getLogger(LaunchIdLockNetwork.class);
+
+	private final String coordinatorHost;
+	private final long coordinatorWaitTimeout;
+
+	public LaunchIdLockNetwork(ListenerParameters listenerParameters) {
+		super(listenerParameters);
+		coordinatorHost = listenerParameters.getLockCoordinatorHost();
+		coordinatorWaitTimeout = listenerParameters.getLockWaitTimeout();
+	}
+
+	@Nonnull
+	@Override
+	protected InetSocketAddress getServerAddress() throws UnknownHostException {
+		InetAddress address = isBlank(coordinatorHost) ? InetAddress.getLoopbackAddress() : InetAddress.getByName(coordinatorHost.trim());
+		return new InetSocketAddress(address, portNumber);
+	}
+
+	@Nullable
+	@Override
+	protected String onServerUnavailable(@Nonnull final String instanceUuid) {
+		// only the coordinator host serves the launch, never become primary because of a connection error
+		return null;
+	}
+
+	/**
+	 * Returns a Launch UUID served by the coordinator. Retries to bind or connect to the coordinator address until the lock wait timeout
+	 * passes, so an unreachable coordinator does not delay test start for longer than that.
+	 *
+	 * @param uuid a Client instance UUID
+	 * @return the coordinator launch UUID, the Client instance UUID if this client is the coordinator, or null if the coordinator is
+	 * unreachable
+	 */
+	@Nullable
+	@Override
+	public String obtainLaunchUuid(@Nonnull final String uuid) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(coordinatorWaitTimeout);
+		String launchUuid = super.obtainLaunchUuid(uuid);
+		while (launchUuid == null && deadline - System.nanoTime() > 0 && !Thread.currentThread().isInterrupted()) {
+			launchUuid = super.obtainLaunchUuid(uuid);
+		}
+		if (launchUuid == null) {
+			LOGGER.error("Unable to join a launch through coordinator '{}', a separate launch will be reported", getCoordinatorName());
+		}
+		return launchUuid;
+	}
+
+	@Nonnull
+	private String getCoordinatorName() {
+		return (isBlank(coordinatorHost) ? InetAddress.getLoopbackAddress().getHostAddress() : coordinatorHost.trim()) + ":" + portNumber;
+	}
+}
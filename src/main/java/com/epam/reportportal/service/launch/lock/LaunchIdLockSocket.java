@@ -18,29 +18,34 @@ package com.epam.reportportal.service.launch.lock;
 
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.LaunchIdLock;
-import com.epam.reportportal.utils.Waiter;
 import com.epam.reportportal.utils.properties.ListenerProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import javax.annotation.Nullable;
+import java.io.*;
 import java.net.InetAddress;
-import java.net.ServerSocket;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * A service to perform blocking I/O operations on network sockets to get single launch UUID for multiple clients on a machine.
  * This class uses local networking, therefore applicable in scope of a single hardware machine. You can control port number
  * with {@link ListenerProperty#CLIENT_JOIN_LOCK_PORT} property.
+ * <p>
+ * The primary process serves all connections on a single non-blocking selector thread. Every other process keeps one persistent
+ * connection to it and sends line-delimited commands, which can be pipelined by many threads. The server answers the commands in the
+ * same order and pushes launch state notifications to the clients.
  *
  * @author <a href="mailto:vadzim_hushchanskou@epam.com">Vadzim Hushchanskou</a>
  */
@@ -48,91 +53,428 @@ public class LaunchIdLockSocket extends AbstractLaunchIdLock implements LaunchId
 	private static final Logger LOGGER = LoggerFactory.getLogger(LaunchIdLockSocket.class);
 
 	public static final Charset TRANSFER_CHARSET = StandardCharsets.ISO_8859_1;
-	private static final int SOCKET_BACKLOG = 50;
+	private static final int SOCKET_BACKLOG = 256;
+	private static final int MAX_LINE_LENGTH = 1024;
+	private static final long SERVER_STOP_TIMEOUT = TimeUnit.SECONDS.toMillis(1);
+	private static final long MIN_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long MAX_RETRY_NANOS = TimeUnit.SECONDS.toNanos(1);
 	private static final String COMMAND_DELIMITER = " - ";
-	private static final String OK_SUFFIX = COMMAND_DELIMITER + "OK";
+	private static final String LINE_END = "\n";
 	private static final Map<String, Date> INSTANCES = new ConcurrentHashMap<>();
+	private static final Map<InetSocketAddress, ClientConnection> CONNECTIONS = new HashMap<>();
 
-	private static volatile ServerSocket mainLock;
+	private static volatile ServerSocketChannel mainLock;
 	private static volatile String lockUuid;
+	private static volatile boolean launchStarted;
 	private volatile ServerHandler handler;
 
-	private final int portNumber;
+	protected final int portNumber;
 	private final long instanceWaitTimeout;
 
 	/**
-	 * Internal supported communication commands. Should be exactly 6 characters long.
+	 * Internal supported communication commands, sent by clients.
 	 */
 	enum Command {
 		UPDATE,
 		FINISH
 	}
 
-	private static class ServerHandler extends Thread {
+	/**
+	 * Messages sent by the server: answers on commands and launch state notifications.
+	 */
+	enum Reply {
+		/**
+		 * The first message on a connection, contains launch UUID
+		 */
+		LAUNCH,
+		/**
+		 * Successful command answer, contains instance UUID from the command
+		 */
+		OK,
+		/**
+		 * Failed command answer, contains the command
+		 */
+		ERROR,
+		/**
+		 * Notification that the primary instance released the lock, the connection will be closed
+		 */
+		CLOSE,
+		/**
+		 * Notification that the primary instance started the launch on the server, contains launch UUID
+		 */
+		STARTED
+	}
+
+	@Nonnull
+	private static String message(@Nonnull final Enum<?> type, @Nonnull final String value) {
+		return type.name() + COMMAND_DELIMITER + value;
+	}
+
+	private static void updateInstance(@Nonnull final Command command, @Nonnull final String instanceUuid) {
+		switch (command) {
+			case UPDATE:
+				INSTANCES.put(instanceUuid, new Date());
+				break;
+			case FINISH:
+				INSTANCES.remove(instanceUuid);
+				break;
+		}
+	}
+
+	/**
+	 * A connection to a client on the server side, it's used only by the selector thread.
+	 */
+	private static class ServerConnection {
+		private final SelectionKey key;
+		private final SocketChannel channel;
+		private final Runnable finishListener;
+		private final ByteBuffer input = ByteBuffer.allocate(MAX_LINE_LENGTH);
+		private final Queue<ByteBuffer> output = new ArrayDeque<>();
+
+		private ServerConnection(@Nonnull final SelectionKey selectionKey, @Nonnull final Runnable listener) {
+			key = selectionKey;
+			channel = (SocketChannel) selectionKey.channel();
+			finishListener = listener;
+		}
+
+		private void send(@Nonnull final String line) {
+			output.add(ByteBuffer.wrap((line + LINE_END).getBytes(TRANSFER_CHARSET)));
+		}
+
+		@Nonnull
+		private String process(@Nonnull final String line) {
+			int delimiterIndex = line.indexOf(COMMAND_DELIMITER);
+			if (delimiterIndex > 0) {
+				String instanceUuid = line.substring(delimiterIndex + COMMAND_DELIMITER.length());
+				try {
+					Command command = Command.valueOf(line.substring(0, delimiterIndex));
+					updateInstance(command, instanceUuid);
+					if (command == Command.FINISH) {
+						finishListener.run();
+					}
+					return message(Reply.OK, instanceUuid);
+				} catch (IllegalArgumentException ignore) {
+				}
+			}
+			LOGGER.warn("Unknown command received: '{}'", line);
+			return message(Reply.ERROR, line);
+		}
 
-		private final Random random = new Random();
-		private final Queue<Socket> workSockets = new LinkedList<>();
+		private void read() throws IOException {
+			if (channel.read(input) < 0) {
+				throw new EOFException("Connection closed by client");
+			}
+			input.flip();
+			byte[] data = input.array();
+			int lineStart = 0;
+			for (int i = 0; i < input.limit(); i++) {
+				if (data[i] == '\n') {
+					send(process(new String(data, lineStart, i - lineStart, TRANSFER_CHARSET).trim()));
+					lineStart = i + 1;
+				}
+			}
+			input.position(lineStart);
+			input.compact();
+			if (!input.hasRemaining()) {
+				throw new IOException("Command line is too long");
+			}
+			write();
+		}
+
+		private void write() throws IOException {
+			ByteBuffer buffer;
+			while ((buffer = output.peek()) != null) {
+				channel.write(buffer);
+				if (buffer.hasRemaining()) {
+					break;
+				}
+				output.poll();
+			}
+			key.interestOps(output.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+		}
+
+		private void close() {
+			key.cancel();
+			try {
+				channel.close();
+			} catch (IOException e) {
+				LOGGER.warn("Unable to close socket properly", e);
+			}
+		}
+	}
+
+	private static class ServerHandler extends Thread {
+		private final ServerSocketChannel serverChannel;
+		private final String launchUuid;
+		private final Runnable finishListener;
+		private final Selector selector;
 		private volatile boolean running = true;
+		private volatile boolean launchStarted;
+		private volatile boolean startPending;
 
-		public ServerHandler() {
+		public ServerHandler(@Nonnull final ServerSocketChannel channel, @Nonnull final String uuid, @Nonnull final Runnable listener)
+				throws IOException {
+			serverChannel = channel;
+			launchUuid = uuid;
+			finishListener = listener;
+			selector = Selector.open();
+			try {
+				serverChannel.configureBlocking(false);
+				serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+			} catch (IOException e) {
+				selector.close();
+				throw e;
+			}
 			setDaemon(true);
 			setName("rp-launch-join");
 		}
 
+		private void accept() throws IOException {
+			SocketChannel channel;
+			while ((channel = serverChannel.accept()) != null) {
+				channel.configureBlocking(false);
+				channel.socket().setTcpNoDelay(true);
+				ServerConnection connection = new ServerConnection(channel.register(selector, SelectionKey.OP_READ), finishListener);
+				connection.key.attach(connection);
+				connection.send(message(Reply.LAUNCH, launchUuid));
+				if (launchStarted) {
+					connection.send(message(Reply.STARTED, launchUuid));
+				}
+				try {
+					connection.write();
+				} catch (IOException e) {
+					LOGGER.debug("Unable to greet a client: {}", e.getLocalizedMessage(), e);
+					connection.close();
+				}
+			}
+		}
+
+		private void serve(@Nonnull final SelectionKey key) {
+			ServerConnection connection = (ServerConnection) key.attachment();
+			try {
+				if (key.isReadable()) {
+					connection.read();
+				}
+				if (key.isValid() && key.isWritable()) {
+					connection.write();
+				}
+			} catch (IOException | CancelledKeyException e) {
+				LOGGER.debug("Closing client connection: {}", e.getLocalizedMessage(), e);
+				connection.close();
+			}
+		}
+
 		@Override
 		public void run() {
+			try {
+				while (running) {
+					selector.select();
+					if (startPending) {
+						startPending = false;
+						broadcastLaunchStart();
+					}
+					Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+					while (keys.hasNext()) {
+						SelectionKey key = keys.next();
+						keys.remove();
+						if (!key.isValid()) {
+							continue;
+						}
+						if (key.isAcceptable()) {
+							accept();
+						} else {
+							serve(key);
+						}
+					}
+				}
+			} catch (IOException | ClosedSelectorException e) {
+				LOGGER.warn("Error serving server connections: ", e);
+			} finally {
+				closeConnections();
+			}
+		}
 
-			while (running) {
-				try {
-					Socket s = mainLock.accept();
-					workSockets.add(s);
-					OutputStream os = s.getOutputStream();
-					byte[] launchUuid = lockUuid.getBytes(TRANSFER_CHARSET);
-					os.write(launchUuid);
-					os.flush();
-					byte[] updateUuid = new byte[(Command.UPDATE.name() + COMMAND_DELIMITER + lockUuid).getBytes(TRANSFER_CHARSET).length];
-					InputStream is = s.getInputStream();
-					//noinspection ResultOfMethodCallIgnored
-					is.read(updateUuid);
-					String data = new String(updateUuid, TRANSFER_CHARSET);
-					final Command command = Command.valueOf(data.substring(0, data.indexOf(COMMAND_DELIMITER)));
-					final String instanceUuid = data.substring(data.indexOf(COMMAND_DELIMITER) + COMMAND_DELIMITER.length());
-					switch (command) {
-						case UPDATE:
-							INSTANCES.put(instanceUuid, new Date());
-							break;
-						case FINISH:
-							INSTANCES.remove(instanceUuid);
-							break;
+		private void broadcastLaunchStart() {
+			for (SelectionKey key : selector.keys()) {
+				Object attachment = key.attachment();
+				if (attachment instanceof ServerConnection) {
+					ServerConnection connection = (ServerConnection) attachment;
+					connection.send(message(Reply.STARTED, launchUuid));
+					try {
+						connection.write();
+					} catch (IOException | CancelledKeyException e) {
+						LOGGER.debug("Closing client connection: {}", e.getLocalizedMessage(), e);
+						connection.close();
 					}
-					String answer = instanceUuid + OK_SUFFIX;
-					byte[] answerBuffer = answer.getBytes(TRANSFER_CHARSET);
-					os.write(answerBuffer);
-					os.flush();
-					if (random.nextInt(5) == 0) {
-						Collection<Socket> checked = new LinkedList<>();
-						Socket current;
-						while ((current = workSockets.poll()) != null) {
-							if (!current.isClosed()) {
-								checked.add(current);
-							}
+				}
+			}
+		}
+
+		/**
+		 * Notify connected and future clients that the launch was started.
+		 */
+		public void publishLaunchStart() {
+			launchStarted = true;
+			startPending = true;
+			selector.wakeup();
+		}
+
+		private void closeConnections() {
+			try {
+				for (SelectionKey key : selector.keys()) {
+					Object attachment = key.attachment();
+					if (attachment instanceof ServerConnection) {
+						ServerConnection connection = (ServerConnection) attachment;
+						connection.send(message(Reply.CLOSE, launchUuid));
+						try {
+							connection.write();
+						} catch (IOException | CancelledKeyException ignore) {
+							// the client will see the connection closed anyway
 						}
-						workSockets.addAll(checked);
+						connection.close();
 					}
+				}
+			} catch (ClosedSelectorException ignore) {
+			}
+			try {
+				serverChannel.close();
+				selector.close();
+			} catch (IOException e) {
+				LOGGER.warn("Unable to close server socket properly", e);
+			}
+		}
+
+		/**
+		 * Stop serving, notify connected clients and release the port.
+		 */
+		public void shutdown() {
+			running = false;
+			selector.wakeup();
+			if (Thread.currentThread() != this) {
+				try {
+					join(SERVER_STOP_TIMEOUT);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+	}
+
+	/**
+	 * A persistent connection to the server on the client side. Commands are written by caller threads, answers are read and matched to
+	 * the commands in order by the connection thread.
+	 */
+	private static class ClientConnection extends Thread {
+		private final Socket socket;
+		private final BufferedReader reader;
+		private final OutputStream output;
+		private final String launchUuid;
+		private final Queue<CompletableFuture<String>> answers = new ConcurrentLinkedQueue<>();
+		private final CompletableFuture<Boolean> launchStart = new CompletableFuture<>();
+		private volatile boolean open = true;
+
+		private ClientConnection(@Nonnull final Socket clientSocket, @Nonnull final BufferedReader socketReader,
+				@Nonnull final String launch) throws IOException {
+			socket = clientSocket;
+			reader = socketReader;
+			output = new BufferedOutputStream(clientSocket.getOutputStream());
+			launchUuid = launch;
+			setDaemon(true);
+			setName("rp-launch-join-client");
+		}
+
+		@Nonnull
+		static ClientConnection open(@Nonnull final InetSocketAddress address, int timeout) throws IOException {
+			Socket socket = new Socket();
+			try {
+				socket.connect(address, timeout);
+				socket.setTcpNoDelay(true);
+				socket.setKeepAlive(true);
+				socket.setSoTimeout(timeout);
+				BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), TRANSFER_CHARSET));
+				String greeting = reader.readLine();
+				String launchPrefix = message(Reply.LAUNCH, "");
+				if (greeting == null || !greeting.startsWith(launchPrefix)) {
+					throw new IOException("Unexpected server greeting: " + greeting);
+				}
+				socket.setSoTimeout(0);
+				ClientConnection connection = new ClientConnection(socket, reader, greeting.substring(launchPrefix.length()));
+				connection.start();
+				return connection;
+			} catch (IOException e) {
+				socket.close();
+				throw e;
+			}
+		}
+
+		public boolean isOpen() {
+			return open;
+		}
+
+		@Nonnull
+		public String getLaunchUuid() {
+			return launchUuid;
+		}
+
+		@Nonnull
+		public CompletableFuture<String> send(@Nonnull final Command command, @Nonnull final String instanceUuid) {
+			CompletableFuture<String> answer = new CompletableFuture<>();
+			synchronized (output) {
+				if (!open) {
+					answer.completeExceptionally(new ClosedChannelException());
+					return answer;
+				}
+				answers.add(answer);
+				try {
+					output.write((message(command, instanceUuid) + LINE_END).getBytes(TRANSFER_CHARSET));
+					output.flush();
 				} catch (IOException e) {
-					LOGGER.warn("Error serving server connections: ", e);
+					LOGGER.debug("Unable to send '{}' command: {}", command.name(), e.getLocalizedMessage(), e);
+					close();
 				}
 			}
+			return answer;
+		}
 
-			Socket current;
-			while ((current = workSockets.poll()) != null) {
-				if (!current.isClosed()) {
-					try {
-						current.close();
-					} catch (IOException e) {
-						LOGGER.warn("Unable to close socket properly", e);
+		@Override
+		public void run() {
+			try {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					if (line.startsWith(message(Reply.CLOSE, ""))) {
+						break;
+					}
+					if (line.startsWith(message(Reply.STARTED, ""))) {
+						launchStart.complete(Boolean.TRUE);
+						continue;
+					}
+					CompletableFuture<String> answer = answers.poll();
+					if (answer != null) {
+						answer.complete(line);
 					}
 				}
+			} catch (IOException e) {
+				if (open) {
+					LOGGER.debug("Connection to the primary instance lost: {}", e.getLocalizedMessage(), e);
+				}
+			} finally {
+				close();
+			}
+		}
+
+		public void close() {
+			open = false;
+			launchStart.complete(Boolean.FALSE);
+			try {
+				socket.close();
+			} catch (IOException e) {
+				LOGGER.warn("Unable to close socket properly", e);
+			}
+			synchronized (output) {
+				CompletableFuture<String> answer;
+				while ((answer = answers.poll()) != null) {
+					answer.completeExceptionally(new ClosedChannelException());
+				}
 			}
 		}
 	}
@@ -143,49 +485,113 @@ public class LaunchIdLockSocket extends AbstractLaunchIdLock implements LaunchId
 		instanceWaitTimeout = listenerParameters.getLockWaitTimeout();
 	}
 
+	/**
+	 * Address of the primary instance socket, which is bound by the primary instance and connected by all others.
+	 *
+	 * @return the socket address
+	 * @throws UnknownHostException if the host address cannot be resolved
+	 */
+	@Nonnull
+	protected InetSocketAddress getServerAddress() throws UnknownHostException {
+		return new InetSocketAddress(InetAddress.getLocalHost(), portNumber);
+	}
+
+	@Nullable
+	private ClientConnection getConnection(int timeout) {
+		InetSocketAddress address;
+		try {
+			address = getServerAddress();
+		} catch (UnknownHostException e) {
+			LOGGER.warn("Unable to resolve launch lock address: {}", e.getLocalizedMessage(), e);
+			return null;
+		}
+		synchronized (CONNECTIONS) {
+			ClientConnection connection = CONNECTIONS.get(address);
+			if (connection != null && connection.isOpen()) {
+				return connection;
+			}
+			try {
+				connection = ClientConnection.open(address, timeout);
+				CONNECTIONS.put(address, connection);
+				return connection;
+			} catch (IOException e) {
+				LOGGER.debug("Unable to connect to '{}': {}", address, e.getLocalizedMessage(), e);
+				CONNECTIONS.remove(address);
+				return null;
+			}
+		}
+	}
+
+	@Nullable
+	private String trySendCommand(@Nonnull final Command command, @Nonnull final String instanceUuid, long timeoutNanos) {
+		int timeout = (int) Math.max(1, Math.min(Integer.MAX_VALUE, TimeUnit.NANOSECONDS.toMillis(timeoutNanos)));
+		ClientConnection connection = getConnection(timeout);
+		if (connection == null) {
+			return null;
+		}
+		try {
+			String answer = connection.send(command, instanceUuid).get(timeoutNanos, TimeUnit.NANOSECONDS);
+			if (!message(Reply.OK, instanceUuid).equals(answer)) {
+				LOGGER.warn("Invalid server instance UUID '{}' answer: {}", command.name(), answer);
+				return null;
+			}
+			return connection.getLaunchUuid();
+		} catch (ExecutionException e) {
+			LOGGER.debug("Unable to '{}' instance UUID on port '{}', connection error", command.name(), portNumber, e.getCause());
+		} catch (TimeoutException e) {
+			LOGGER.warn("Unable to '{}' instance UUID on port '{}', no answer", command.name(), portNumber);
+			connection.close();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return null;
+	}
+
 	String sendCommand(@Nonnull final Command command, @Nonnull final String instanceUuid) {
-		String result = new Waiter("Wait for a socket connection").duration(instanceWaitTimeout, TimeUnit.MILLISECONDS)
-				.applyRandomDiscrepancy(MAX_WAIT_TIME_DISCREPANCY)
-				.pollingEvery(1, TimeUnit.SECONDS)
-				.till(() -> {
-					try (Socket socket = new Socket(InetAddress.getLocalHost(), portNumber)) {
-						byte[] launchAnswerBuffer = new byte[instanceUuid.getBytes(TRANSFER_CHARSET).length];
-						InputStream is = socket.getInputStream();
-						//noinspection ResultOfMethodCallIgnored
-						is.read(launchAnswerBuffer);
-						String launchUuid = new String(launchAnswerBuffer, TRANSFER_CHARSET);
-						byte[] saveBuffer = (command.name() + COMMAND_DELIMITER + instanceUuid).getBytes(TRANSFER_CHARSET);
-						OutputStream os = socket.getOutputStream();
-						os.write(saveBuffer);
-						os.flush();
-						String expectedAnswer = instanceUuid + OK_SUFFIX;
-						byte[] answerBuffer = new byte[expectedAnswer.getBytes(TRANSFER_CHARSET).length];
-						//noinspection ResultOfMethodCallIgnored
-						is.read(answerBuffer);
-						String answer = new String(answerBuffer, TRANSFER_CHARSET);
-						if (!expectedAnswer.equals(answer)) {
-							LOGGER.warn("Invalid server instance UUID '{}' answer", command.name());
-							return null;
-						}
-						return launchUuid;
-					} catch (IOException e) {
-						LOGGER.warn("Unable to '{}' instance UUID on port '{}', connection error", command.name(), portNumber, e);
-						return null;
-					}
-				});
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(instanceWaitTimeout);
+		long retryNanos = MIN_RETRY_NANOS;
+		long remaining = deadline - System.nanoTime();
+		while (remaining > 0) {
+			String launchUuid = trySendCommand(command, instanceUuid, remaining);
+			if (launchUuid != null) {
+				return launchUuid;
+			}
+			if (Thread.currentThread().isInterrupted()) {
+				break;
+			}
+			double discrepancy = retryNanos * MAX_WAIT_TIME_DISCREPANCY;
+			long wait = retryNanos + (long) ThreadLocalRandom.current().nextDouble(-discrepancy, discrepancy);
+			try {
+				TimeUnit.NANOSECONDS.sleep(Math.min(wait, deadline - System.nanoTime()));
+			} catch (InterruptedException e) {
+				// someone just interrupted our thread, normally exit
+				LOGGER.warn("Wait for a socket connection was interrupted");
+				break;
+			}
+			retryNanos = Math.min(retryNanos * 2, MAX_RETRY_NANOS);
+			remaining = deadline - System.nanoTime();
+		}
+		LOGGER.warn("Unable to '{}' instance UUID on port '{}', connection error", command.name(), portNumber);
+		return onServerUnavailable(instanceUuid);
+	}
 
-		return result == null ? instanceUuid : result;
+	/**
+	 * Returns a launch UUID to use if the primary instance is unreachable. By default the instance UUID is returned, so the instance
+	 * starts its own launch.
+	 *
+	 * @param instanceUuid a Client instance UUID
+	 * @return a launch UUID or null if the launch UUID was not obtained
+	 */
+	@Nullable
+	protected String onServerUnavailable(@Nonnull final String instanceUuid) {
+		return instanceUuid;
 	}
 
 	private String executeCommand(@Nonnull final Command command, @Nonnull final String instanceUuid) {
 		if (mainLock != null) {
-			switch (command) {
-				case UPDATE:
-					INSTANCES.put(instanceUuid, new Date());
-					break;
-				case FINISH:
-					INSTANCES.remove(instanceUuid);
-					break;
+			updateInstance(command, instanceUuid);
+			if (command == Command.FINISH) {
+				notifyInstancesChanged();
 			}
 			return lockUuid;
 		}
@@ -197,6 +603,18 @@ public class LaunchIdLockSocket extends AbstractLaunchIdLock implements LaunchId
 		return executeCommand(Command.UPDATE, instanceUuid);
 	}
 
+	@Nonnull
+	private ServerSocketChannel openServerChannel() throws IOException {
+		ServerSocketChannel channel = ServerSocketChannel.open();
+		try {
+			channel.bind(getServerAddress(), SOCKET_BACKLOG);
+			return channel;
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
 	/**
 	 * Returns a Launch UUID for many Clients launched on one machine.
 	 *
@@ -211,14 +629,14 @@ public class LaunchIdLockSocket extends AbstractLaunchIdLock implements LaunchId
 			try {
 				synchronized (LaunchIdLockSocket.class) {
 					if (mainLock == null) {
-						mainLock = new ServerSocket(portNumber, SOCKET_BACKLOG, InetAddress.getLocalHost());
+						mainLock = openServerChannel();
 						lockUuid = uuid;
 						INSTANCES.put(uuid, new Date());
 					}
 				}
 				if (uuid.equals(lockUuid)) {
 					// This is the main thread, serve clients
-					handler = new ServerHandler();
+					handler = new ServerHandler(mainLock, uuid, this::notifyInstancesChanged);
 					handler.start();
 				} else {
 					// Another thread acquired lock while synchronization wait
@@ -245,11 +663,11 @@ public class LaunchIdLockSocket extends AbstractLaunchIdLock implements LaunchId
 
 	void reset() {
 		if (handler != null) {
-			handler.running = false;
+			handler.shutdown();
 			handler = null;
 		}
 		if (mainLock != null) {
-			ServerSocket socket = mainLock;
+			ServerSocketChannel socket = mainLock;
 			mainLock = null; // faster than closing connection
 			try {
 				socket.close();
@@ -258,6 +676,7 @@ public class LaunchIdLockSocket extends AbstractLaunchIdLock implements LaunchId
 			}
 		}
 		lockUuid = null;
+		launchStarted = false;
 		INSTANCES.clear();
 	}
 
@@ -293,4 +712,52 @@ public class LaunchIdLockSocket extends AbstractLaunchIdLock implements LaunchId
 				.map(Map.Entry::getKey)
 				.collect(Collectors.toList());
 	}
+
+	/**
+	 * Notify clients connected to the server socket that the launch was started.
+	 *
+	 * @param launchUuid the primary Launch UUID
+	 */
+	@Override
+	public void publishLaunchStart(@Nonnull final String launchUuid) {
+		if (mainLock == null || !launchUuid.equals(lockUuid)) {
+			return;
+		}
+		launchStarted = true;
+		ServerHandler serverHandler = handler;
+		if (serverHandler != null) {
+			serverHandler.publishLaunchStart();
+		}
+		notifyInstancesChanged();
+	}
+
+	@Nullable
+	@Override
+	protected Boolean checkLaunchStart(@Nonnull final String launchUuid) {
+		if (launchStarted && launchUuid.equals(lockUuid)) {
+			return Boolean.TRUE;
+		}
+		return super.checkLaunchStart(launchUuid);
+	}
+
+	/**
+	 * Return a future which completes on launch start notification from the server, or with false when the connection to the server is
+	 * lost. In the primary instance process the start is checked locally.
+	 *
+	 * @param launchUuid the primary Launch UUID
+	 * @return a launch start future
+	 */
+	@Nonnull
+	@Override
+	public CompletableFuture<Boolean> getLaunchStart(@Nonnull final String launchUuid) {
+		if (mainLock != null) {
+			return super.getLaunchStart(launchUuid);
+		}
+		ClientConnection connection = getConnection((int) Math.max(1, Math.min(Integer.MAX_VALUE, instanceWaitTimeout)));
+		if (connection == null || !launchUuid.equals(connection.getLaunchUuid())) {
+			return CompletableFuture.completedFuture(Boolean.FALSE);
+		}
+		// a dependent future, so cancellation by a caller does not affect the connection
+		return connection.launchStart.thenApply(Function.identity());
+	}
 }
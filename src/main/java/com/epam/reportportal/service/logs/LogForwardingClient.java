@@ -0,0 +1,202 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.logs;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A secondary launch side of log forwarding, sends log entries to {@link LogForwardingServer} of the primary launch process. The client
+ * greets the server with the launch UUID, so a server of another launch rejects it. Sent batches are kept until the server acknowledges
+ * them, which happens every {@value #ACK_WINDOW} batches and on {@link #flush()}. Once the server is not available the client stays
+ * failed and returns all unacknowledged batches, so callers upload them directly. Batches which reached the server right before the
+ * failure may be uploaded twice, but never lost.
+ */
+public class LogForwardingClient implements Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(LogForwardingClient.class);
+
+	static final int ACK_WINDOW = 16;
+
+	private final int portNumber;
+	private final int timeout;
+	private final int maxFrameSize;
+	private final Maybe<String> launchUuid;
+
+	// socket I/O is done under the lock, a monitor would pin a virtual thread to its carrier for the I/O duration
+	private final ReentrantLock lock = new ReentrantLock();
+	private final List<List<SaveLogRQ>> unacknowledged = new ArrayList<>();
+
+	private Socket socket;
+	private DataOutputStream output;
+	private volatile boolean failed;
+
+	/**
+	 * @param parameters Report Portal client configuration parameters
+	 * @param launch     the launch UUID, which should be the same as the primary launch one
+	 */
+	public LogForwardingClient(@Nonnull final ListenerParameters parameters, @Nonnull final Maybe<String> launch) {
+		portNumber = parameters.getLogForwardingPortNumber();
+		timeout = (int) Math.max(1, Math.min(Integer.MAX_VALUE, parameters.getLockWaitTimeout()));
+		maxFrameSize = LogForwardingProtocol.getMaxFrameSize(parameters);
+		launchUuid = launch;
+	}
+
+	private void connect() throws IOException {
+		if (socket == null) {
+			String uuid = launchUuid.blockingGet();
+			if (uuid == null) {
+				throw new IOException("Launch UUID is unknown");
+			}
+			Socket s = new Socket();
+			try {
+				s.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), portNumber), timeout);
+				s.setTcpNoDelay(true);
+				s.setSoTimeout(timeout);
+				output = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+				socket = s;
+				LogForwardingProtocol.writeFrame(output, LogForwardingProtocol.HELLO, LogForwardingProtocol.encodeHello(uuid));
+				output.flush();
+				int answer = s.getInputStream().read();
+				if (answer != LogForwardingProtocol.ACK) {
+					throw new IOException(answer == LogForwardingProtocol.REJECT ?
+							"The server serves another launch" :
+							"Log forwarding connection closed");
+				}
+			} catch (IOException e) {
+				s.close();
+				socket = null;
+				output = null;
+				throw e;
+			}
+		}
+	}
+
+	private void awaitAcknowledgement() throws IOException {
+		LogForwardingProtocol.writeFrame(output, LogForwardingProtocol.FLUSH, new byte[0]);
+		output.flush();
+		if (socket.getInputStream().read() != LogForwardingProtocol.ACK) {
+			throw new EOFException("Log forwarding connection closed");
+		}
+		unacknowledged.clear();
+	}
+
+	@Nonnull
+	private List<List<SaveLogRQ>> fail(@Nonnull final IOException e) {
+		LOGGER.warn("Unable to forward logs to the primary launch on port '{}', logs will be uploaded directly: {}",
+				portNumber,
+				e.getLocalizedMessage()
+		);
+		failed = true;
+		close();
+		List<List<SaveLogRQ>> result = new ArrayList<>(unacknowledged);
+		unacknowledged.clear();
+		return result;
+	}
+
+	/**
+	 * @return true if log forwarding is not possible anymore
+	 */
+	public boolean isFailed() {
+		return failed;
+	}
+
+	/**
+	 * Forward log entries to the primary launch process.
+	 *
+	 * @param rqs log entries with Launch and Test Item UUIDs set
+	 * @return batches which the primary launch process did not acknowledge and which should be uploaded directly, including the given
+	 * one, or an empty list if the entries were forwarded. A batch which exceeds the server frame limit is returned for direct upload.
+	 */
+	@Nonnull
+	public List<List<SaveLogRQ>> send(@Nonnull final List<SaveLogRQ> rqs) {
+		lock.lock();
+		try {
+			if (failed) {
+				return Collections.singletonList(rqs);
+			}
+			byte[] payload = LogForwardingProtocol.encodeEntries(rqs);
+			if (payload.length > maxFrameSize) {
+				return Collections.singletonList(rqs);
+			}
+			unacknowledged.add(rqs);
+			connect();
+			LogForwardingProtocol.writeFrame(output, LogForwardingProtocol.ENTRIES, payload);
+			output.flush();
+			if (unacknowledged.size() >= ACK_WINDOW) {
+				awaitAcknowledgement();
+			}
+			return Collections.emptyList();
+		} catch (IOException e) {
+			return fail(e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Wait until the primary launch process receives all sent entries.
+	 *
+	 * @return batches which the primary launch process did not acknowledge and which should be uploaded directly, or an empty list if
+	 * all sent entries were received
+	 */
+	@Nonnull
+	public List<List<SaveLogRQ>> flush() {
+		lock.lock();
+		try {
+			if (socket == null) {
+				return Collections.emptyList();
+			}
+			awaitAcknowledgement();
+			return Collections.emptyList();
+		} catch (IOException e) {
+			return fail(e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		lock.lock();
+		try {
+			if (socket != null) {
+				try {
+					socket.close();
+				} catch (IOException e) {
+					LOGGER.debug("Unable to close log forwarding connection: {}", e.getLocalizedMessage(), e);
+				}
+				socket = null;
+				output = null;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+}
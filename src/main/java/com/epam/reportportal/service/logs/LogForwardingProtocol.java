@@ -0,0 +1,162 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.logs;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+
+import javax.annotation.Nonnull;
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.epam.reportportal.utils.http.HttpRequestUtils.MAPPER;
+
+/**
+ * Binary framing of log entries forwarded from secondary launches to the primary launch process. Every client frame consists of a type
+ * byte, a payload length and the payload, server answers are single bytes. A connection starts with a {@link #HELLO} frame, which
+ * contains the launch UUID, so the server rejects clients of other launches which share the port. Log entries are written as JSON, file
+ * contents, which are not a part of the JSON representation, follow each entry as raw bytes. Frame sizes are limited, so a client can't
+ * make the server allocate more memory than a batch needs, see {@link #getMaxFrameSize(ListenerParameters)}.
+ */
+final class LogForwardingProtocol {
+
+	/**
+	 * A frame with a list of log entries
+	 */
+	static final int ENTRIES = 1;
+
+	/**
+	 * A request to acknowledge that all previous frames were received
+	 */
+	static final int FLUSH = 2;
+
+	/**
+	 * An answer on {@link #FLUSH} and {@link #HELLO} requests
+	 */
+	static final int ACK = 3;
+
+	/**
+	 * The first frame on a connection, contains the launch UUID
+	 */
+	static final int HELLO = 4;
+
+	/**
+	 * An answer on {@link #HELLO} request with a launch UUID of another launch, the connection will be closed
+	 */
+	static final int REJECT = 5;
+
+	/**
+	 * Frame type and payload length size in bytes
+	 */
+	static final int HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+
+	/**
+	 * Maximum {@link #HELLO} payload size in bytes, enough for a launch UUID
+	 */
+	static final int MAX_HELLO_SIZE = 1024;
+
+	/**
+	 * Space in bytes for entry framing on top of the batch payload limit
+	 */
+	static final long FRAME_HEADROOM = 1024 * 1024;
+
+	private LogForwardingProtocol() {
+		throw new IllegalStateException("Static only class");
+	}
+
+	/**
+	 * Returns maximum size of a frame payload in bytes. Log entries are batched by {@link ListenerParameters#getBatchPayloadLimit()}, so
+	 * a batch frame does not exceed the limit plus framing overhead.
+	 *
+	 * @param parameters Report Portal client configuration parameters
+	 * @return maximum payload size
+	 */
+	static int getMaxFrameSize(@Nonnull final ListenerParameters parameters) {
+		return (int) Math.min(Integer.MAX_VALUE, parameters.getBatchPayloadLimit() + FRAME_HEADROOM);
+	}
+
+	static void writeFrame(@Nonnull final DataOutputStream output, int type, @Nonnull final byte[] payload) throws IOException {
+		output.write(type);
+		output.writeInt(payload.length);
+		output.write(payload);
+	}
+
+	@Nonnull
+	static byte[] encodeHello(@Nonnull final String launchUuid) throws IOException {
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(result)) {
+			output.writeUTF(launchUuid);
+		}
+		if (result.size() > MAX_HELLO_SIZE) {
+			throw new IOException("Launch UUID is too long to forward logs: " + launchUuid);
+		}
+		return result.toByteArray();
+	}
+
+	@Nonnull
+	static String decodeHello(@Nonnull final byte[] payload) throws IOException {
+		return new DataInputStream(new ByteArrayInputStream(payload)).readUTF();
+	}
+
+	@Nonnull
+	static byte[] encodeEntries(@Nonnull final List<SaveLogRQ> rqs) throws IOException {
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(result)) {
+			output.writeInt(rqs.size());
+			for (SaveLogRQ rq : rqs) {
+				byte[] json = MAPPER.writeValueAsBytes(rq);
+				output.writeInt(json.length);
+				output.write(json);
+				SaveLogRQ.File file = rq.getFile();
+				byte[] content = file == null ? null : file.getContent();
+				if (content == null) {
+					output.writeBoolean(false);
+					continue;
+				}
+				output.writeBoolean(true);
+				output.writeUTF(file.getContentType() == null ? "" : file.getContentType());
+				output.writeInt(content.length);
+				output.write(content);
+			}
+		}
+		return result.toByteArray();
+	}
+
+	@Nonnull
+	static List<SaveLogRQ> decodeEntries(@Nonnull final byte[] payload) throws IOException {
+		DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload));
+		int size = input.readInt();
+		List<SaveLogRQ> result = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			byte[] json = new byte[input.readInt()];
+			input.readFully(json);
+			SaveLogRQ rq = MAPPER.readValue(json, SaveLogRQ.class);
+			if (input.readBoolean()) {
+				String contentType = input.readUTF();
+				byte[] content = new byte[input.readInt()];
+				input.readFully(content);
+				SaveLogRQ.File file = rq.getFile() == null ? new SaveLogRQ.File() : rq.getFile();
+				file.setContentType(contentType.isEmpty() ? null : contentType);
+				file.setContent(content);
+				rq.setFile(file);
+			}
+			result.add(rq);
+		}
+		return result;
+	}
+}
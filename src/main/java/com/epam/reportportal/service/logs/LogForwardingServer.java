@@ -0,0 +1,315 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.logs;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.*;
+import io.reactivex.functions.Function;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subjects.Subject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A loopback server of the primary launch process which receives log entries of secondary launches and uploads them through a single
+ * shared {@link LogBatchingFlowable} pipeline. Secondary launches connect to it with {@link LogForwardingClient}.
+ * <p>
+ * All connections are served by a single non-blocking selector loop, which runs on its own daemon thread while the server is running,
+ * so it does not take a thread of the shared I/O pool. Clients which greet the server with a UUID of another launch are rejected, so
+ * parallel runs on one machine never mix their logs, even if they are configured with the same port. Frame sizes are checked before
+ * payloads are allocated: a greeting can't be longer than a launch UUID, and other frames than a log batch.
+ */
+public class LogForwardingServer {
+	private static final Logger LOGGER = LoggerFactory.getLogger(LogForwardingServer.class);
+
+	private static final long SERVER_STOP_TIMEOUT = TimeUnit.SECONDS.toMillis(1);
+
+	private final ServerSocketChannel serverChannel;
+	private final Selector selector;
+	private final String launchUuid;
+	private final Subject<SaveLogRQ> emitter = PublishSubject.<SaveLogRQ>create().toSerialized();
+	private final Completable uploads;
+	private final int maxFrameSize;
+	private final Thread serverLoop;
+	private volatile boolean running = true;
+
+	/**
+	 * A connection to a secondary launch, it's used only by the selector loop.
+	 */
+	private static class Connection {
+		private final SocketChannel channel;
+		private final ByteBuffer header = ByteBuffer.allocate(LogForwardingProtocol.HEADER_SIZE);
+		private final Queue<ByteBuffer> output = new ArrayDeque<>();
+		private int type;
+		private ByteBuffer payload;
+		private boolean accepted;
+
+		private Connection(@Nonnull final SocketChannel socketChannel) {
+			channel = socketChannel;
+		}
+	}
+
+	private LogForwardingServer(@Nonnull final ServerSocketChannel channel, @Nonnull final Selector channelSelector,
+			@Nonnull final String launch, @Nonnull final Function<List<SaveLogRQ>, Maybe<BatchSaveOperatingRS>> logSender,
+			@Nonnull final Scheduler scheduler, @Nonnull final ListenerParameters parameters) {
+		serverChannel = channel;
+		selector = channelSelector;
+		launchUuid = launch;
+		maxFrameSize = LogForwardingProtocol.getMaxFrameSize(parameters);
+		uploads = RxJavaPlugins.onAssembly(new LogBatchingFlowable(emitter.toFlowable(BackpressureStrategy.BUFFER), parameters))
+				.flatMap((Function<List<SaveLogRQ>, Flowable<BatchSaveOperatingRS>>) rqs -> logSender.apply(rqs).toFlowable())
+				.observeOn(scheduler)
+				.onBackpressureBuffer(parameters.getRxBufferSize(), false, true)
+				.ignoreElements()
+				.doOnError(e -> LOGGER.error("ReportPortal forwarded logs upload error", e))
+				.onErrorComplete()
+				.cache();
+		uploads.subscribe();
+		serverLoop = new Thread(this::serve, "rp-log-forwarding");
+		serverLoop.setDaemon(true);
+		serverLoop.start();
+	}
+
+	private static void closeQuietly(@Nullable final Channel channel) {
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				LOGGER.debug("Unable to close log forwarding channel: {}", e.getLocalizedMessage(), e);
+			}
+		}
+	}
+
+	private static void closeQuietly(@Nullable final Selector selector) {
+		if (selector != null) {
+			try {
+				selector.close();
+			} catch (IOException e) {
+				LOGGER.debug("Unable to close log forwarding selector: {}", e.getLocalizedMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * Start a log forwarding server on a loopback interface.
+	 *
+	 * @param launchUuid a launch UUID which clients should greet the server with
+	 * @param logSender  a function which uploads a batch of log entries
+	 * @param scheduler  a {@link Scheduler} to use for uploads
+	 * @param parameters Report Portal client configuration parameters
+	 * @return the server, or null if the port is busy
+	 */
+	@Nullable
+	public static LogForwardingServer start(@Nonnull final String launchUuid,
+			@Nonnull final Function<List<SaveLogRQ>, Maybe<BatchSaveOperatingRS>> logSender, @Nonnull final Scheduler scheduler,
+			@Nonnull final ListenerParameters parameters) {
+		int port = parameters.getLogForwardingPortNumber();
+		ServerSocketChannel channel = null;
+		Selector selector = null;
+		try {
+			selector = Selector.open();
+			channel = ServerSocketChannel.open();
+			channel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+			channel.configureBlocking(false);
+			channel.register(selector, SelectionKey.OP_ACCEPT);
+			return new LogForwardingServer(channel, selector, launchUuid, logSender, scheduler, parameters);
+		} catch (IOException e) {
+			closeQuietly(channel);
+			closeQuietly(selector);
+			LOGGER.warn("Unable to start log forwarding server on port '{}', secondary launches will upload their logs directly: {}",
+					port,
+					e.getLocalizedMessage()
+			);
+			return null;
+		}
+	}
+
+	private void serve() {
+		try {
+			while (running) {
+				selector.select();
+				Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+				while (keys.hasNext()) {
+					SelectionKey key = keys.next();
+					keys.remove();
+					if (!key.isValid()) {
+						continue;
+					}
+					if (key.isAcceptable()) {
+						accept();
+						continue;
+					}
+					Connection connection = (Connection) key.attachment();
+					try {
+						if (key.isReadable()) {
+							read(key, connection);
+						}
+						if (key.isValid() && key.isWritable()) {
+							write(key, connection);
+						}
+					} catch (IOException e) {
+						if (running) {
+							LOGGER.warn("Log forwarding connection error: {}", e.getLocalizedMessage(), e);
+						}
+						key.cancel();
+						closeQuietly(connection.channel);
+					}
+				}
+			}
+		} catch (IOException | ClosedSelectorException e) {
+			if (running) {
+				LOGGER.warn("Log forwarding server error: {}", e.getLocalizedMessage(), e);
+			}
+		} finally {
+			try {
+				selector.keys().forEach(k -> closeQuietly(k.channel()));
+			} catch (ClosedSelectorException ignore) {
+			}
+			closeQuietly(serverChannel);
+			closeQuietly(selector);
+		}
+	}
+
+	private void accept() {
+		try {
+			SocketChannel channel = serverChannel.accept();
+			if (channel == null) {
+				return;
+			}
+			channel.configureBlocking(false);
+			channel.register(selector, SelectionKey.OP_READ, new Connection(channel));
+		} catch (IOException e) {
+			if (running) {
+				LOGGER.warn("Unable to accept log forwarding connection: {}", e.getLocalizedMessage(), e);
+			}
+		}
+	}
+
+	private void read(@Nonnull final SelectionKey key, @Nonnull final Connection connection) throws IOException {
+		while (key.isValid()) {
+			ByteBuffer target = connection.payload == null ? connection.header : connection.payload;
+			if (target.hasRemaining()) {
+				int read = connection.channel.read(target);
+				if (read < 0) {
+					throw new EOFException("Log forwarding connection closed");
+				}
+				if (target.hasRemaining()) {
+					return;
+				}
+			}
+			if (connection.payload == null) {
+				connection.header.flip();
+				connection.type = connection.header.get();
+				int length = connection.header.getInt();
+				connection.header.clear();
+				if (!connection.accepted && connection.type != LogForwardingProtocol.HELLO) {
+					throw new IOException("Log forwarding handshake expected, got frame type: " + connection.type);
+				}
+				if (length < 0 || length > (connection.accepted ? maxFrameSize : LogForwardingProtocol.MAX_HELLO_SIZE)) {
+					throw new IOException("Invalid log forwarding frame length: " + length);
+				}
+				connection.payload = ByteBuffer.allocate(length);
+				continue;
+			}
+			byte[] payload = connection.payload.array();
+			connection.payload = null;
+			handle(key, connection, payload);
+		}
+	}
+
+	private void handle(@Nonnull final SelectionKey key, @Nonnull final Connection connection, @Nonnull final byte[] payload)
+			throws IOException {
+		switch (connection.type) {
+			case LogForwardingProtocol.HELLO:
+				String clientLaunchUuid = LogForwardingProtocol.decodeHello(payload);
+				if (!launchUuid.equals(clientLaunchUuid)) {
+					LOGGER.warn("Log forwarding client of another launch '{}' is rejected", clientLaunchUuid);
+					connection.channel.write(ByteBuffer.wrap(new byte[] { LogForwardingProtocol.REJECT }));
+					key.cancel();
+					closeQuietly(connection.channel);
+					return;
+				}
+				connection.accepted = true;
+				reply(key, connection, LogForwardingProtocol.ACK);
+				break;
+			case LogForwardingProtocol.ENTRIES:
+				LogForwardingProtocol.decodeEntries(payload).forEach(emitter::onNext);
+				break;
+			case LogForwardingProtocol.FLUSH:
+				reply(key, connection, LogForwardingProtocol.ACK);
+				break;
+			default:
+				throw new IOException("Unknown log forwarding frame type: " + connection.type);
+		}
+	}
+
+	private void reply(@Nonnull final SelectionKey key, @Nonnull final Connection connection, int answer) throws IOException {
+		connection.output.add(ByteBuffer.wrap(new byte[] { (byte) answer }));
+		write(key, connection);
+	}
+
+	private void write(@Nonnull final SelectionKey key, @Nonnull final Connection connection) throws IOException {
+		ByteBuffer buffer;
+		while ((buffer = connection.output.peek()) != null) {
+			connection.channel.write(buffer);
+			if (buffer.hasRemaining()) {
+				key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+				return;
+			}
+			connection.output.poll();
+		}
+		key.interestOps(SelectionKey.OP_READ);
+	}
+
+	/**
+	 * Stop accepting forwarded logs and upload the rest of them.
+	 *
+	 * @return a {@link Completable} which completes when all forwarded logs are uploaded
+	 */
+	@Nonnull
+	public Completable complete() {
+		running = false;
+		selector.wakeup();
+		try {
+			serverLoop.join(SERVER_STOP_TIMEOUT);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (serverLoop.isAlive()) {
+			LOGGER.warn("Unable to stop log forwarding server properly in {} milliseconds", SERVER_STOP_TIMEOUT);
+		}
+		emitter.onComplete();
+		return uploads;
+	}
+}
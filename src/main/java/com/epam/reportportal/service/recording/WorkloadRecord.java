@@ -0,0 +1,219 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.recording;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * One {@link com.epam.reportportal.service.Launch} API call of a recorded workload. A workload file is a GZIP compressed text file with
+ * a header line and one tab-separated line per call: time since the recording start in milliseconds, call type, caller thread lane, item
+ * ordinal, parent item ordinal, kind (item type, finish status or log level), payload size, attachment size and attachment content type.
+ * Absent values are written as <code>-1</code> or <code>-</code>.
+ */
+public class WorkloadRecord {
+
+	static final String HEADER = "#rp-workload\t1";
+	static final String NONE = "-";
+	static final int NO_ID = -1;
+
+	/**
+	 * Recorded call type
+	 */
+	public enum Type {
+		LAUNCH_START("LS"),
+		LAUNCH_FINISH("LF"),
+		ITEM_START("IS"),
+		ITEM_FINISH("IF"),
+		LOG("LOG");
+
+		private final String code;
+
+		Type(String code) {
+			this.code = code;
+		}
+
+		public String getCode() {
+			return code;
+		}
+
+		@Nonnull
+		static Type of(@Nonnull String code) {
+			for (Type type : values()) {
+				if (type.code.equals(code)) {
+					return type;
+				}
+			}
+			throw new IllegalArgumentException("Unknown workload record type: " + code);
+		}
+	}
+
+	private final long time;
+	private final Type type;
+	private final int lane;
+	private final int item;
+	private final int parent;
+	private final String kind;
+	private final long size;
+	private final long fileSize;
+	private final String contentType;
+
+	WorkloadRecord(long time, @Nonnull Type type, int lane, int item, int parent, @Nullable String kind, long size, long fileSize,
+			@Nullable String contentType) {
+		this.time = time;
+		this.type = type;
+		this.lane = lane;
+		this.item = item;
+		this.parent = parent;
+		this.kind = kind;
+		this.size = size;
+		this.fileSize = fileSize;
+		this.contentType = contentType;
+	}
+
+	/**
+	 * @return time since the recording start in milliseconds
+	 */
+	public long getTime() {
+		return time;
+	}
+
+	@Nonnull
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * @return ordinal of the thread which made the call, -1 for logs, which belong to the lane of their item
+	 */
+	public int getLane() {
+		return lane;
+	}
+
+	/**
+	 * @return ordinal of the started, finished or logged item, -1 for launch records and launch logs
+	 */
+	public int getItem() {
+		return item;
+	}
+
+	/**
+	 * @return ordinal of the parent item of a started item, -1 for root items
+	 */
+	public int getParent() {
+		return parent;
+	}
+
+	/**
+	 * @return item type for item starts, status for item finishes and level for logs
+	 */
+	@Nullable
+	public String getKind() {
+		return kind;
+	}
+
+	/**
+	 * @return JSON request size for launch and item records, message length for logs
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * @return log attachment size, 0 if there is no attachment
+	 */
+	public long getFileSize() {
+		return fileSize;
+	}
+
+	@Nullable
+	public String getContentType() {
+		return contentType;
+	}
+
+	@Nonnull
+	private static String write(@Nullable String value) {
+		return value == null || value.isEmpty() ? NONE : value.replaceAll("\\s", " ");
+	}
+
+	@Nullable
+	private static String read(@Nonnull String value) {
+		return NONE.equals(value) ? null : value;
+	}
+
+	@Nonnull
+	String toLine() {
+		return time + "\t" + type.getCode() + "\t" + lane + "\t" + item + "\t" + parent + "\t" + write(kind) + "\t" + size + "\t" + fileSize
+				+ "\t" + write(contentType);
+	}
+
+	@Nonnull
+	static WorkloadRecord parse(@Nonnull String line) {
+		String[] fields = line.split("\t");
+		if (fields.length != 9) {
+			throw new IllegalArgumentException("Invalid workload record: " + line);
+		}
+		return new WorkloadRecord(Long.parseLong(fields[0]),
+				Type.of(fields[1]),
+				Integer.parseInt(fields[2]),
+				Integer.parseInt(fields[3]),
+				Integer.parseInt(fields[4]),
+				read(fields[5]),
+				Long.parseLong(fields[6]),
+				Long.parseLong(fields[7]),
+				read(fields[8])
+		);
+	}
+
+	/**
+	 * Read a workload file written by {@link WorkloadRecorder}.
+	 *
+	 * @param file path to the file
+	 * @return recorded calls in the order of writing
+	 * @throws IOException if the file can't be read or has a wrong format
+	 */
+	@Nonnull
+	public static List<WorkloadRecord> read(@Nonnull Path file) throws IOException {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)),
+				StandardCharsets.UTF_8
+		))) {
+			String header = reader.readLine();
+			if (!HEADER.equals(header)) {
+				throw new IOException("Not a workload file: " + file);
+			}
+			List<WorkloadRecord> result = new ArrayList<>();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				try {
+					result.add(parse(line));
+				} catch (IllegalArgumentException e) {
+					throw new IOException(e.getMessage(), e);
+				}
+			}
+			return result;
+		}
+	}
+}
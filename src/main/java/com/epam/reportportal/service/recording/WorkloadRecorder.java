@@ -0,0 +1,241 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.recording;
+
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Records the sequence of {@link com.epam.reportportal.service.Launch} API calls with their timings and payload sizes to a workload file,
+ * see {@link WorkloadRecord} for the format. Items are identified by ordinals in the order of start calls and calls are assigned to
+ * lanes by caller threads, so a replay can repeat the same concurrency. Logs are recorded when their batch is sent, with the log time
+ * set by the agent.
+ * <p>
+ * The recorder serializes every launch and item request to measure it, so it is intended for recording runs only. Recording errors are
+ * logged and stop the recording, they never fail reporting. The workload file is locked while it is recorded, so other launches of the
+ * same or another process which are configured with the same file are not recorded instead of overwriting it.
+ */
+public class WorkloadRecorder implements Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(WorkloadRecorder.class);
+	private static final Set<Path> RECORDED_FILES = ConcurrentHashMap.newKeySet();
+
+	private final long start = System.currentTimeMillis();
+	private final AtomicInteger itemCounter = new AtomicInteger();
+	private final AtomicInteger laneCounter = new AtomicInteger();
+	private final Map<Long, Integer> lanes = new ConcurrentHashMap<>();
+	private final Map<Maybe<String>, Integer> items = new ConcurrentHashMap<>();
+	private final Map<String, Integer> itemIds = new ConcurrentHashMap<>();
+	private final Path file;
+	private Writer writer;
+
+	private WorkloadRecorder(@Nonnull Path file, @Nonnull Writer writer) {
+		this.file = file;
+		this.writer = writer;
+	}
+
+	/**
+	 * Create a recorder which writes to the given file. The file is overwritten, unless it is being recorded by another recorder.
+	 *
+	 * @param file path to the workload file
+	 * @return the recorder or null if the file can't be created or is being recorded
+	 */
+	@Nullable
+	public static WorkloadRecorder create(@Nonnull String file) {
+		Path path = Paths.get(file).toAbsolutePath().normalize();
+		// closing any channel of a file releases its locks held by the process, so the current process is checked without a channel
+		if (!RECORDED_FILES.add(path)) {
+			LOGGER.warn("Workload recording file '{}' is being recorded by another launch, the launch is not recorded", file);
+			return null;
+		}
+		FileChannel channel = null;
+		try {
+			channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			if (channel.tryLock() == null) {
+				LOGGER.warn("Workload recording file '{}' is being recorded by another process, the launch is not recorded", file);
+				channel.close();
+				RECORDED_FILES.remove(path);
+				return null;
+			}
+			channel.truncate(0);
+			// closing the writer closes the channel and releases the lock
+			Writer writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(Channels.newOutputStream(channel)),
+					StandardCharsets.UTF_8
+			));
+			writer.write(WorkloadRecord.HEADER);
+			writer.write('\n');
+			return new WorkloadRecorder(path, writer);
+		} catch (IOException e) {
+			LOGGER.warn("Unable to create workload recording file '{}': {}", file, e.getLocalizedMessage(), e);
+			if (channel != null) {
+				try {
+					channel.close();
+				} catch (IOException ignore) {
+				}
+			}
+			RECORDED_FILES.remove(path);
+			return null;
+		}
+	}
+
+	private int lane() {
+		return lanes.computeIfAbsent(Thread.currentThread().getId(), k -> laneCounter.getAndIncrement());
+	}
+
+	private long time() {
+		return System.currentTimeMillis() - start;
+	}
+
+	private static long size(@Nullable Object rq) {
+		if (rq == null) {
+			return 0;
+		}
+		try {
+			return HttpRequestUtils.MAPPER.writeValueAsBytes(rq).length;
+		} catch (JsonProcessingException e) {
+			return 0;
+		}
+	}
+
+	private synchronized void write(@Nonnull WorkloadRecord record) {
+		if (writer == null) {
+			return;
+		}
+		try {
+			writer.write(record.toLine());
+			writer.write('\n');
+		} catch (IOException e) {
+			LOGGER.warn("Unable to write workload recording file '{}', recording stopped: {}", file, e.getLocalizedMessage(), e);
+			close();
+		}
+	}
+
+	public void startLaunch(@Nullable StartLaunchRQ rq) {
+		write(new WorkloadRecord(time(), WorkloadRecord.Type.LAUNCH_START, lane(), WorkloadRecord.NO_ID, WorkloadRecord.NO_ID, null,
+				size(rq), 0, null
+		));
+	}
+
+	public void finishLaunch(@Nullable FinishExecutionRQ rq) {
+		write(new WorkloadRecord(time(), WorkloadRecord.Type.LAUNCH_FINISH, lane(), WorkloadRecord.NO_ID, WorkloadRecord.NO_ID, null,
+				size(rq), 0, null
+		));
+	}
+
+	/**
+	 * Record a Test Item start.
+	 *
+	 * @param parent parent item ID promise, null for root items
+	 * @param item   started item ID promise
+	 * @param rq     start request
+	 */
+	public void startItem(@Nullable Maybe<String> parent, @Nonnull Maybe<String> item, @Nonnull StartTestItemRQ rq) {
+		int ordinal = itemCounter.getAndIncrement();
+		items.put(item, ordinal);
+		//noinspection ResultOfMethodCallIgnored
+		item.subscribe(id -> itemIds.put(id, ordinal), t -> {
+		});
+		int parentOrdinal = ofNullable(parent).map(items::get).orElse(WorkloadRecord.NO_ID);
+		write(new WorkloadRecord(time(), WorkloadRecord.Type.ITEM_START, lane(), ordinal, parentOrdinal, rq.getType(), size(rq), 0,
+				null
+		));
+	}
+
+	/**
+	 * Record a Test Item finish. The item ID is forgotten once the finish is completed, logs of the item which are sent after that are
+	 * recorded without the item.
+	 *
+	 * @param item     finished item ID promise
+	 * @param rq       finish request
+	 * @param finished the item finish completion
+	 */
+	public void finishItem(@Nonnull Maybe<String> item, @Nonnull FinishTestItemRQ rq, @Nonnull Completable finished) {
+		Integer ordinal = items.remove(item);
+		if (ordinal != null) {
+			//noinspection ResultOfMethodCallIgnored
+			finished.onErrorComplete().andThen(item).subscribe(id -> itemIds.remove(id, ordinal), t -> {
+			});
+		}
+		int itemOrdinal = ofNullable(ordinal).orElse(WorkloadRecord.NO_ID);
+		write(new WorkloadRecord(time(), WorkloadRecord.Type.ITEM_FINISH, lane(), itemOrdinal, WorkloadRecord.NO_ID, rq.getStatus(),
+				size(rq), 0, null
+		));
+	}
+
+	/**
+	 * Record a batch of log entries, each entry is recorded at its log time.
+	 *
+	 * @param rqs log entries
+	 */
+	public void logs(@Nonnull List<SaveLogRQ> rqs) {
+		for (SaveLogRQ rq : rqs) {
+			int ordinal = ofNullable(rq.getItemUuid()).map(itemIds::get).orElse(WorkloadRecord.NO_ID);
+			long time = ofNullable(rq.getLogTime()).map(t -> t.getTime() - start).orElseGet(this::time);
+			SaveLogRQ.File logFile = rq.getFile();
+			long fileSize = ofNullable(logFile).map(SaveLogRQ.File::getContent).map(c -> (long) c.length).orElse(0L);
+			write(new WorkloadRecord(time, WorkloadRecord.Type.LOG, WorkloadRecord.NO_ID, ordinal, WorkloadRecord.NO_ID, rq.getLevel(),
+					ofNullable(rq.getMessage()).map(String::length).orElse(0),
+					fileSize,
+					ofNullable(logFile).map(SaveLogRQ.File::getContentType).orElse(null)
+			));
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		if (writer == null) {
+			return;
+		}
+		try {
+			writer.close();
+		} catch (IOException e) {
+			LOGGER.warn("Unable to close workload recording file '{}': {}", file, e.getLocalizedMessage(), e);
+		}
+		writer = null;
+		RECORDED_FILES.remove(file);
+	}
+}
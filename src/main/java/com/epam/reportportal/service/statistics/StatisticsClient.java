@@ -17,12 +17,13 @@
 package com.epam.reportportal.service.statistics;
 
 import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ClientRuntime;
 import com.epam.reportportal.service.statistics.item.StatisticsItem;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.reactivex.Maybe;
 import io.reactivex.Scheduler;
 import io.reactivex.schedulers.Schedulers;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.ResponseBody;
 import retrofit2.Response;
@@ -31,6 +32,8 @@ import retrofit2.adapter.rxjava2.RxJava2CallAdapterFactory;
 import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.Proxy;
@@ -43,9 +46,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
@@ -66,18 +68,43 @@ public class StatisticsClient implements Statistics {
 			.build();
 
 	private static final Path LOCAL_DATA_STORAGE = Paths.get(System.getProperty("user.home"), ".rp", "rp.properties");
-	private static final String CLIENT_ID = getClientId();
 
-	private final Map<String, String> commonParameters;
+	private static final Map<String, Transport> TRANSPORTS = new ConcurrentHashMap<>();
+
+	private final String trackingId;
+	private final String userId = UUID.randomUUID().toString();
 	private final StatisticsApiClient client;
-	private OkHttpClient httpClient;
-	private ExecutorService executor;
+	private final AtomicReference<String> transportKey = new AtomicReference<>();
+	private final OkHttpClient httpClient;
+	private volatile Map<String, String> commonParameters;
+
+	/**
+	 * HTTP client and API proxy shared by clients with the same proxy settings. Usage count is guarded by {@link #TRANSPORTS} map
+	 * computations.
+	 */
+	private static final class Transport {
+		private final OkHttpClient httpClient;
+		private final StatisticsApiClient apiClient;
+		private int users;
+
+		private Transport(OkHttpClient httpClient, StatisticsApiClient apiClient) {
+			this.httpClient = httpClient;
+			this.apiClient = apiClient;
+		}
+	}
+
+	/**
+	 * Client ID is read from the local data storage on the first sent event, not on class loading.
+	 */
+	private static final class ClientId {
+		private static final String VALUE = getClientId();
+	}
 
 	private static String getClientId() {
 		Properties properties = new Properties();
 		if (Files.exists(LOCAL_DATA_STORAGE)) {
-			try {
-				properties.load(Files.newInputStream(LOCAL_DATA_STORAGE, StandardOpenOption.READ));
+			try (InputStream input = Files.newInputStream(LOCAL_DATA_STORAGE, StandardOpenOption.READ)) {
+				properties.load(input);
 			} catch (IOException ignore) {
 			}
 
@@ -91,7 +118,9 @@ public class StatisticsClient implements Statistics {
 		try {
 			Path folder = LOCAL_DATA_STORAGE.getParent();
 			Files.createDirectories(folder);
-			properties.store(Files.newOutputStream(LOCAL_DATA_STORAGE, StandardOpenOption.CREATE), null);
+			try (OutputStream output = Files.newOutputStream(LOCAL_DATA_STORAGE, StandardOpenOption.CREATE)) {
+				properties.store(output, null);
+			}
 		} catch (IOException ignore) {
 		}
 		return id;
@@ -99,6 +128,7 @@ public class StatisticsClient implements Statistics {
 
 	private static OkHttpClient buildHttpClient(ListenerParameters parameters) {
 		OkHttpClient.Builder okHttpClient = new OkHttpClient.Builder();
+		okHttpClient.dispatcher(new Dispatcher(ClientRuntime.getIoExecutor(parameters)));
 		String proxyStr = parameters.getProxyUrl();
 
 		if (isNotBlank(proxyStr)) {
@@ -115,30 +145,44 @@ public class StatisticsClient implements Statistics {
 		return okHttpClient.build();
 	}
 
-	private static StatisticsApiClient buildClient(OkHttpClient httpClient, Scheduler scheduler) {
+	private static Transport buildTransport(ListenerParameters parameters) {
+		OkHttpClient httpClient = buildHttpClient(parameters);
+		Scheduler scheduler = Schedulers.from(ClientRuntime.getIoExecutor(parameters));
 		RxJava2CallAdapterFactory rxFactory = RxJava2CallAdapterFactory.createWithScheduler(scheduler);
 		Retrofit retrofit = new Retrofit.Builder().baseUrl(BASE_URL)
 				.addConverterFactory(JacksonConverterFactory.create())
 				.addCallAdapterFactory(rxFactory)
 				.client(httpClient)
 				.build();
-		return retrofit.create(StatisticsApiClient.class);
+		return new Transport(httpClient, retrofit.create(StatisticsApiClient.class));
 	}
 
-	private static Map<String, String> buildParams(String trackingId) {
-		return ImmutableMap.<String, String>builder()
-				.putAll(CONSTANT_REQUEST_PARAMS)
-				.put("cid", CLIENT_ID)
-				.put("uid", UUID.randomUUID().toString())
-				.put("tid", trackingId)
-				.build();
+	private Map<String, String> getCommonParameters() {
+		Map<String, String> result = commonParameters;
+		if (result == null) {
+			result = ImmutableMap.<String, String>builder()
+					.putAll(CONSTANT_REQUEST_PARAMS)
+					.put("cid", ClientId.VALUE)
+					.put("uid", userId)
+					.put("tid", trackingId)
+					.build();
+			commonParameters = result;
+		}
+		return result;
 	}
 
 	public StatisticsClient(String trackingId, ListenerParameters parameters) {
-		commonParameters = buildParams(trackingId);
-		executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("rp-stat-%s").setDaemon(true).build());
-		httpClient = buildHttpClient(parameters);
-		client = buildClient(httpClient, Schedulers.from(executor));
+		this.trackingId = trackingId;
+		// transport is shared between launches, so each launch does not create its own connection pool, dispatcher and API proxy
+		String key = ofNullable(parameters.getProxyUrl()).orElse("");
+		Transport transport = TRANSPORTS.compute(key, (k, t) -> {
+			Transport result = t == null ? buildTransport(parameters) : t;
+			result.users++;
+			return result;
+		});
+		transportKey.set(key);
+		httpClient = transport.httpClient;
+		client = transport.apiClient;
 	}
 
 	/**
@@ -152,8 +196,9 @@ public class StatisticsClient implements Statistics {
 	 * @param statisticsApiClient {@link StatisticsApiClient} instance
 	 */
 	public StatisticsClient(String trackingId, StatisticsApiClient statisticsApiClient) {
-		commonParameters = buildParams(trackingId);
+		this.trackingId = trackingId;
 		client = statisticsApiClient;
+		httpClient = null;
 	}
 
 	/**
@@ -169,25 +214,30 @@ public class StatisticsClient implements Statistics {
 
 	private Map<String, String> buildPostRequest(StatisticsItem item) {
 		Map<String, String> nameValuePairs = new HashMap<>(item.getParams());
-		nameValuePairs.putAll(commonParameters);
+		nameValuePairs.putAll(getCommonParameters());
 		return nameValuePairs;
 	}
 
+	/**
+	 * @return HTTP client of the shared transport or {@code null} if the client was created with its own API client
+	 */
+	OkHttpClient getHttpClient() {
+		return httpClient;
+	}
+
 	@Override
 	public void close() {
-		ofNullable(httpClient).ifPresent(c -> {
-			ExecutorService e = c.dispatcher().executorService();
-			e.shutdown();
-			try {
-				if (!e.awaitTermination(10, TimeUnit.SECONDS)) {
-					e.shutdownNow();
-				}
-			} catch (InterruptedException ignore) {
+		String key = transportKey.getAndSet(null);
+		if (key == null) {
+			return;
+		}
+		// the HTTP client and its threads are shared, idle connections are released only when the last user of the transport closes
+		TRANSPORTS.computeIfPresent(key, (k, t) -> {
+			if (t.httpClient != httpClient || --t.users > 0) {
+				return t;
 			}
-			c.connectionPool().evictAll();
+			t.httpClient.connectionPool().evictAll();
+			return null;
 		});
-		httpClient = null;
-		ofNullable(executor).ifPresent(ExecutorService::shutdownNow);
-		executor = null;
 	}
 }
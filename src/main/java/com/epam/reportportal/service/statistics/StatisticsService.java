@@ -17,14 +17,13 @@
 package com.epam.reportportal.service.statistics;
 
 import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ClientRuntime;
 import com.epam.reportportal.service.statistics.item.StatisticsEvent;
 import com.epam.reportportal.utils.properties.ClientProperties;
 import com.epam.reportportal.utils.properties.DefaultProperties;
 import com.epam.reportportal.utils.properties.SystemAttributesExtractor;
 import com.epam.ta.reportportal.ws.model.attribute.ItemAttributeResource;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Scheduler;
 import io.reactivex.schedulers.Schedulers;
@@ -35,11 +34,8 @@ import retrofit2.Response;
 
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Pattern;
 
 import static java.util.Optional.ofNullable;
@@ -53,25 +49,28 @@ public class StatisticsService implements Closeable {
 	private static final String START_LAUNCH_EVENT_ACTION = "Start launch";
 	private static final String CATEGORY_VALUE_FORMAT = "Client name \"%s\", version \"%s\", interpreter \"Java %s\"";
 	private static final String LABEL_VALUE_FORMAT = "Agent name \"%s\", version \"%s\"";
+	private static final long SEND_TIMEOUT_MS = 500;
 
-	private final ExecutorService statisticsExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat(
-			"rp-stat-%s").setDaemon(true).build());
-	private final Scheduler scheduler = Schedulers.from(statisticsExecutor);
+	private final Scheduler scheduler;
 	private final Statistics statistics;
-	private final List<Completable> dependencies = new CopyOnWriteArrayList<>();
-
-	private final ListenerParameters parameters;
 
 	public StatisticsService(ListenerParameters listenerParameters) {
-		this.parameters = listenerParameters;
+		scheduler = Schedulers.from(ClientRuntime.getIoExecutor(listenerParameters));
 		boolean isDisabled = System.getenv(DISABLE_PROPERTY) != null;
-		statistics = isDisabled ? new DummyClient() : new StatisticsClient("UA-173456809-1", parameters);
+		statistics = isDisabled ? new DummyClient() : new StatisticsClient("UA-173456809-1", listenerParameters);
 	}
 
 	protected Statistics getStatistics() {
 		return statistics;
 	}
 
+	/**
+	 * Send launch start event when the launch is started. The event is sent on the shared I/O threads and is dropped if it is not sent in
+	 * {@value #SEND_TIMEOUT_MS} milliseconds, nobody waits for it.
+	 *
+	 * @param launchIdMaybe launch ID promise
+	 * @param rq            launch start request
+	 */
 	public void sendEvent(Maybe<String> launchIdMaybe, StartLaunchRQ rq) {
 		StatisticsEvent.StatisticsEventBuilder statisticsEventBuilder = StatisticsEvent.builder().withAction(START_LAUNCH_EVENT_ACTION);
 		SystemAttributesExtractor.extract(CLIENT_PROPERTIES_FILE, getClass().getClassLoader(), ClientProperties.CLIENT)
@@ -97,34 +96,29 @@ public class StatisticsService implements Closeable {
 				.ifPresent(agentAttribute -> statisticsEventBuilder.withLabel(String.format(LABEL_VALUE_FORMAT,
 						(Object[]) agentAttribute
 				)));
-		Maybe<Response<ResponseBody>> statisticsMaybe = launchIdMaybe.flatMap(l -> getStatistics().send(statisticsEventBuilder.build()))
-				.cache()
+		// observeOn: the event is prepared on I/O threads, not on the thread which emits launch ID to all subscribers
+		Maybe<Response<ResponseBody>> statisticsMaybe = launchIdMaybe.observeOn(scheduler)
+				.flatMap(l -> getStatistics().send(statisticsEventBuilder.build()).timeout(SEND_TIMEOUT_MS, TimeUnit.MILLISECONDS, scheduler))
 				.subscribeOn(scheduler);
-		dependencies.add(statisticsMaybe.ignoreElement());
 		//noinspection ResultOfMethodCallIgnored
 		statisticsMaybe.subscribe(t -> {
 			ofNullable(t.body()).ifPresent(ResponseBody::close);
 			getStatistics().close();
 		}, t -> {
-			LOGGER.error("Unable to send statistics", t);
+			if (t instanceof TimeoutException) {
+				LOGGER.debug("Statistics was not sent in {} milliseconds", SEND_TIMEOUT_MS);
+			} else {
+				LOGGER.error("Unable to send statistics", t);
+			}
 			getStatistics().close();
 		});
 	}
 
+	/**
+	 * Release statistics client resources. The method does not wait for events in flight.
+	 */
 	@Override
 	public void close() {
-		Throwable result = Completable.concat(dependencies).timeout(parameters.getReportingTimeout(), TimeUnit.SECONDS).blockingGet();
-		if (result != null) {
-			LOGGER.warn("Unable to complete execution of all dependencies", result);
-		}
-		statisticsExecutor.shutdown();
-		try {
-			if (!statisticsExecutor.awaitTermination(parameters.getReportingTimeout(), TimeUnit.SECONDS)) {
-				statisticsExecutor.shutdownNow();
-			}
-		} catch (InterruptedException exc) {
-			//do nothing
-		}
 		try {
 			getStatistics().close();
 		} catch (IOException ignore) {
@@ -17,6 +17,7 @@
 package com.epam.reportportal.service.step;
 
 import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.listeners.LogLevel;
 import com.epam.reportportal.message.TypeAwareByteSource;
 import com.epam.reportportal.service.Launch;
@@ -27,6 +28,7 @@ import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
 import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,9 +39,13 @@ import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import static com.epam.reportportal.service.step.StepRequestUtils.buildFinishTestItemRequest;
+import static com.epam.reportportal.utils.markdown.MarkdownUtils.asMarkdown;
 import static com.google.common.base.Throwables.getStackTraceAsString;
 import static java.util.Optional.ofNullable;
 
@@ -57,10 +63,24 @@ public class DefaultStepReporter implements StepReporter {
 
 	private final Set<Maybe<String>> parentFailures = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
+	private final ThreadLocal<PendingStep> pendingStep = new ThreadLocal<>();
+
+	private final Map<Maybe<String>, Queue<CompactedStep>> compactedSteps = new ConcurrentHashMap<>();
+
+	/* Parents, previous, pending and compacted steps of all threads, thread-locals can't be walked from another thread */
+	private final AtomicLong retainedSteps = new AtomicLong();
+
 	private final Launch launch;
 
+	/* Nested step compaction threshold in nanoseconds, negative value means the compaction is off */
+	private final long compactionThreshold;
+
 	public DefaultStepReporter(Launch currentLaunch) {
 		launch = currentLaunch;
+		compactionThreshold = ofNullable(currentLaunch).map(Launch::getParameters)
+				.filter(ListenerParameters::isStepCompaction)
+				.map(p -> p.getStepCompactionThreshold().toNanos())
+				.orElse(-1L);
 	}
 
 	private Deque<Maybe<String>> getParentStack() {
@@ -71,6 +91,7 @@ public class DefaultStepReporter implements StepReporter {
 	public void setParent(@Nullable final Maybe<String> parentUuid) {
 		if (parentUuid != null) {
 			getParentStack().add(parentUuid);
+			retainedSteps.incrementAndGet();
 		}
 	}
 
@@ -83,11 +104,25 @@ public class DefaultStepReporter implements StepReporter {
 	@Override
 	public void removeParent(@Nullable final Maybe<String> parentUuid) {
 		if (parentUuid != null) {
-			getParentStack().removeLastOccurrence(parentUuid);
+			flushCompactedSteps(parentUuid);
+			if (getParentStack().removeLastOccurrence(parentUuid)) {
+				retainedSteps.decrementAndGet();
+			}
 			parentFailures.remove(parentUuid);
 		}
 	}
 
+	@Override
+	public void flush() {
+		new ArrayList<>(compactedSteps.keySet()).forEach(this::flushCompactedSteps);
+		parentFailures.clear();
+	}
+
+	@Override
+	public long getRetainedStepCount() {
+		return retainedSteps.get() + parentFailures.size();
+	}
+
 	@Override
 	public boolean isFailed(@Nullable final Maybe<String> parentId) {
 		if (parentId != null) {
@@ -111,8 +146,7 @@ public class DefaultStepReporter implements StepReporter {
 
 	@Override
 	public void sendStep(@Nonnull final String name) {
-		sendStep(ItemStatus.PASSED, name, () -> {
-		});
+		sendStep(ItemStatus.PASSED, name, (Runnable) null);
 	}
 
 	@Override
@@ -122,14 +156,16 @@ public class DefaultStepReporter implements StepReporter {
 
 	@Override
 	public void sendStep(@Nonnull final ItemStatus status, @Nonnull final String name) {
-		sendStep(status, name, () -> {
-		});
+		sendStep(status, name, (Runnable) null);
 	}
 
 	@Override
 	public void sendStep(@Nonnull final ItemStatus status, @Nonnull final String name, final String... logs) {
-		Runnable actions = ofNullable(logs).map(l -> (Runnable) () -> Arrays.stream(l)
-				.forEach(log -> ReportPortal.emitLog(itemId -> buildSaveLogRequest(itemId, log, LogLevel.INFO)))).orElse(null);
+		Runnable actions = logs == null || logs.length == 0 ? null : () -> {
+			for (String log : logs) {
+				ReportPortal.emitLog(itemId -> buildSaveLogRequest(itemId, log, LogLevel.INFO));
+			}
+		};
 
 		sendStep(status, name, actions);
 	}
@@ -146,8 +182,11 @@ public class DefaultStepReporter implements StepReporter {
 
 	@Override
 	public void sendStep(final @Nonnull ItemStatus status, @Nonnull final String name, final File... files) {
-		Runnable actions = ofNullable(files).map(f -> (Runnable) () -> Arrays.stream(f)
-				.forEach(file -> ReportPortal.emitLog(itemId -> buildSaveLogRequest(itemId, "", LogLevel.INFO, file)))).orElse(null);
+		Runnable actions = files == null || files.length == 0 ? null : () -> {
+			for (File file : files) {
+				ReportPortal.emitLog(itemId -> buildSaveLogRequest(itemId, "", LogLevel.INFO, file));
+			}
+		};
 
 		sendStep(status, name, actions);
 	}
@@ -167,6 +206,7 @@ public class DefaultStepReporter implements StepReporter {
 
 	private Optional<StepEntry> finishPreviousStepInternal(@Nullable ItemStatus finishStatus) {
 		return ofNullable(getSteps().pollLast()).map(stepEntry -> {
+			retainedSteps.decrementAndGet();
 			FinishTestItemRQ finishRq = stepEntry.getFinishTestItemRQ();
 			ItemStatus status = StatusEvaluation.evaluateStatus(ItemStatus.valueOf(finishRq.getStatus()), finishStatus);
 			ofNullable(status).ifPresent(s -> finishRq.setStatus(s.name()));
@@ -182,6 +222,7 @@ public class DefaultStepReporter implements StepReporter {
 	 */
 	@Override
 	public void finishPreviousStep(@Nullable ItemStatus status) {
+		flushCompactedSteps(getParent());
 		finishPreviousStepInternal(status).ifPresent(e -> {
 			if (ItemStatus.FAILED.name().equalsIgnoreCase(e.getFinishTestItemRQ().getStatus())) {
 				parentFailures.addAll(getParentStack());
@@ -200,16 +241,91 @@ public class DefaultStepReporter implements StepReporter {
 	@Override
 	@Nonnull
 	public Maybe<String> startNestedStep(@Nonnull StartTestItemRQ startStepRequest) {
+		return startNestedStep(startStepRequest, compactionThreshold >= 0);
+	}
+
+	@Nonnull
+	private Maybe<String> startNestedStep(@Nonnull StartTestItemRQ startStepRequest, boolean compactable) {
+		// a step with children can't be compacted
+		startPendingStep();
 		Maybe<String> parent = getParent();
 		if (parent == null) {
 			LOGGER.warn("Unable to find parent ID, skipping step: " + startStepRequest.getName());
 			return Maybe.empty();
 		}
+		if (compactable) {
+			PendingStep step = new PendingStep(parent, startStepRequest);
+			pendingStep.set(step);
+			retainedSteps.incrementAndGet();
+			return step.getItemId();
+		}
 		return launch.startTestItem(parent, startStepRequest);
 	}
 
+	/**
+	 * Sends start request of a nested step which was postponed due to compaction, if any. A step which emits logs is not compacted, since
+	 * its logs need an item to be attached to.
+	 */
+	@Override
+	public void startPendingStep() {
+		PendingStep step = pendingStep.get();
+		if (step == null) {
+			return;
+		}
+		pendingStep.remove();
+		retainedSteps.decrementAndGet();
+		launch.startTestItem(step.getParent(), step.getStartRequest()).subscribe(step.getItemId());
+	}
+
+	/**
+	 * Turns a postponed nested step into a line of its parent summary log if the step is passed and fast enough.
+	 *
+	 * @param finishStepRequest the step finish request
+	 * @return true if the step was compacted and should not be reported as a Test Item
+	 */
+	private boolean compactPendingStep(@Nonnull FinishTestItemRQ finishStepRequest) {
+		PendingStep step = pendingStep.get();
+		if (step == null) {
+			return false;
+		}
+		long duration = System.nanoTime() - step.getStartNanos();
+		if (duration > compactionThreshold || !ItemStatus.PASSED.name().equalsIgnoreCase(finishStepRequest.getStatus())) {
+			return false;
+		}
+		pendingStep.remove();
+		compactedSteps.computeIfAbsent(step.getParent(), p -> new ConcurrentLinkedQueue<>())
+				.add(new CompactedStep(step.getStartRequest(), duration));
+		step.getItemId().onComplete();
+		return true;
+	}
+
+	private void flushCompactedSteps(@Nullable Maybe<String> parent) {
+		Queue<CompactedStep> steps = ofNullable(parent).map(compactedSteps::remove).orElse(null);
+		if (steps == null || steps.isEmpty()) {
+			return;
+		}
+		retainedSteps.addAndGet(-steps.size());
+		Date logTime = steps.peek().getStartRequest().getStartTime();
+		StringBuilder summary = new StringBuilder("| Passed step | Duration, ms |\n|---|---|\n");
+		steps.forEach(step -> summary.append("| ")
+				.append(ofNullable(step.getStartRequest().getName()).orElse("").replace("|", "\\|").replaceAll("\\s+", " "))
+				.append(" | ")
+				.append(TimeUnit.NANOSECONDS.toMillis(step.getDuration()))
+				.append(" |\n"));
+		String message = asMarkdown(summary.toString());
+		ReportPortal.emitLog(parent, itemId -> {
+			SaveLogRQ rq = buildSaveLogRequest(itemId, message, LogLevel.INFO);
+			rq.setLogTime(logTime);
+			return rq;
+		});
+	}
+
 	@Override
 	public void finishNestedStep(@Nonnull FinishTestItemRQ finishStepRequest) {
+		if (compactPendingStep(finishStepRequest)) {
+			return;
+		}
+		startPendingStep();
 		Maybe<String> stepId = getParent();
 		if (stepId == null) {
 			LOGGER.warn("Unable to find item ID, skipping step a finish step");
@@ -231,6 +347,7 @@ public class DefaultStepReporter implements StepReporter {
 
 	@Override
 	public void finishNestedStep(@Nullable Throwable throwable) {
+		startPendingStep();
 		ReportPortal.emitLog(itemUuid -> buildSaveLogRequest(itemUuid, throwable));
 		FinishTestItemRQ finishStepRequest = buildFinishTestItemRequest(ItemStatus.FAILED);
 		finishNestedStep(finishStepRequest);
@@ -279,7 +396,7 @@ public class DefaultStepReporter implements StepReporter {
 				parentFailures.addAll(getParentStack());
 			}
 		});
-		return startNestedStep(startTestItemRQ);
+		return startNestedStep(startTestItemRQ, false);
 	}
 
 	private StartTestItemRQ buildStartStepRequest(@Nonnull String name) {
@@ -294,6 +411,7 @@ public class DefaultStepReporter implements StepReporter {
 	private void finishStepRequest(Maybe<String> stepId, ItemStatus status, Date timestamp) {
 		FinishTestItemRQ finishTestItemRQ = buildFinishTestItemRequest(status);
 		getSteps().add(new StepEntry(stepId, timestamp, finishTestItemRQ));
+		retainedSteps.incrementAndGet();
 	}
 
 	private SaveLogRQ buildSaveLogRequest(String itemId, String message, LogLevel level) {
@@ -326,6 +444,52 @@ public class DefaultStepReporter implements StepReporter {
 		return buildSaveLogRequest(itemId, throwable, null);
 	}
 
+	private static class PendingStep {
+		private final Maybe<String> parent;
+		private final StartTestItemRQ startRequest;
+		private final long startNanos = System.nanoTime();
+		private final MaybeSubject<String> itemId = MaybeSubject.create();
+
+		private PendingStep(@Nonnull Maybe<String> parent, @Nonnull StartTestItemRQ startRequest) {
+			this.parent = parent;
+			this.startRequest = startRequest;
+		}
+
+		public Maybe<String> getParent() {
+			return parent;
+		}
+
+		public StartTestItemRQ getStartRequest() {
+			return startRequest;
+		}
+
+		public long getStartNanos() {
+			return startNanos;
+		}
+
+		public MaybeSubject<String> getItemId() {
+			return itemId;
+		}
+	}
+
+	private static class CompactedStep {
+		private final StartTestItemRQ startRequest;
+		private final long duration;
+
+		private CompactedStep(@Nonnull StartTestItemRQ startRequest, long duration) {
+			this.startRequest = startRequest;
+			this.duration = duration;
+		}
+
+		public StartTestItemRQ getStartRequest() {
+			return startRequest;
+		}
+
+		public long getDuration() {
+			return duration;
+		}
+	}
+
 	private SaveLogRQ.File createFileModel(File file) throws IOException {
 		TypeAwareByteSource dataSource = Utils.getFile(file);
 		SaveLogRQ.File fileModel = new SaveLogRQ.File();
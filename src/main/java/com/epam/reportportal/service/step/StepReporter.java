@@ -80,6 +80,30 @@ public interface StepReporter {
 
 	void finishNestedStep(@Nonnull FinishTestItemRQ finishStepRequest);
 
+	/**
+	 * Start a nested step of the current thread, which start was postponed by nested step compaction, if any. Called before a log is
+	 * emitted into the current Test Item, so the log is attached to the step and not to its parent.
+	 */
+	default void startPendingStep() {
+	}
+
+	/**
+	 * Number of parent items, unfinished, postponed and compacted nested steps and failed parents retained by the reporter in all
+	 * threads. They are released as nested steps and their parents finish, so a growing number points to unfinished parents.
+	 *
+	 * @return retained entry count
+	 */
+	default long getRetainedStepCount() {
+		return 0;
+	}
+
+	/**
+	 * Send summaries of compacted nested steps whose parents were never removed and forget failures of such parents. Called when the
+	 * launch finishes, so the reporter does not retain them for the rest of the JVM life.
+	 */
+	default void flush() {
+	}
+
 	/**
 	 * Report a step with specified name.
 	 *
@@ -17,10 +17,12 @@
 package com.epam.reportportal.service.tree;
 
 import com.epam.reportportal.message.TypeAwareByteSource;
+import com.epam.reportportal.service.LaunchLoggingContext;
 import com.epam.reportportal.service.ReportPortalClient;
 import com.epam.reportportal.utils.http.HttpRequestUtils;
 import com.epam.ta.reportportal.ws.model.*;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,7 +31,9 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Date;
+import java.util.function.Function;
 
+import static com.epam.reportportal.utils.SubscriptionUtils.logMaybeResults;
 import static com.epam.reportportal.utils.files.Utils.getFile;
 
 /**
@@ -39,6 +43,11 @@ import static com.epam.reportportal.utils.files.Utils.getFile;
  * - start test item
  * - finish test item
  * - send log
+ * <p>
+ * The methods never block a caller thread: requests are composed on launch, parent and item ID {@link Maybe}s and are sent when the IDs
+ * are known. Logs are batched in the launch logging context if it's active and belongs to the launch given to the methods, i.e. it was
+ * initialized with the same launch UUID {@link Maybe} (which is the case for {@link com.epam.reportportal.service.Launch#getLaunch()}), so
+ * the launch finish waits for them. Otherwise, logs are sent directly with the given {@link ReportPortalClient}.
  *
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
@@ -68,6 +77,9 @@ public class ItemTreeReporter {
 	}
 
 	/**
+	 * Finish an item after the previous finish of the same leaf, if any. The result is set as the leaf's finish response, so consecutive
+	 * finishes of a leaf are sent in order.
+	 *
 	 * @param reportPortalClient {@link ReportPortalClient}
 	 * @param finishTestItemRQ   {@link FinishTestItemRQ}
 	 * @param launchUuid         Launch UUID
@@ -81,13 +93,14 @@ public class ItemTreeReporter {
 		if (item == null || launchUuid == null) {
 			return Maybe.empty();
 		}
-		if (finishResponse != null) {
-			Throwable t = finishResponse.ignoreElement().blockingGet(); //  ensure we are the last update in the chain
-			if (t != null) {
-				LOGGER.warn("A main item finished with error", t);
-			}
-		}
-		return sendFinishItemRequest(reportPortalClient, launchUuid, item, finishTestItemRQ);
+		//  ensure we are the last update in the chain
+		Completable previous = finishResponse == null ?
+				Completable.complete() :
+				finishResponse.ignoreElement().doOnError(t -> LOGGER.warn("A main item finished with error", t)).onErrorComplete();
+		Maybe<OperationCompletionRS> result = previous.andThen(sendFinishItemRequest(reportPortalClient, launchUuid, item, finishTestItemRQ))
+				.cache();
+		testItemLeaf.setFinishResponse(result);
+		return result;
 	}
 
 	/**
@@ -103,7 +116,9 @@ public class ItemTreeReporter {
 			Maybe<String> launchUuid, TestItemTree.TestItemLeaf testItemLeaf) {
 		Maybe<String> itemId = testItemLeaf.getItemId();
 		if (launchUuid != null && itemId != null) {
-			sendLogRequest(reportPortalClient, launchUuid, itemId, level, message, logTime).subscribe();
+			if (!emitLog(launchUuid, itemId, id -> createSaveLogRequest(null, id, level, message, logTime))) {
+				sendLogRequest(reportPortalClient, launchUuid, itemId, level, message, logTime).subscribe(logMaybeResults("Log"));
+			}
 			return true;
 		} else {
 			return false;
@@ -124,41 +139,68 @@ public class ItemTreeReporter {
 			final File file, Maybe<String> launchUuid, TestItemTree.TestItemLeaf testItemLeaf) {
 		Maybe<String> itemId = testItemLeaf.getItemId();
 		if (launchUuid != null && itemId != null) {
-			sendLogMultiPartRequest(reportPortalClient, launchUuid, itemId, level, message, logTime, file).subscribe();
+			SaveLogRQ.File fileModel;
+			try {
+				// the file is read right away, since it can be removed after the call
+				fileModel = createFileModel(file);
+			} catch (IOException e) {
+				LOGGER.error("Unable to read a file for a log: {}", file, e);
+				return false;
+			}
+			if (!emitLog(launchUuid, itemId, id -> {
+				SaveLogRQ rq = createSaveLogRequest(null, id, level, message, logTime);
+				rq.setFile(fileModel);
+				return rq;
+			})) {
+				sendLogMultiPartRequest(reportPortalClient, launchUuid, itemId, level, message, logTime, fileModel).subscribe(logMaybeResults(
+						"Log"));
+			}
 			return true;
 		} else {
 			return false;
 		}
 	}
 
+	private static boolean emitLog(final Maybe<String> launchUuid, final Maybe<String> itemId,
+			final Function<String, SaveLogRQ> logSupplier) {
+		LaunchLoggingContext context = LaunchLoggingContext.context(LaunchLoggingContext.DEFAULT_LAUNCH_KEY);
+		return context != null && context.emit(launchUuid, itemId, logSupplier);
+	}
+
 	private static Maybe<String> sendStartItemRequest(final ReportPortalClient reportPortalClient, Maybe<String> launchUuid,
 			final Maybe<String> parent, final StartTestItemRQ startTestItemRQ) {
-		startTestItemRQ.setLaunchUuid(launchUuid.blockingGet());
-		return reportPortalClient.startTestItem(parent.blockingGet(), startTestItemRQ).map(EntryCreatedAsyncRS::getId).cache();
+		return launchUuid.flatMap(launch -> parent.flatMap(parentId -> {
+			startTestItemRQ.setLaunchUuid(launch);
+			return reportPortalClient.startTestItem(parentId, startTestItemRQ);
+		})).map(EntryCreatedAsyncRS::getId).cache();
 	}
 
 	private static Maybe<OperationCompletionRS> sendFinishItemRequest(final ReportPortalClient reportPortalClient, Maybe<String> launchUuid,
 			Maybe<String> item, final FinishTestItemRQ finishTestItemRQ) {
-		finishTestItemRQ.setLaunchUuid(launchUuid.blockingGet());
-		return reportPortalClient.finishTestItem(item.blockingGet(), finishTestItemRQ);
+		return launchUuid.flatMap(launch -> item.flatMap(itemId -> {
+			finishTestItemRQ.setLaunchUuid(launch);
+			return reportPortalClient.finishTestItem(itemId, finishTestItemRQ);
+		}));
 	}
 
 	private static Maybe<EntryCreatedAsyncRS> sendLogRequest(final ReportPortalClient reportPortalClient, Maybe<String> launchUuid,
 			final Maybe<String> itemUuid, final String level, final String message, final Date logTime) {
-		SaveLogRQ saveLogRequest = createSaveLogRequest(launchUuid.blockingGet(), itemUuid.blockingGet(), level, message, logTime);
-		return reportPortalClient.log(saveLogRequest);
+		return launchUuid.flatMap(launch -> itemUuid.flatMap(itemId -> reportPortalClient.log(createSaveLogRequest(launch,
+				itemId,
+				level,
+				message,
+				logTime
+		))));
 	}
 
 	private static Maybe<BatchSaveOperatingRS> sendLogMultiPartRequest(final ReportPortalClient reportPortalClient,
 			Maybe<String> launchUuid, final Maybe<String> itemId, final String level, final String message, final Date logTime,
-			final File file) {
-		SaveLogRQ saveLogRequest = createSaveLogRequest(launchUuid.blockingGet(), itemId.blockingGet(), level, message, logTime);
-		try {
-			saveLogRequest.setFile(createFileModel(file));
-		} catch (IOException e) {
-			return Maybe.error(e);
-		}
-		return reportPortalClient.log(HttpRequestUtils.buildLogMultiPartRequest(Collections.singletonList(saveLogRequest)));
+			final SaveLogRQ.File fileModel) {
+		return launchUuid.flatMap(launch -> itemId.flatMap(item -> {
+			SaveLogRQ saveLogRequest = createSaveLogRequest(launch, item, level, message, logTime);
+			saveLogRequest.setFile(fileModel);
+			return reportPortalClient.log(HttpRequestUtils.buildLogMultiPartRequest(Collections.singletonList(saveLogRequest)));
+		}));
 	}
 
 	private static SaveLogRQ createSaveLogRequest(String launchUuid, String itemId, String level, String message, Date logTime) {
@@ -23,7 +23,9 @@ import io.reactivex.Maybe;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -128,6 +130,79 @@ public class TestItemTree {
 		return testItems;
 	}
 
+	/**
+	 * Remove a leaf with all its descendants from the tree once the leaf's finish response completes, successfully or not. Use it for
+	 * leaves which will not be reported anymore, to keep the tree size bounded in very large launches. The finish response is subscribed
+	 * here, so it should be cached, like the one set by {@link ItemTreeReporter#finishItem}.
+	 *
+	 * @param parent a parent leaf or null for root leaves
+	 * @param key    the leaf key
+	 * @return true if the removal was scheduled, false if there is no such leaf or it has no finish response
+	 */
+	public boolean evictOnFinish(@Nullable TestItemLeaf parent, @Nonnull ItemTreeKey key) {
+		final Map<ItemTreeKey, TestItemLeaf> container = parent == null ? testItems : parent.childItems;
+		final TestItemLeaf leaf = container == null ? null : container.get(key);
+		Maybe<OperationCompletionRS> finish = leaf == null ? null : leaf.getFinishResponse();
+		if (finish == null) {
+			return false;
+		}
+		//noinspection ResultOfMethodCallIgnored
+		finish.ignoreElement().onErrorComplete().subscribe(() -> container.remove(key, leaf));
+		return true;
+	}
+
+	/**
+	 * Count leaves and maps retained by the tree. The tree is walked on every call, so the method is intended for tests and diagnostics.
+	 *
+	 * @return the tree footprint
+	 */
+	@Nonnull
+	public Footprint getFootprint() {
+		long leaves = 0;
+		long maps = 1;
+		Deque<TestItemLeaf> queue = new ArrayDeque<>(testItems.values());
+		TestItemLeaf leaf;
+		while ((leaf = queue.poll()) != null) {
+			leaves++;
+			Map<ItemTreeKey, TestItemLeaf> children = leaf.childItems;
+			if (children != null) {
+				maps++;
+				queue.addAll(children.values());
+			}
+			if (leaf.attributes != null) {
+				maps++;
+			}
+		}
+		return new Footprint(leaves, maps);
+	}
+
+	/**
+	 * Memory footprint of a {@link TestItemTree}: number of retained leaves and allocated child and attribute maps. Item and finish
+	 * response promises of leaves are shared with the Launch and are counted by {@link com.epam.reportportal.service.Launch.Footprint}.
+	 */
+	public static final class Footprint {
+		private final long leafCount;
+		private final long mapCount;
+
+		private Footprint(long leafCount, long mapCount) {
+			this.leafCount = leafCount;
+			this.mapCount = mapCount;
+		}
+
+		public long getLeafCount() {
+			return leafCount;
+		}
+
+		public long getMapCount() {
+			return mapCount;
+		}
+
+		@Override
+		public String toString() {
+			return "Footprint{leafCount=" + leafCount + ", mapCount=" + mapCount + '}';
+		}
+	}
+
 	/**
 	 * Key for test items structure storing in the {@link TestItemTree}
 	 */
@@ -200,8 +275,11 @@ public class TestItemTree {
 		@Nullable
 		private Maybe<OperationCompletionRS> finishResponse;
 		private final Maybe<String> itemId;
-		private final Map<ItemTreeKey, TestItemLeaf> childItems = new ConcurrentHashMap<>();
-		private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+		// maps are allocated on the first write, most of leaves are test methods without children and attributes
+		@Nullable
+		private volatile Map<ItemTreeKey, TestItemLeaf> childItems;
+		@Nullable
+		private volatile Map<String, Object> attributes;
 		private ItemStatus status;
 		private ItemType type;
 
@@ -211,12 +289,16 @@ public class TestItemTree {
 
 		private TestItemLeaf(Maybe<String> itemId, Map<String, Object> attributes) {
 			this(itemId);
-			this.attributes.putAll(attributes);
+			if (!attributes.isEmpty()) {
+				attributeMap().putAll(attributes);
+			}
 		}
 
 		private TestItemLeaf(Maybe<String> itemId, Map<String, Object> attributes, Map<ItemTreeKey, TestItemLeaf> childItems) {
 			this(itemId, attributes);
-			this.childItems.putAll(childItems);
+			if (!childItems.isEmpty()) {
+				getChildItems().putAll(childItems);
+			}
 		}
 
 		private TestItemLeaf(@Nullable Maybe<String> parentId, Maybe<String> itemId) {
@@ -231,8 +313,10 @@ public class TestItemTree {
 
 		private TestItemLeaf(@Nullable Maybe<String> parentId, Maybe<String> itemId, Map<String, Object> attributes,
 				Map<ItemTreeKey, TestItemLeaf> childItems) {
-			this(itemId, parentId, attributes);
-			this.childItems.putAll(childItems);
+			this(parentId, itemId, attributes);
+			if (!childItems.isEmpty()) {
+				getChildItems().putAll(childItems);
+			}
 		}
 
 		@Nullable
@@ -257,9 +341,52 @@ public class TestItemTree {
 			return itemId;
 		}
 
+		/**
+		 * Return child leaves map, the map is allocated on the first call. Use {@link #getChildItem(ItemTreeKey)} to look up a child
+		 * without the allocation.
+		 *
+		 * @return child leaves map
+		 */
 		@Nonnull
 		public Map<ItemTreeKey, TestItemLeaf> getChildItems() {
-			return childItems;
+			Map<ItemTreeKey, TestItemLeaf> result = childItems;
+			if (result == null) {
+				synchronized (this) {
+					result = childItems;
+					if (result == null) {
+						result = new ConcurrentHashMap<>();
+						childItems = result;
+					}
+				}
+			}
+			return result;
+		}
+
+		/**
+		 * Get a child leaf by its key.
+		 *
+		 * @param key a child key
+		 * @return the child leaf or null if there is no such child
+		 */
+		@Nullable
+		public TestItemLeaf getChildItem(@Nonnull ItemTreeKey key) {
+			Map<ItemTreeKey, TestItemLeaf> children = childItems;
+			return children == null ? null : children.get(key);
+		}
+
+		@Nonnull
+		private Map<String, Object> attributeMap() {
+			Map<String, Object> result = attributes;
+			if (result == null) {
+				synchronized (this) {
+					result = attributes;
+					if (result == null) {
+						result = new ConcurrentHashMap<>();
+						attributes = result;
+					}
+				}
+			}
+			return result;
 		}
 
 		public ItemStatus getStatus() {
@@ -281,21 +408,30 @@ public class TestItemTree {
 		@Nullable
 		@SuppressWarnings("unchecked")
 		public <T> T getAttribute(String key) {
-			return (T) attributes.get(key);
+			Map<String, Object> map = attributes;
+			return map == null ? null : (T) map.get(key);
 		}
 
 		@Nullable
 		public Object setAttribute(String key, Object value) {
-			return attributes.put(key, value);
+			return attributeMap().put(key, value);
 		}
 
 		@Nullable
 		public Object clearAttribute(String key) {
-			return attributes.remove(key);
+			Map<String, Object> map = attributes;
+			return map == null ? null : map.remove(key);
 		}
 
+		/**
+		 * Return a read-only view of the attributes map, which reflects later changes. The map is allocated on the first call, use
+		 * {@link #getAttribute(String)} to read an attribute without the allocation.
+		 *
+		 * @return attributes map view
+		 */
+		@Nonnull
 		public Map<String, Object> getAttributes() {
-			return Collections.unmodifiableMap(attributes);
+			return Collections.unmodifiableMap(attributeMap());
 		}
 	}
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils;
+
+import io.reactivex.Maybe;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admission control for Test Item lifecycle requests. Limits the number of item requests which are simultaneously sent to a server.
+ * Only requests which are ready to be sent are counted, items which wait for their parent or launch IDs do not take slots. Requests
+ * over the limit are put into a deferred queue, which is drained as soon as in-flight requests complete. That way reporting never fails
+ * a test and a server sees steady request rate instead of bursts.
+ * <p>
+ * Callers are not blocked by default. If a wait timeout is set, a caller waits while the deferred queue is longer than the limit, but
+ * no longer than the timeout, which bounds the memory used by unsent requests of fast test threads. Regardless of the timeout, the
+ * deferred queue is kept within {@link #MAX_DEFERRED_FACTOR} times the limit: past that callers wait until the queue shrinks, but no
+ * longer than {@link #OVERFLOW_WAIT_TIMEOUT} milliseconds, and a warning is logged once.
+ */
+public class AdmissionController {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AdmissionController.class);
+
+	/**
+	 * Maximum length of the deferred queue relative to the in-flight limit
+	 */
+	public static final int MAX_DEFERRED_FACTOR = 64;
+
+	/**
+	 * Maximum time in milliseconds a caller waits when the deferred queue is full
+	 */
+	public static final long OVERFLOW_WAIT_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+
+	private final int limit;
+	private final int maxDeferred;
+	private final long waitTimeoutNs;
+	private final AtomicBoolean overflowReported = new AtomicBoolean();
+	private final Scheduler scheduler;
+
+	// a monitor would pin a virtual thread to its carrier for the wait duration
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition dequeued = lock.newCondition();
+	private final Queue<Runnable> deferred = new ArrayDeque<>();
+	private int inFlight;
+
+	/**
+	 * @param maxInFlight maximum number of simultaneous requests, zero or negative value turns the admission control off
+	 * @param waitTimeout for how long a caller thread can wait while the deferred queue is over the limit, zero value turns the wait off
+	 * @param timeUnit    wait timeout time unit
+	 * @param scheduler   a {@link Scheduler} which is used to run deferred requests
+	 */
+	public AdmissionController(int maxInFlight, long waitTimeout, @Nonnull TimeUnit timeUnit, @Nonnull Scheduler scheduler) {
+		limit = maxInFlight;
+		maxDeferred = (int) Math.min(Integer.MAX_VALUE, (long) maxInFlight * MAX_DEFERRED_FACTOR);
+		waitTimeoutNs = timeUnit.toNanos(Math.max(0, waitTimeout));
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * @return true if the admission control is active, false otherwise
+	 */
+	public boolean isEnabled() {
+		return limit > 0;
+	}
+
+	/**
+	 * @return number of requests which are being executed right now
+	 */
+	public int getInFlight() {
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return number of requests waiting in the deferred queue
+	 */
+	public int getDeferred() {
+		lock.lock();
+		try {
+			return deferred.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return maximum number of requests in the deferred queue before callers of {@link #awaitAdmission()} are blocked
+	 */
+	public int getMaxDeferred() {
+		return maxDeferred;
+	}
+
+	/**
+	 * Waits while the deferred queue is longer than the limit, but no longer than the wait timeout. Returns immediately if the admission
+	 * control is turned off, or if the wait is turned off and the deferred queue is not full. Nothing is reserved for the caller, so there
+	 * is nothing to release.
+	 */
+	public void awaitAdmission() {
+		if (!isEnabled()) {
+			return;
+		}
+		lock.lock();
+		try {
+			long remaining = waitTimeoutNs;
+			while (deferred.size() >= limit && remaining > 0) {
+				remaining = dequeued.awaitNanos(remaining);
+			}
+			if (waitTimeoutNs > 0 && deferred.size() >= limit) {
+				LOGGER.debug("Item request admission wait timed out. Deferred requests: {}", deferred.size());
+			}
+			if (deferred.size() < maxDeferred) {
+				return;
+			}
+			if (overflowReported.compareAndSet(false, true)) {
+				LOGGER.warn("Item request deferred queue is full ({} requests), test threads will wait for the server", maxDeferred);
+			}
+			remaining = TimeUnit.MILLISECONDS.toNanos(OVERFLOW_WAIT_TIMEOUT);
+			while (deferred.size() >= maxDeferred && remaining > 0) {
+				remaining = dequeued.awaitNanos(remaining);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Limits simultaneous execution of the given request. If there is no free in-flight slot on subscription the request is put into
+	 * the deferred queue and executed when another request completes.
+	 *
+	 * @param request a request to execute
+	 * @param <T>     a type of the request result
+	 * @return the request which respects the in-flight limit
+	 */
+	@Nonnull
+	public <T> Maybe<T> limitInFlight(@Nonnull final Maybe<T> request) {
+		if (!isEnabled()) {
+			return request;
+		}
+		return Maybe.create(emitter -> {
+			Runnable execution = () -> {
+				AtomicBoolean released = new AtomicBoolean();
+				Runnable release = () -> {
+					// release the slot before the result is passed downstream, since a retry re-subscribes synchronously
+					if (released.compareAndSet(false, true)) {
+						releaseInFlight();
+					}
+				};
+				if (emitter.isDisposed()) {
+					release.run();
+					return;
+				}
+				Disposable disposable = request.subscribe(r -> {
+					release.run();
+					emitter.onSuccess(r);
+				}, t -> {
+					release.run();
+					emitter.onError(t);
+				}, () -> {
+					release.run();
+					emitter.onComplete();
+				});
+				emitter.setDisposable(Disposables.fromAction(() -> {
+					disposable.dispose();
+					release.run();
+				}));
+			};
+			boolean execute;
+			lock.lock();
+			try {
+				execute = inFlight < limit;
+				if (execute) {
+					inFlight++;
+				} else {
+					deferred.add(execution);
+				}
+			} finally {
+				lock.unlock();
+			}
+			if (execute) {
+				execution.run();
+			}
+		});
+	}
+
+	private void releaseInFlight() {
+		Runnable next;
+		lock.lock();
+		try {
+			next = deferred.poll();
+			if (next == null) {
+				inFlight--;
+				return;
+			}
+			dequeued.signalAll();
+		} finally {
+			lock.unlock();
+		}
+		// the slot is passed to the next request, run it asynchronously to not grow the stack on synchronous completions
+		scheduler.scheduleDirect(next);
+	}
+}
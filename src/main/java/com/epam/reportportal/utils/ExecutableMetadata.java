@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils;
+
+import com.epam.reportportal.annotations.ParameterKey;
+import com.epam.reportportal.annotations.TestCaseIdKey;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.commons.lang3.tuple.Pair;
+
+import javax.annotation.Nonnull;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * Invocation independent parameter metadata of test methods and constructors, which is read with reflection only once per
+ * {@link Executable} and code reference.
+ */
+class ExecutableMetadata {
+
+	private static final int CACHE_SIZE = 10_000;
+
+	private static final Cache<Executable, ExecutableMetadata> METADATA = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+	private static final Cache<Pair<String, Integer>, Optional<Executable>> CODE_REFERENCES = CacheBuilder.newBuilder()
+			.maximumSize(CACHE_SIZE)
+			.build();
+
+	private final int[] testCaseIdKeys;
+	private final String[] parameterNames;
+
+	private ExecutableMetadata(@Nonnull Executable executable) {
+		Parameter[] params = executable.getParameters();
+		Annotation[][] parameterAnnotations = executable.getParameterAnnotations();
+		List<Integer> keys = new ArrayList<>();
+		parameterNames = new String[params.length];
+		for (int i = 0; i < params.length; i++) {
+			String parameterName = null;
+			for (Annotation annotation : parameterAnnotations[i]) {
+				if (annotation.annotationType() == TestCaseIdKey.class) {
+					keys.add(i);
+				} else if (parameterName == null && annotation.annotationType() == ParameterKey.class) {
+					parameterName = ((ParameterKey) annotation).value();
+				}
+			}
+			parameterNames[i] = parameterName == null ? params[i].getType().getName() : parameterName;
+		}
+		testCaseIdKeys = keys.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * @return indexes of parameters marked with {@link TestCaseIdKey} annotation
+	 */
+	@Nonnull
+	public int[] getTestCaseIdKeys() {
+		return testCaseIdKeys;
+	}
+
+	/**
+	 * @return parameter names from {@link ParameterKey} annotations or parameter type names
+	 */
+	@Nonnull
+	public String[] getParameterNames() {
+		return parameterNames;
+	}
+
+	/**
+	 * Return metadata of a method or a constructor.
+	 *
+	 * @param executable a method or a constructor
+	 * @return parameter metadata
+	 */
+	@Nonnull
+	public static ExecutableMetadata get(@Nonnull Executable executable) {
+		try {
+			return METADATA.get(executable, () -> new ExecutableMetadata(executable));
+		} catch (ExecutionException e) {
+			return new ExecutableMetadata(executable);
+		}
+	}
+
+	/**
+	 * Find a method or a constructor by its code reference and parameter number.
+	 *
+	 * @param codeRef        a code reference: a class name and a method name separated by dot, or a class name for constructors
+	 * @param parameterCount number of parameters
+	 * @return the method or the constructor, or empty {@link Optional} if not found
+	 */
+	@Nonnull
+	public static Optional<Executable> find(@Nonnull String codeRef, int parameterCount) {
+		try {
+			return CODE_REFERENCES.get(Pair.of(codeRef, parameterCount), () -> findExecutable(codeRef, parameterCount));
+		} catch (ExecutionException e) {
+			return findExecutable(codeRef, parameterCount);
+		}
+	}
+
+	@Nonnull
+	private static Optional<Executable> findExecutable(@Nonnull String codeRef, int parameterCount) {
+		int lastDelimiterIndex = codeRef.lastIndexOf('.');
+		String className = codeRef.substring(0, Math.max(lastDelimiterIndex, 0));
+		String methodName = codeRef.substring(lastDelimiterIndex + 1);
+
+		Optional<Class<?>> testStepClass;
+		try {
+			testStepClass = Optional.of(Class.forName(className));
+		} catch (ClassNotFoundException e1) {
+			try {
+				testStepClass = Optional.of(Class.forName(codeRef));
+			} catch (ClassNotFoundException e2) {
+				testStepClass = Optional.empty();
+			}
+		}
+		return testStepClass.flatMap(cl -> Stream.concat(Arrays.stream(cl.getDeclaredMethods()), Arrays.stream(cl.getDeclaredConstructors()))
+				.filter(m -> methodName.equals(m.getName()) || codeRef.equals(m.getName()))
+				.filter(m -> m.getParameterCount() == parameterCount)
+				.findAny());
+	}
+}
@@ -16,22 +16,17 @@
 
 package com.epam.reportportal.utils;
 
-import com.epam.reportportal.annotations.ParameterKey;
 import com.epam.ta.reportportal.ws.model.ParameterResource;
 import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Executable;
-import java.lang.reflect.Parameter;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import static java.util.Optional.ofNullable;
 
@@ -57,19 +52,15 @@ public class ParameterUtils {
 	@Nonnull
 	public static <T> List<ParameterResource> getParameters(@Nonnull final Executable method, @Nullable final List<T> parameterValues) {
 		List<?> values = ofNullable(parameterValues).orElse(Collections.emptyList());
-		Parameter[] params = method.getParameters();
-		Annotation[][] parameterAnnotations = method.getParameterAnnotations();
-		return IntStream.range(0, params.length).boxed().map(i -> {
+		String[] parameterNames = ExecutableMetadata.get(method).getParameterNames();
+		List<ParameterResource> result = new ArrayList<>(parameterNames.length);
+		for (int i = 0; i < parameterNames.length; i++) {
 			ParameterResource res = new ParameterResource();
-			String parameterName = Arrays.stream(parameterAnnotations[i])
-					.filter(a -> ParameterKey.class.equals(a.annotationType()))
-					.map(a -> ((ParameterKey) a).value())
-					.findFirst()
-					.orElseGet(() -> params[i].getType().getName());
-			res.setKey(parameterName);
+			res.setKey(parameterNames[i]);
 			res.setValue(ofNullable(i < values.size() ? values.get(i) : null).map(String::valueOf).orElse(NULL_VALUE));
-			return res;
-		}).collect(Collectors.toList());
+			result.add(res);
+		}
+		return result;
 	}
 
 	/**
@@ -131,27 +122,8 @@ public class ParameterUtils {
 				.map(a -> (Object) a.getValue())
 				.collect(Collectors.toList()));
 
-		return ofNullable(codeRef).flatMap(cr -> {
-			int lastDelimiterIndex = cr.lastIndexOf('.');
-			String className = cr.substring(0, lastDelimiterIndex);
-			String methodName = cr.substring(lastDelimiterIndex + 1);
-
-			Optional<Class<?>> testStepClass;
-			try {
-				testStepClass = Optional.of(Class.forName(className));
-			} catch (ClassNotFoundException e1) {
-				try {
-					testStepClass = Optional.of(Class.forName(cr));
-				} catch (ClassNotFoundException e2) {
-					testStepClass = Optional.empty();
-				}
-			}
-			return testStepClass.flatMap(cl -> Stream.concat(Arrays.stream(cl.getDeclaredMethods()),
-					Arrays.stream(cl.getDeclaredConstructors())
-			)
-					.filter(m -> methodName.equals(m.getName()) || cr.equals(m.getName()))
-					.filter(m -> m.getParameterCount() == paramValues.map(List::size).orElse(0))
-					.findAny());
-		}).map(m -> ParameterUtils.getParameters(m, paramValues.orElse(null))).orElse(getParameters(parameters));
+		return ofNullable(codeRef).flatMap(cr -> ExecutableMetadata.find(cr, paramValues.map(List::size).orElse(0)))
+				.map(m -> ParameterUtils.getParameters(m, paramValues.orElse(null)))
+				.orElse(getParameters(parameters));
 	}
 }
@@ -24,10 +24,9 @@ import com.epam.reportportal.utils.templating.TemplateProcessing;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -77,23 +76,14 @@ public class TestCaseIdUtils {
 		if (executable == null || parameters == null || parameters.isEmpty()) {
 			return null;
 		}
-		Annotation[][] parameterAnnotations = executable.getParameterAnnotations();
-		List<Integer> keys = new ArrayList<>();
-		for (int paramIndex = 0; paramIndex < parameterAnnotations.length; paramIndex++) {
-			for (int annotationIndex = 0; annotationIndex < parameterAnnotations[paramIndex].length; annotationIndex++) {
-				Annotation testCaseIdAnnotation = parameterAnnotations[paramIndex][annotationIndex];
-				if (testCaseIdAnnotation.annotationType() == TestCaseIdKey.class) {
-					keys.add(paramIndex);
-				}
-			}
-		}
-		if (keys.isEmpty()) {
+		int[] keys = ExecutableMetadata.get(executable).getTestCaseIdKeys();
+		if (keys.length == 0) {
 			return TRANSFORM_PARAMETERS.apply(parameters);
 		}
-		if (keys.size() <= 1) {
-			return String.valueOf(parameters.get(keys.get(0)));
+		if (keys.length == 1) {
+			return String.valueOf(parameters.get(keys[0]));
 		}
-		return TRANSFORM_PARAMETERS.apply(keys.stream().map(parameters::get).collect(Collectors.toList()));
+		return TRANSFORM_PARAMETERS.apply(Arrays.stream(keys).mapToObj(parameters::get).collect(Collectors.toList()));
 	}
 
 	/**
@@ -64,7 +64,34 @@ public enum ListenerProperty {
     ASYNC_REPORTING("rp.reporting.async", false),
     CALLBACK_REPORTING_ENABLED("rp.reporting.callback", false),
     SKIPPED_AS_ISSUE("rp.skipped.issue", false),
+    /**
+     * Thread budget of the client in the JVM: shared request / response processing threads and shared scheduler threads.
+     */
     IO_POOL_SIZE("rp.io.pool.size", false),
+    SCHEDULER_POOL_SIZE("rp.scheduler.pool.size", false),
+    /**
+     * Run request / response processing on virtual threads instead of the {@link #IO_POOL_SIZE} pool, if the JVM supports them.
+     */
+    IO_VIRTUAL_THREADS("rp.io.virtual.threads", false),
+    /**
+     * A file to record Launch API calls of the run to, for a later replay in performance tests.
+     */
+    RECORDING_FILE("rp.reporting.recording.file", false),
+
+    /**
+     * Item start / finish requests admission control. Maximum number of simultaneous item requests and for how long a caller will wait
+     * while the deferred request queue is over the limit, by default callers do not wait.
+     */
+    ITEM_ADMISSION_LIMIT("rp.reporting.admission.limit", false),
+    ITEM_ADMISSION_TIMEOUT_VALUE("rp.reporting.admission.timeout.value", false),
+    ITEM_ADMISSION_TIMEOUT_UNIT("rp.reporting.admission.timeout.unit", false),
+
+    /**
+     * Nested step compaction: passed nested steps which are shorter than the threshold are reported as a log summary on the parent item.
+     */
+    STEP_COMPACTION("rp.reporting.step.compaction", false),
+    STEP_COMPACTION_THRESHOLD_VALUE("rp.reporting.step.compaction.threshold.value", false),
+    STEP_COMPACTION_THRESHOLD_UNIT("rp.reporting.step.compaction.threshold.unit", false),
 
     /**
      * Run report portal client in multiple client mode. In such mode RC client will share one launch ID between all clients on the machine.
@@ -86,6 +113,17 @@ public enum ListenerProperty {
     FILE_SYNC_NAME("rp.client.join.file.sync.name", false),
     CLIENT_JOIN_LOCK_PORT("rp.client.join.port", false),
 
+    /**
+     * A host of the launch join coordinator for {@code NETWORK} join mode, an instance running on that host serves the lock for all others.
+     */
+    CLIENT_JOIN_COORDINATOR_HOST("rp.client.join.coordinator.host", false),
+
+    /**
+     * Forward logs of secondary launches to the primary launch process, which uploads them in shared batches.
+     */
+    CLIENT_JOIN_LOG_FORWARDING("rp.client.join.log.forwarding", false),
+    CLIENT_JOIN_LOG_PORT("rp.client.join.log.port", false),
+
     /**
      * General Launch Lock timeout value. For how long the primary launch will wait for secondary launches until finish and exit.
      */
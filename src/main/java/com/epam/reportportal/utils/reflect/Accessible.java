@@ -49,21 +49,10 @@ public class Accessible {
 	}
 
 	private Field getField(String fieldName) throws NoSuchFieldException {
-		Class<?> clazz = object.getClass();
-
-		try {
-			return clazz.getField(fieldName);
-		} catch (NoSuchFieldException e) {
-			do {
-				try {
-					return clazz.getDeclaredField(fieldName);
-				} catch (NoSuchFieldException ignore) {
-				}
-
-				clazz = clazz.getSuperclass();
-			} while (clazz != null);
-
-			throw e;
+		Field field = FieldCache.getField(object.getClass(), fieldName);
+		if (field == null) {
+			throw new NoSuchFieldException(fieldName);
 		}
+		return field;
 	}
 }
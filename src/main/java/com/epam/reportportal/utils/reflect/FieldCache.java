@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.reflect;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-class cache of resolved fields. A field is looked up in a class hierarchy and made accessible only once, missing fields are cached
+ * too, so repeated lookups of the same name never walk the hierarchy or throw exceptions again.
+ */
+public class FieldCache {
+
+	private static final ClassValue<Map<String, Optional<Field>>> FIELDS = new ClassValue<Map<String, Optional<Field>>>() {
+		@Override
+		protected Map<String, Optional<Field>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private FieldCache() {
+		throw new IllegalStateException("Static only class");
+	}
+
+	/**
+	 * Find a field with the given name: a public field of the class or its parents, or any declared field through the class hierarchy.
+	 *
+	 * @param type a class to look up
+	 * @param name field name
+	 * @return the field or 'null' if there is no such field
+	 */
+	@Nullable
+	public static Field getField(@Nonnull Class<?> type, @Nonnull String name) {
+		Map<String, Optional<Field>> fields = FIELDS.get(type);
+		Optional<Field> field = fields.get(name);
+		if (field == null) {
+			field = Optional.ofNullable(findField(type, name));
+			fields.put(name, field);
+		}
+		return field.orElse(null);
+	}
+
+	/**
+	 * Get value of a field with the given name.
+	 *
+	 * @param object an object to get the value from
+	 * @param name   field name
+	 * @return field value
+	 * @throws NoSuchFieldException if there is no such field in the object class
+	 */
+	@Nullable
+	public static Object getValue(@Nonnull Object object, @Nonnull String name) throws NoSuchFieldException {
+		Field field = getField(object.getClass(), name);
+		if (field == null) {
+			throw new NoSuchFieldException(name);
+		}
+		try {
+			return field.get(object);
+		} catch (IllegalAccessException e) { //NOSONAR
+			throw new IllegalAccessError(e.getMessage());
+		}
+	}
+
+	@Nullable
+	private static Field findField(@Nonnull Class<?> type, @Nonnull String name) {
+		Field field = null;
+		try {
+			field = type.getField(name);
+		} catch (NoSuchFieldException e) {
+			Class<?> clazz = type;
+			do {
+				try {
+					field = clazz.getDeclaredField(name);
+				} catch (NoSuchFieldException ignore) {
+				}
+				clazz = clazz.getSuperclass();
+			} while (field == null && clazz != null);
+		}
+		if (field != null) {
+			try {
+				field.setAccessible(true);
+			} catch (RuntimeException ignore) {
+				// not accessible, e.g. a private field of a module class; 'get' will report that
+			}
+		}
+		return field;
+	}
+}
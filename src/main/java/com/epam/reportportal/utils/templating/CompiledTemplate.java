@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.templating;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A template string which is parsed once and then rendered many times with different values. Each template reference is resolved into
+ * a slot index on compilation, so rendering does not require neither regular expressions nor parameter maps.
+ * <p>
+ * The result of rendering is equal to {@link TemplateProcessing#processTemplate(String, java.util.Map, TemplateConfiguration)} call with
+ * the same template and values.
+ */
+public class CompiledTemplate {
+	private static final Logger LOGGER = LoggerFactory.getLogger(CompiledTemplate.class);
+
+	/**
+	 * Slot index for template references which can't be resolved
+	 */
+	public static final int NOT_FOUND = -1;
+
+	private static final int MAX_CACHED_BUILDER_CAPACITY = 8 * 1024;
+
+	private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+
+	private final TemplateConfiguration config;
+	private final String[] literals;
+	private final Reference[] references;
+	private final int literalLength;
+
+	private CompiledTemplate(@Nonnull TemplateConfiguration config, @Nonnull String[] literals, @Nonnull Reference[] references) {
+		this.config = config;
+		this.literals = literals;
+		this.references = references;
+		int length = 0;
+		for (String literal : literals) {
+			length += literal.length();
+		}
+		literalLength = length;
+	}
+
+	/**
+	 * Parse given template into its compiled form.
+	 *
+	 * @param pattern      text pattern to compile
+	 * @param config       templating mechanism configuration
+	 * @param slotResolver converts a template variable name into an index of a slot in a value array passed into
+	 *                     {@link #render(Object[])} method, or returns {@link #NOT_FOUND}
+	 * @return compiled template
+	 */
+	@Nonnull
+	public static CompiledTemplate compile(@Nonnull String pattern, @Nonnull TemplateConfiguration config,
+			@Nonnull ToIntFunction<String> slotResolver) {
+		List<String> literals = new ArrayList<>();
+		List<Reference> references = new ArrayList<>();
+		Pattern fieldDelimiter = Pattern.compile(Pattern.quote(config.getFieldDelimiter()));
+		Matcher matcher = TemplateProcessing.TEMPLATE_GROUP.matcher(pattern);
+		int position = 0;
+		while (matcher.find()) {
+			literals.add(pattern.substring(position, matcher.start()));
+			String templatePart = matcher.group(1);
+			String[] fields = fieldDelimiter.split(templatePart);
+			references.add(new Reference(templatePart, matcher.group(0), fields, slotResolver.applyAsInt(fields[0])));
+			position = matcher.end();
+		}
+		literals.add(pattern.substring(position));
+		return new CompiledTemplate(config, literals.toArray(new String[0]), references.toArray(new Reference[0]));
+	}
+
+	/**
+	 * @return true if the template has no references and renders into the same string every time
+	 */
+	public boolean isConstant() {
+		return references.length == 0;
+	}
+
+	/**
+	 * Render the template with given values.
+	 *
+	 * @param slots values of template variables, in order defined by the slot resolver
+	 * @return formatted string
+	 */
+	@Nonnull
+	public String render(@Nonnull Object[] slots) {
+		if (isConstant()) {
+			return literals[0];
+		}
+		StringBuilder builder = BUILDER.get();
+		// the builder can be busy if a value's toString() renders another template
+		boolean reuse = builder.length() == 0;
+		if (!reuse) {
+			builder = new StringBuilder(literalLength + 16 * references.length);
+		}
+		render(builder, slots);
+		String result = builder.toString();
+		if (reuse) {
+			if (builder.capacity() > MAX_CACHED_BUILDER_CAPACITY) {
+				BUILDER.remove();
+			} else {
+				builder.setLength(0);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Render the template with given values into the given {@link StringBuilder}.
+	 *
+	 * @param builder a builder to append the result to
+	 * @param slots   values of template variables, in order defined by the slot resolver
+	 */
+	public void render(@Nonnull StringBuilder builder, @Nonnull Object[] slots) {
+		for (int i = 0; i < references.length; i++) {
+			builder.append(literals[i]);
+			Reference reference = references[i];
+			if (reference.slot == NOT_FOUND || reference.slot >= slots.length) {
+				LOGGER.error("Param - " + reference.fields[0] + " was not found");
+				builder.append(reference.original);
+				continue;
+			}
+			try {
+				builder.append(TemplateProcessing.retrieveValue(config, 1, reference.fields, slots[reference.slot]));
+			} catch (NoSuchFieldException e) {
+				LOGGER.error("Unable to parse: " + reference.templatePart);
+				builder.append(reference.original);
+			}
+		}
+		builder.append(literals[references.length]);
+	}
+
+	private static class Reference {
+		private final String templatePart;
+		private final String original;
+		private final String[] fields;
+		private final int slot;
+
+		private Reference(String templatePart, String original, String[] fields, int slot) {
+			this.templatePart = templatePart;
+			this.original = original;
+			this.fields = fields;
+			this.slot = slot;
+		}
+	}
+}
@@ -16,7 +16,7 @@
 
 package com.epam.reportportal.utils.templating;
 
-import com.epam.reportportal.utils.reflect.Accessible;
+import com.epam.reportportal.utils.reflect.FieldCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,7 +36,7 @@ public class TemplateProcessing {
 
 	private static final String NULL_VALUE = "NULL";
 
-	private static final Pattern TEMPLATE_GROUP = Pattern.compile("\\{([\\w$]+(\\.[\\w$]+)*)}");
+	static final Pattern TEMPLATE_GROUP = Pattern.compile("\\{([\\w$]+(\\.[\\w$]+)*)}");
 
 	private TemplateProcessing() {
 		throw new IllegalStateException("Static only class");
@@ -116,7 +116,7 @@ public class TemplateProcessing {
 				return parseCollection(templateConfig, (Iterable<?>) object, i, fields);
 			}
 
-			object = Accessible.on(object).field(fields[i]).getValue();
+			object = FieldCache.getValue(object, fields[i]);
 
 		}
 
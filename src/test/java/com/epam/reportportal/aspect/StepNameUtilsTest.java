@@ -242,4 +242,20 @@ public class StepNameUtilsTest {
 		String result = StepNameUtils.getStepName(methodSignature.getMethod().getAnnotation(Step.class), methodSignature, joinPoint);
 		assertThat(result, equalTo("A verifyConfigurationOverride"));
 	}
+
+	@Test
+	public void test_compiled_step_name_uses_invocation_arguments() throws NoSuchMethodException {
+		when(methodSignature.getMethod()).thenReturn(this.getClass().getDeclaredMethod("stepWithAValueInName", String.class));
+		when(methodSignature.getParameterNames()).thenReturn(new String[] { "value" });
+		when(joinPoint.getThis()).thenReturn(this);
+		Step step = methodSignature.getMethod().getAnnotation(Step.class);
+
+		when(joinPoint.getArgs()).thenReturn(new String[] { "first" });
+		String firstResult = StepNameUtils.getStepName(step, methodSignature, joinPoint);
+		when(joinPoint.getArgs()).thenReturn(new String[] { "second" });
+		String secondResult = StepNameUtils.getStepName(step, methodSignature, joinPoint);
+
+		assertThat(firstResult, equalTo("A test step value first"));
+		assertThat(secondResult, equalTo("A test step value second"));
+	}
 }
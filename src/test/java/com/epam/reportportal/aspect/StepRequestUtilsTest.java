@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.aspect;
+
+import com.epam.reportportal.annotations.Step;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class StepRequestUtilsTest {
+
+	@Mock
+	public MethodSignature methodSignature;
+
+	@Test
+	public void test_cached_step_metadata_is_not_shared_between_requests() throws NoSuchMethodException {
+		Method method = StepAspectCommon.getMethod("testNestedStepAttributeAnnotation");
+		JoinPoint joinPoint = StepAspectCommon.getJoinPoint(methodSignature, method);
+		Step step = method.getAnnotation(Step.class);
+
+		StartTestItemRQ first = StepRequestUtils.buildStartStepRequest(methodSignature, step, joinPoint);
+		StartTestItemRQ second = StepRequestUtils.buildStartStepRequest(methodSignature, step, joinPoint);
+
+		assertThat(first.getDescription(), equalTo(StepAspectCommon.TEST_STEP_DESCRIPTION));
+		assertThat(second.getDescription(), equalTo(StepAspectCommon.TEST_STEP_DESCRIPTION));
+		assertThat(first.getAttributes(), hasSize(1));
+		assertThat(second.getAttributes(), equalTo(first.getAttributes()));
+		assertThat(second.getAttributes(), not(sameInstance(first.getAttributes())));
+
+		ItemAttributesRQ attribute = first.getAttributes().iterator().next();
+		String value = attribute.getValue();
+		attribute.setValue("modified by a listener");
+		StartTestItemRQ third = StepRequestUtils.buildStartStepRequest(methodSignature, step, joinPoint);
+		assertThat(third.getAttributes().iterator().next().getValue(), equalTo(value));
+		assertThat(second.getAttributes().iterator().next().getValue(), equalTo(value));
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.test.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ClientRuntimeTest {
+
+	@Test
+	public void test_client_runtime_pools_are_shared() {
+		ExecutorService executor = ClientRuntime.getIoExecutor(TestUtils.standardParameters());
+		ScheduledExecutorService scheduler = ClientRuntime.getScheduler(TestUtils.standardParameters());
+
+		assertThat(ClientRuntime.getIoExecutor(TestUtils.standardParameters()), sameInstance(executor));
+		assertThat(ClientRuntime.getScheduler(TestUtils.standardParameters()), sameInstance(scheduler));
+	}
+
+	@Test
+	public void test_shared_pools_ignore_shutdown() throws Exception {
+		ListenerParameters parameters = TestUtils.standardParameters();
+		ExecutorService executor = ClientRuntime.getIoExecutor(parameters);
+		ScheduledExecutorService scheduler = ClientRuntime.getScheduler(parameters);
+
+		executor.shutdown();
+		assertThat(executor.shutdownNow(), empty());
+		scheduler.shutdown();
+		assertThat(scheduler.shutdownNow(), empty());
+
+		assertThat(executor.isShutdown(), equalTo(Boolean.FALSE));
+		assertThat(scheduler.isShutdown(), equalTo(Boolean.FALSE));
+		assertThat(executor.submit(() -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS), startsWith("rp-io-"));
+		assertThat(scheduler.schedule(() -> Thread.currentThread().getName(), 1, TimeUnit.MILLISECONDS).get(10, TimeUnit.SECONDS),
+				startsWith("rp-scheduler-")
+		);
+	}
+
+	@Test
+	public void test_virtual_thread_executor_is_created_if_jvm_supports_it() throws Exception {
+		boolean supported = Arrays.stream(Thread.class.getMethods()).anyMatch(m -> "ofVirtual".equals(m.getName()));
+		ExecutorService executor = ClientRuntime.createVirtualThreadExecutor("rp-test-");
+
+		if (!supported) {
+			assertThat(executor, nullValue());
+			return;
+		}
+		assertThat(executor, notNullValue());
+		try {
+			assertThat(executor.submit(() -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS), startsWith("rp-test-"));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void test_blocking_scheduled_task_runs_on_lock_threads_without_overlapping() throws Exception {
+		ListenerParameters parameters = TestUtils.standardParameters();
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger runs = new AtomicInteger();
+		CompletableFuture<String> thread = new CompletableFuture<>();
+		ScheduledFuture<?> task = ClientRuntime.scheduleBlockingWithFixedDelay(parameters, () -> {
+			runs.incrementAndGet();
+			thread.complete(Thread.currentThread().getName());
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, 0, 1, TimeUnit.MILLISECONDS);
+		try {
+			assertThat(thread.get(10, TimeUnit.SECONDS), startsWith("rp-lock-"));
+			// the scheduler thread is not blocked by the running task
+			assertThat(ClientRuntime.getScheduler(parameters).schedule(() -> true, 1, TimeUnit.MILLISECONDS).get(10, TimeUnit.SECONDS),
+					equalTo(Boolean.TRUE)
+			);
+			Thread.sleep(50);
+			assertThat(runs.get(), equalTo(1));
+		} finally {
+			task.cancel(false);
+			release.countDown();
+		}
+	}
+
+	@Test
+	public void test_blocking_scheduled_tasks_run_while_io_pool_is_saturated() throws Exception {
+		ListenerParameters parameters = TestUtils.standardParameters();
+		ExecutorService executor = ClientRuntime.getIoExecutor(parameters);
+		CountDownLatch release = new CountDownLatch(1);
+		// all I/O threads are busy and more requests are queued
+		for (int i = 0; i < parameters.getIoPoolSize() * 2; i++) {
+			executor.execute(() -> {
+				try {
+					release.await(30, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		CountDownLatch heartbeats = new CountDownLatch(3);
+		ScheduledFuture<?> task = ClientRuntime.scheduleBlockingWithFixedDelay(parameters, heartbeats::countDown, 0, 10, TimeUnit.MILLISECONDS);
+		try {
+			assertThat(heartbeats.await(10, TimeUnit.SECONDS), equalTo(Boolean.TRUE));
+		} finally {
+			task.cancel(false);
+			release.countDown();
+		}
+	}
+
+	@Test
+	public void test_owned_io_executor_can_be_shut_down_and_awaited() throws Exception {
+		ExecutorService executor = ClientRuntime.newIoExecutor(TestUtils.standardParameters());
+		CountDownLatch release = new CountDownLatch(1);
+		Future<String> task = executor.submit(() -> {
+			release.await(10, TimeUnit.SECONDS);
+			return Thread.currentThread().getName();
+		});
+
+		executor.shutdown();
+		assertThat(executor.isShutdown(), equalTo(Boolean.TRUE));
+		assertThat(executor.awaitTermination(50, TimeUnit.MILLISECONDS), equalTo(Boolean.FALSE));
+		Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+		}));
+
+		release.countDown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), equalTo(Boolean.TRUE));
+		assertThat(executor.isTerminated(), equalTo(Boolean.TRUE));
+		assertThat(task.get(), startsWith("rp-io-"));
+		// the shared pool keeps running
+		assertThat(ClientRuntime.getIoExecutor(TestUtils.standardParameters()).isShutdown(), equalTo(Boolean.FALSE));
+	}
+
+	@Test
+	public void test_virtual_thread_executor_bounds_running_tasks() throws Exception {
+		ExecutorService virtualExecutor = ClientRuntime.createVirtualThreadExecutor("rp-test-");
+		if (virtualExecutor == null) {
+			return;
+		}
+		ExecutorService executor = new ClientRuntime.SharedVirtualThreadExecutor(virtualExecutor, 2);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			List<Future<?>> tasks = new ArrayList<>();
+			for (int i = 0; i < 5; i++) {
+				tasks.add(executor.submit(() -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					release.await(10, TimeUnit.SECONDS);
+					running.decrementAndGet();
+					return null;
+				}));
+			}
+			Thread.sleep(100);
+			assertThat(running.get(), equalTo(2));
+			release.countDown();
+			for (Future<?> task : tasks) {
+				task.get(10, TimeUnit.SECONDS);
+			}
+			assertThat(maxRunning.get(), equalTo(2));
+			assertThat(executor.awaitTermination(1, TimeUnit.MINUTES), equalTo(Boolean.FALSE));
+		} finally {
+			virtualExecutor.shutdown();
+		}
+	}
+}
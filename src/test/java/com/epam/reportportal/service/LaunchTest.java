@@ -27,8 +27,11 @@ import com.epam.reportportal.utils.properties.DefaultProperties;
 import com.epam.ta.reportportal.ws.model.*;
 import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import io.reactivex.Maybe;
+import io.reactivex.disposables.Disposable;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -37,6 +40,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -47,6 +51,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -384,6 +389,18 @@ public class LaunchTest {
 		assertThat(client.getItemByUuid("test"), notNullValue());
 	}
 
+	@Test
+	public void test_noop_launch_step_aspect_does_not_touch_join_point() throws NoSuchMethodException {
+		Launch.NOOP_LAUNCH.getParameters();
+		assertThat(Launch.currentLaunch(), sameInstance(Launch.NOOP_LAUNCH));
+
+		JoinPoint joinPoint = mock(JoinPoint.class);
+		Method method = StepAspectCommon.class.getMethod("testNestedStepSimple");
+		new StepAspect().startNestedStep(joinPoint, method.getAnnotation(Step.class));
+
+		verifyNoInteractions(joinPoint);
+	}
+
 	@Test
 	public void verify_launch_get_response() {
 		simulateStartLaunchResponse(rpClient);
@@ -402,4 +419,60 @@ public class LaunchTest {
 		Maybe<String> getLaunch = launch.getLaunch();
 		assertThat(getLaunch, sameInstance(launchUuid));
 	}
+
+	@Test
+	public void launch_footprint_counts_finished_root_items_until_launch_finish() {
+		simulateStartLaunchResponse(rpClient);
+		simulateStartTestItemResponse(rpClient);
+		simulateFinishTestItemResponse(rpClient);
+
+		LaunchImpl launch = new LaunchImpl(rpClient, STANDARD_PARAMETERS, standardLaunchRequest(STANDARD_PARAMETERS), executor) {
+			@Override
+			StatisticsService getStatisticsService() {
+				return statisticsService;
+			}
+		};
+		launch.start();
+		Launch.Footprint empty = launch.getFootprint();
+
+		Maybe<String> suiteRs = launch.startTestItem(standardStartSuiteRequest());
+		Launch.Footprint started = launch.getFootprint();
+		assertThat(started.getItemCount(), equalTo(empty.getItemCount() + 1));
+		assertThat(started.getLoggingContextCount(), equalTo(1L));
+		assertThat(started.getStepCount(), equalTo(1L));
+
+		launch.finishTestItem(suiteRs, positiveFinishRequest()).blockingGet();
+
+		Launch.Footprint footprint = launch.getFootprint();
+		assertThat(footprint.getItemCount(), equalTo(empty.getItemCount() + 1));
+		assertThat(footprint.getCompletionCount(), greaterThan(empty.getCompletionCount()));
+		assertThat(footprint.getLoggingContextCount(), equalTo(0L));
+		assertThat(footprint.getStepCount(), equalTo(0L));
+		assertThat(footprint.getLogBytes(), equalTo(0L));
+	}
+
+	@Test
+	public void noop_launch_footprint_is_empty() {
+		Launch.Footprint footprint = Launch.NOOP_LAUNCH.getFootprint();
+		assertThat(footprint.getItemCount(), equalTo(0L));
+		assertThat(footprint.getStepCount(), equalTo(0L));
+		assertThat(footprint.getLogBytes(), equalTo(0L));
+	}
+
+	@Test
+	public void launch_footprint_counts_log_batches_being_sent() {
+		when(rpClient.log(anyList())).thenReturn(Maybe.never());
+		LaunchImpl launch = new LaunchImpl(rpClient, STANDARD_PARAMETERS, standardLaunchRequest(STANDARD_PARAMETERS), executor);
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setMessage("message");
+		SaveLogRQ.File file = new SaveLogRQ.File();
+		file.setContent(new byte[1024]);
+		rq.setFile(file);
+
+		Disposable sending = launch.sendLogs(Collections.singletonList(rq)).subscribe();
+		assertThat(launch.getFootprint().getLogBytes(), equalTo(1024L + rq.getMessage().length()));
+
+		sending.dispose();
+		assertThat(launch.getFootprint().getLogBytes(), equalTo(0L));
+	}
 }
@@ -44,6 +44,7 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -420,4 +421,47 @@ public class ReportPortalClientJoinTest {
 		verify(launchIdLock, atLeast(1)).getLiveInstanceUuids();
 		assertThat(finishThread.isAlive(), equalTo(Boolean.FALSE));
 	}
+
+	@Test
+	public void test_primary_launch_finishes_on_lock_completion() {
+		CompletableFuture<Void> completion = new CompletableFuture<>();
+
+		Launch primaryLaunch = createLaunchesNoGetLaunch(1, rpClient, paramSupplier.get(), launchIdLock, executor).iterator().next();
+		assertThat(primaryLaunch, notNullValue());
+		when(launchIdLock.getInstancesCompletion(anyString())).thenReturn(completion);
+		when(rpClient.finishLaunch(any(), any(FinishExecutionRQ.class))).thenReturn(Maybe.just(new OperationCompletionRS()));
+		primaryLaunch.start();
+
+		Thread finishThread = new Thread(() -> primaryLaunch.finish(standardLaunchFinish()));
+		finishThread.start();
+
+		verify(rpClient, after(500).times(0)).finishLaunch(anyString(), any(FinishExecutionRQ.class));
+		assertThat(finishThread.isAlive(), equalTo(Boolean.TRUE));
+
+		completion.complete(null);
+		verify(rpClient, timeout(WAIT_TIMEOUT)).finishLaunch(anyString(), any(FinishExecutionRQ.class));
+		verify(launchIdLock, never()).getLiveInstanceUuids();
+	}
+
+	@Test
+	public void test_secondary_launch_skips_get_launch_by_uuid_on_lock_launch_start() {
+		List<Launch> launches = createLaunchesNoStart(2, rpClient, paramSupplier.get(), launchIdLock, executor);
+		when(launchIdLock.getLaunchStart(anyString())).thenReturn(CompletableFuture.completedFuture(Boolean.TRUE));
+		launches.get(1).start();
+
+		ArgumentCaptor<String> obtainUuids = ArgumentCaptor.forClass(String.class);
+		verify(launchIdLock, times(2)).obtainLaunchUuid(obtainUuids.capture());
+		verify(launchIdLock).getLaunchStart(obtainUuids.getAllValues().get(0));
+		verify(rpClient, never()).getLaunchByUuid(anyString());
+	}
+
+	@Test
+	public void test_primary_launch_publishes_launch_start_to_lock() {
+		List<Launch> launches = createLaunchesNoGetLaunch(1, rpClient, paramSupplier.get(), launchIdLock, executor);
+		launches.get(0).start();
+
+		ArgumentCaptor<String> obtainUuid = ArgumentCaptor.forClass(String.class);
+		verify(launchIdLock).obtainLaunchUuid(obtainUuid.capture());
+		verify(launchIdLock, timeout(WAIT_TIMEOUT)).publishLaunchStart(obtainUuid.getValue());
+	}
 }
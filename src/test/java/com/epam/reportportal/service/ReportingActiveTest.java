@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.service.statistics.StatisticsService;
+import io.reactivex.Maybe;
+import io.reactivex.schedulers.Schedulers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.epam.reportportal.test.TestUtils.*;
+import static com.epam.reportportal.util.test.CommonUtils.shutdownExecutorService;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+
+public class ReportingActiveTest {
+
+	private final ReportPortalClient rpClient = mock(ReportPortalClient.class);
+	private final StatisticsService statisticsService = mock(StatisticsService.class);
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	public void tearDown() {
+		shutdownExecutorService(executor);
+	}
+
+	private Launch createLaunch() {
+		return new LaunchImpl(rpClient, STANDARD_PARAMETERS, Maybe.just("launchUuid"), executor) {
+			@Override
+			StatisticsService getStatisticsService() {
+				return statisticsService;
+			}
+		};
+	}
+
+	@Test
+	public void test_reporting_is_active_until_all_launches_and_logging_contexts_finish() {
+		simulateFinishLaunchResponse(rpClient);
+		assertThat(Launch.isReportingActive(), equalTo(false));
+		Launch.NOOP_LAUNCH.getParameters();
+		assertThat(Launch.isReportingActive(), equalTo(false));
+
+		Launch first = createLaunch();
+		Launch second = createLaunch();
+		first.start();
+		second.start();
+		assertThat(Launch.isReportingActive(), equalTo(true));
+
+		LoggingContext context = LoggingContext.init(Maybe.just("launchUuid"), Maybe.just("itemUuid"), rpClient, Schedulers.from(executor));
+		first.finish(standardLaunchFinishRequest());
+		second.finish(standardLaunchFinishRequest());
+		assertThat(Launch.isReportingActive(), equalTo(true));
+
+		context.completed().blockingAwait();
+		assertThat(Launch.isReportingActive(), equalTo(false));
+
+		Launch third = createLaunch();
+		assertThat(Launch.isReportingActive(), equalTo(true));
+		third.finish(standardLaunchFinishRequest());
+		assertThat(Launch.isReportingActive(), equalTo(false));
+	}
+}
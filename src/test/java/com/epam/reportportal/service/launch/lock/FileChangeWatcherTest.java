@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.launch.lock;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.reportportal.util.test.CommonUtils.shutdownExecutorService;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class FileChangeWatcherTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void test_await_returns_false_on_timeout() throws Exception {
+		Path file = Files.write(directory.resolve("timeout.sync"), "record".getBytes(StandardCharsets.ISO_8859_1));
+		FileChangeWatcher watcher = FileChangeWatcher.getInstance();
+
+		long version = watcher.watch(file);
+
+		assertThat(watcher.await(version, TimeUnit.MILLISECONDS.toNanos(100)), equalTo(Boolean.FALSE));
+	}
+
+	@Test
+	public void test_await_returns_on_file_change() throws Exception {
+		Path file = Files.write(directory.resolve("change.sync"), "record".getBytes(StandardCharsets.ISO_8859_1));
+		FileChangeWatcher watcher = FileChangeWatcher.getInstance();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			long version = watcher.watch(file);
+			executor.submit(() -> {
+				Thread.sleep(100);
+				return Files.write(file, "another record".getBytes(StandardCharsets.ISO_8859_1), StandardOpenOption.APPEND);
+			});
+
+			assertThat(watcher.await(version, TimeUnit.SECONDS.toNanos(30)), equalTo(Boolean.TRUE));
+		} finally {
+			shutdownExecutorService(executor);
+		}
+	}
+
+	@Test
+	public void test_directory_is_not_watched_when_its_files_are_unwatched() throws Exception {
+		Path first = Files.write(directory.resolve("first.sync"), "record".getBytes(StandardCharsets.ISO_8859_1));
+		Path second = Files.write(directory.resolve("second.sync"), "record".getBytes(StandardCharsets.ISO_8859_1));
+		FileChangeWatcher watcher = FileChangeWatcher.getInstance();
+
+		watcher.watch(first);
+		watcher.watch(second);
+		assertThat(watcher.isWatched(directory), equalTo(Boolean.TRUE));
+
+		watcher.unwatch(first);
+		assertThat(watcher.isWatched(directory), equalTo(Boolean.TRUE));
+
+		watcher.unwatch(second);
+		assertThat(watcher.isWatched(directory), equalTo(Boolean.FALSE));
+
+		watcher.watch(first);
+		assertThat(watcher.isWatched(directory), equalTo(Boolean.TRUE));
+		watcher.unwatch(first);
+	}
+}
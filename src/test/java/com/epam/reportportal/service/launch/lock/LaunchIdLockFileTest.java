@@ -37,7 +37,9 @@ import java.io.*;
 import java.nio.channels.FileLock;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.epam.reportportal.service.launch.lock.LockTestUtil.*;
@@ -359,4 +361,47 @@ public class LaunchIdLockFileTest {
 		Collection<String> liveUuids = launchIdLockFile.getLiveInstanceUuids();
 		assertThat(liveUuids, hasSize(0));
 	}
+
+	@Test
+	public void test_instances_completion_fires_on_secondary_finish() throws Exception {
+		String launchUuid = UUID.randomUUID().toString();
+		String instanceUuid = UUID.randomUUID().toString();
+		launchIdLockFile.obtainLaunchUuid(launchUuid);
+		launchIdLockFile.obtainLaunchUuid(instanceUuid);
+
+		CompletableFuture<Void> completion = launchIdLockFile.getInstancesCompletion(launchUuid);
+		Thread.sleep(200);
+		assertThat(completion.isDone(), equalTo(Boolean.FALSE));
+
+		new LaunchIdLockFile(getParameters()).finishInstanceUuid(instanceUuid);
+		// some file systems have slow change notifications, periodic check should catch up anyway
+		completion.get(LOCK_TIMEOUT * 2, TimeUnit.MILLISECONDS);
+	}
+
+	@Test
+	public void test_launch_start_fires_on_primary_publish() throws Exception {
+		String launchUuid = UUID.randomUUID().toString();
+		String instanceUuid = UUID.randomUUID().toString();
+		launchIdLockFile.obtainLaunchUuid(launchUuid);
+		LaunchIdLockFile secondaryLock = new LaunchIdLockFile(getParameters());
+		secondaryLock.obtainLaunchUuid(instanceUuid);
+
+		CompletableFuture<Boolean> started = secondaryLock.getLaunchStart(launchUuid);
+		Thread.sleep(200);
+		assertThat(started.isDone(), equalTo(Boolean.FALSE));
+
+		launchIdLockFile.publishLaunchStart(launchUuid);
+		assertThat(started.get(LOCK_TIMEOUT * 2, TimeUnit.MILLISECONDS), equalTo(Boolean.TRUE));
+		assertThat(secondaryLock.getLaunchStart(launchUuid).get(1, TimeUnit.SECONDS), equalTo(Boolean.TRUE));
+	}
+
+	@Test
+	public void test_launch_start_fails_on_primary_finish() throws Exception {
+		String launchUuid = UUID.randomUUID().toString();
+		launchIdLockFile.obtainLaunchUuid(launchUuid);
+
+		CompletableFuture<Boolean> started = new LaunchIdLockFile(getParameters()).getLaunchStart(launchUuid);
+		launchIdLockFile.finishInstanceUuid(launchUuid);
+		assertThat(started.get(LOCK_TIMEOUT * 2, TimeUnit.MILLISECONDS), equalTo(Boolean.FALSE));
+	}
 }
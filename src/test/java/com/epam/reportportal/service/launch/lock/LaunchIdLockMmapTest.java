@@ -0,0 +1,299 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.launch.lock;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.util.test.ProcessUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.reportportal.service.launch.lock.LockTestUtil.*;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class LaunchIdLockMmapTest {
+	private static final String LOCK_FILE_NAME_PATTERN = "%s.reportportal.lock";
+	private static final String SYNC_FILE_NAME_PATTERN = "%s.reportportal.sync";
+
+	private final String fileName = UUID.randomUUID().toString();
+	private final String lockFileName = String.format(LOCK_FILE_NAME_PATTERN, fileName);
+	private final String syncFileName = String.format(SYNC_FILE_NAME_PATTERN, fileName);
+	private final LaunchIdLockMmap launchIdLock = new LaunchIdLockMmap(getParameters(LOCK_TIMEOUT));
+
+	private ListenerParameters getParameters(long lockTimeout) {
+		ListenerParameters params = new ListenerParameters();
+		params.setLockFileName(lockFileName);
+		params.setSyncFileName(syncFileName);
+		params.setEnable(Boolean.TRUE);
+		params.setLockWaitTimeout(lockTimeout);
+		return params;
+	}
+
+	@AfterEach
+	public void cleanUp() {
+		launchIdLock.reset();
+		final File myLockFile = new File(lockFileName);
+		if (myLockFile.exists()) {
+			Awaitility.await().until(myLockFile::delete);
+		}
+		final File mySyncFile = new File(syncFileName);
+		if (mySyncFile.exists()) {
+			Awaitility.await().until(mySyncFile::delete);
+		}
+	}
+
+	@Test
+	public void test_launch_uuid_will_be_the_same_for_one_thread_obtainLaunchUuid() {
+		String firstUuid = UUID.randomUUID().toString();
+		String secondUuid = UUID.randomUUID().toString();
+
+		String firstLaunchUuid = launchIdLock.obtainLaunchUuid(firstUuid);
+		String secondLaunchUuid = launchIdLock.obtainLaunchUuid(secondUuid);
+
+		assertThat(firstLaunchUuid, equalTo(firstUuid));
+		assertThat(secondLaunchUuid, equalTo(firstLaunchUuid));
+	}
+
+	@Test
+	public void test_launch_uuid_will_be_the_same_for_ten_threads_obtainLaunchUuid() throws InterruptedException {
+		int threadNum = 10;
+		ExecutorService executor = testExecutor(threadNum);
+		Map<String, Callable<String>> tasks = getLaunchUuidReadCallables(threadNum, singletonSupplier(launchIdLock));
+
+		Collection<String> results = executor.invokeAll(tasks.values()).stream().map(new GetFutureResults<>()).collect(toList());
+		assertThat(results, hasSize(threadNum));
+		assertThat(tasks.keySet(), hasItem(results.iterator().next()));
+		assertThat(results, everyItem(equalTo(results.iterator().next())));
+		assertThat(launchIdLock.getLiveInstanceUuids(), containsInAnyOrder(tasks.keySet().toArray()));
+	}
+
+	@Test
+	public void test_registry_file_has_fixed_size() {
+		launchIdLock.obtainLaunchUuid(UUID.randomUUID().toString());
+		launchIdLock.obtainLaunchUuid(UUID.randomUUID().toString());
+
+		assertThat(new File(syncFileName).length(), equalTo((long) LaunchIdLockMmap.REGISTRY_SIZE));
+	}
+
+	@Test
+	public void test_registry_file_is_deleted_when_the_last_instance_finishes() {
+		String firstUuid = UUID.randomUUID().toString();
+		String secondUuid = UUID.randomUUID().toString();
+		launchIdLock.obtainLaunchUuid(firstUuid);
+		launchIdLock.obtainLaunchUuid(secondUuid);
+
+		launchIdLock.finishInstanceUuid(firstUuid);
+		assertThat(new File(syncFileName).exists(), equalTo(Boolean.TRUE));
+
+		launchIdLock.finishInstanceUuid(secondUuid);
+		assertThat(new File(syncFileName).exists(), equalTo(Boolean.FALSE));
+
+		String thirdUuid = UUID.randomUUID().toString();
+		assertThat(launchIdLock.obtainLaunchUuid(thirdUuid), equalTo(thirdUuid));
+		assertThat(new File(syncFileName).exists(), equalTo(Boolean.TRUE));
+	}
+
+	@Test
+	public void test_too_long_instance_uuid_is_rejected() {
+		String uuid = StringUtils.repeat('a', LaunchIdLockMmap.MAX_UUID_LENGTH + 1);
+		Assertions.assertThrows(IllegalArgumentException.class, () -> launchIdLock.obtainLaunchUuid(uuid));
+	}
+
+	@Test
+	public void test_launch_uuid_should_not_be_null_obtainLaunchUuid() {
+		//noinspection ConstantConditions
+		Assertions.assertThrows(NullPointerException.class, () -> launchIdLock.obtainLaunchUuid(null));
+	}
+
+	@Test
+	public void test_instance_uuid_returns_in_live_list_before_timeout() {
+		String launchUuid = UUID.randomUUID().toString();
+		launchIdLock.obtainLaunchUuid(launchUuid);
+
+		Collection<String> liveUuids = launchIdLock.getLiveInstanceUuids();
+		assertThat(liveUuids, hasSize(1));
+		assertThat(liveUuids, contains(launchUuid));
+	}
+
+	@Test
+	public void test_instance_uuid_with_wrong_checksum_is_not_returned_in_live_list() throws IOException {
+		String launchUuid = UUID.randomUUID().toString();
+		launchIdLock.obtainLaunchUuid(launchUuid);
+		assertThat(launchIdLock.getLiveInstanceUuids(), contains(launchUuid));
+
+		// imitate a slot which is read in the middle of UUID publication
+		try (RandomAccessFile registry = new RandomAccessFile(syncFileName, "rw")) {
+			long checksumPosition = LaunchIdLockMmap.SLOT_SIZE + LaunchIdLockMmap.CHECKSUM_OFFSET;
+			registry.seek(checksumPosition);
+			long checksum = registry.readLong();
+			registry.seek(checksumPosition);
+			registry.writeLong(checksum + 1);
+		}
+
+		assertThat(launchIdLock.getLiveInstanceUuids(), empty());
+	}
+
+	@Test
+	public void test_instance_uuid_remove_from_live_after_timeout_and_stay_live_if_updated() throws InterruptedException {
+		LaunchIdLockMmap lock = new LaunchIdLockMmap(getParameters(500));
+		String launchUuid = UUID.randomUUID().toString();
+		String instanceUuid = UUID.randomUUID().toString();
+		lock.obtainLaunchUuid(launchUuid);
+		lock.obtainLaunchUuid(instanceUuid);
+
+		Thread.sleep(300);
+		lock.updateInstanceUuid(instanceUuid);
+		Thread.sleep(300);
+
+		Collection<String> liveUuids = lock.getLiveInstanceUuids();
+		assertThat(liveUuids, hasSize(1));
+		assertThat(liveUuids, contains(instanceUuid));
+	}
+
+	@Test
+	public void test_instance_uuid_removed_from_live_after_finish() {
+		String launchUuid = UUID.randomUUID().toString();
+		String instanceUuid = UUID.randomUUID().toString();
+		launchIdLock.obtainLaunchUuid(launchUuid);
+		launchIdLock.obtainLaunchUuid(instanceUuid);
+
+		launchIdLock.finishInstanceUuid(instanceUuid);
+		assertThat(launchIdLock.getLiveInstanceUuids(), contains(launchUuid));
+
+		launchIdLock.finishInstanceUuid(launchUuid);
+		assertThat(launchIdLock.getLiveInstanceUuids(), empty());
+	}
+
+	@Test
+	public void test_new_primary_launch_is_elected_after_previous_finish() {
+		String firstUuid = UUID.randomUUID().toString();
+		String secondUuid = UUID.randomUUID().toString();
+
+		assertThat(launchIdLock.obtainLaunchUuid(firstUuid), equalTo(firstUuid));
+		launchIdLock.finishInstanceUuid(firstUuid);
+
+		assertThat(launchIdLock.obtainLaunchUuid(secondUuid), equalTo(secondUuid));
+		assertThat(launchIdLock.getLiveInstanceUuids(), contains(secondUuid));
+	}
+
+	@Test
+	@Timeout(10)
+	public void test_launch_uuid_get_for_two_processes_returns_equal_values_obtainLaunchUuid() throws IOException, InterruptedException {
+		Pair<String, String> uuids = ImmutablePair.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+		// @formatter:off
+		Pair<Process, Process> processes = ImmutablePair.of(
+				ProcessUtils.buildProcess(LockMmapRunner.class, lockFileName, syncFileName, uuids.getKey()),
+				ProcessUtils.buildProcess(LockMmapRunner.class, lockFileName, syncFileName, uuids.getValue())
+		);
+		// @formatter:on
+
+		Triple<OutputStreamWriter, BufferedReader, BufferedReader> primaryProcessIo = getProcessIos(processes.getKey());
+		Triple<OutputStreamWriter, BufferedReader, BufferedReader> secondaryProcessIo = getProcessIos(processes.getValue());
+
+		try {
+			waitForLine(primaryProcessIo.getMiddle(), primaryProcessIo.getRight(), WELCOME_MESSAGE_PREDICATE);
+			waitForLine(secondaryProcessIo.getMiddle(), secondaryProcessIo.getRight(), WELCOME_MESSAGE_PREDICATE);
+
+			String lineSeparator = System.getProperty("line.separator");
+			primaryProcessIo.getLeft().write(lineSeparator);
+			primaryProcessIo.getLeft().flush();
+			secondaryProcessIo.getLeft().write(lineSeparator);
+			secondaryProcessIo.getLeft().flush();
+
+			String result1 = waitForLine(primaryProcessIo.getMiddle(), primaryProcessIo.getRight(), ANY_STRING_PREDICATE);
+			String result2 = waitForLine(secondaryProcessIo.getMiddle(), secondaryProcessIo.getRight(), ANY_STRING_PREDICATE);
+
+			assertThat("Assert two UUIDs from different processes are equal", result1, equalTo(result2));
+			assertThat(result1, anyOf(equalTo(uuids.getKey()), equalTo(uuids.getValue())));
+
+			primaryProcessIo.getLeft().write(lineSeparator);
+			primaryProcessIo.getLeft().flush();
+			secondaryProcessIo.getLeft().write(lineSeparator);
+			secondaryProcessIo.getLeft().flush();
+
+			processes.getKey().waitFor();
+			processes.getValue().waitFor();
+		} finally {
+			closeIos(primaryProcessIo);
+			closeIos(secondaryProcessIo);
+			processes.getKey().destroyForcibly();
+			processes.getValue().destroyForcibly();
+		}
+	}
+
+	@Test
+	public void test_instances_completion_fires_on_secondary_finish() throws Exception {
+		String launchUuid = UUID.randomUUID().toString();
+		String instanceUuid = UUID.randomUUID().toString();
+		launchIdLock.obtainLaunchUuid(launchUuid);
+		launchIdLock.obtainLaunchUuid(instanceUuid);
+
+		CompletableFuture<Void> completion = launchIdLock.getInstancesCompletion(launchUuid);
+		Thread.sleep(200);
+		assertThat(completion.isDone(), equalTo(Boolean.FALSE));
+
+		launchIdLock.finishInstanceUuid(instanceUuid);
+		completion.get(1, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void test_launch_start_fires_on_primary_publish() throws Exception {
+		String launchUuid = UUID.randomUUID().toString();
+		String instanceUuid = UUID.randomUUID().toString();
+		launchIdLock.obtainLaunchUuid(launchUuid);
+		launchIdLock.obtainLaunchUuid(instanceUuid);
+
+		CompletableFuture<Boolean> started = launchIdLock.getLaunchStart(launchUuid);
+		Thread.sleep(200);
+		assertThat(started.isDone(), equalTo(Boolean.FALSE));
+
+		launchIdLock.publishLaunchStart(launchUuid);
+		assertThat(started.get(1, TimeUnit.SECONDS), equalTo(Boolean.TRUE));
+	}
+
+	@Test
+	public void test_launch_start_fails_on_primary_finish() throws Exception {
+		String launchUuid = UUID.randomUUID().toString();
+		launchIdLock.obtainLaunchUuid(launchUuid);
+
+		CompletableFuture<Boolean> started = launchIdLock.getLaunchStart(launchUuid);
+		launchIdLock.finishInstanceUuid(launchUuid);
+		assertThat(started.get(1, TimeUnit.SECONDS), equalTo(Boolean.FALSE));
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.launch.lock;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.util.test.ProcessUtils;
+import org.apache.commons.lang3.tuple.Triple;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.service.launch.lock.LockTestUtil.*;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class LaunchIdLockNetworkTest {
+	private static final String COORDINATOR_HOST = "127.0.0.1";
+	private static final long HEARTBEAT_TIMEOUT = 1000;
+
+	private final ListenerParameters parameters = getParameters();
+	private final LaunchIdLockNetwork launchIdLock = new LaunchIdLockNetwork(parameters);
+
+	private static ListenerParameters getParameters() {
+		try (ServerSocket ss = new ServerSocket(0, 20, InetAddress.getLoopbackAddress())) {
+			ListenerParameters params = new ListenerParameters();
+			params.setEnable(Boolean.TRUE);
+			params.setLockCoordinatorHost(COORDINATOR_HOST);
+			params.setLockPortNumber(ss.getLocalPort());
+			params.setLockWaitTimeout(HEARTBEAT_TIMEOUT);
+			return params;
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@AfterEach
+	public void cleanUp() {
+		launchIdLock.reset();
+	}
+
+	@Test
+	public void test_coordinator_address_is_taken_from_parameters() throws IOException {
+		assertThat(launchIdLock.getServerAddress(),
+				equalTo(new InetSocketAddress(InetAddress.getByName(COORDINATOR_HOST), parameters.getLockPortNumber()))
+		);
+
+		ListenerParameters defaultParameters = new ListenerParameters();
+		assertThat(new LaunchIdLockNetwork(defaultParameters).getServerAddress(),
+				equalTo(new InetSocketAddress(InetAddress.getLoopbackAddress(), defaultParameters.getLockPortNumber()))
+		);
+	}
+
+	@Test
+	@Timeout(10)
+	public void test_coordinator_tracks_client_heartbeats() throws IOException, InterruptedException {
+		String launchUuid = UUID.randomUUID().toString();
+		String clientUuid = UUID.randomUUID().toString();
+		launchIdLock.obtainLaunchUuid(launchUuid);
+
+		try (Socket socket = new Socket(COORDINATOR_HOST, parameters.getLockPortNumber())) {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), LaunchIdLockSocket.TRANSFER_CHARSET));
+			assertThat(reader.readLine(), equalTo("LAUNCH - " + launchUuid));
+
+			for (int i = 0; i < 3; i++) {
+				socket.getOutputStream().write(("UPDATE - " + clientUuid + "\n").getBytes(LaunchIdLockSocket.TRANSFER_CHARSET));
+				socket.getOutputStream().flush();
+				assertThat(reader.readLine(), equalTo("OK - " + clientUuid));
+				launchIdLock.updateInstanceUuid(launchUuid);
+				assertThat(launchIdLock.getLiveInstanceUuids(), containsInAnyOrder(launchUuid, clientUuid));
+				Thread.sleep(HEARTBEAT_TIMEOUT / 2);
+			}
+
+			// no more heartbeats from the client
+			launchIdLock.updateInstanceUuid(launchUuid);
+			Awaitility.await()
+					.pollInterval(Duration.ofMillis(100))
+					.atMost(Duration.ofSeconds(5))
+					.until(launchIdLock::getLiveInstanceUuids, not(hasItem(clientUuid)));
+		}
+	}
+
+	@Test
+	@Timeout(10)
+	public void test_client_does_not_become_primary_if_coordinator_does_not_answer() throws IOException {
+		ListenerParameters params = getParameters();
+		params.setLockWaitTimeout(200);
+		params.setClientJoinTimeout(TimeUnit.MINUTES.toMillis(30));
+		LaunchIdLockNetwork lock = new LaunchIdLockNetwork(params);
+		String instanceUuid = UUID.randomUUID().toString();
+
+		// something else listens the coordinator address and never answers
+		try (ServerSocket ss = new ServerSocket(params.getLockPortNumber(), 20, InetAddress.getByName(COORDINATOR_HOST))) {
+			assertThat(ss.isBound(), equalTo(Boolean.TRUE));
+			try {
+				long start = System.currentTimeMillis();
+				assertThat(lock.obtainLaunchUuid(instanceUuid), nullValue());
+				// the fallback is bound by the lock wait timeout, not by the client join timeout
+				assertThat(System.currentTimeMillis() - start, lessThan(TimeUnit.SECONDS.toMillis(5)));
+				assertThat(lock.getLiveInstanceUuids(), not(hasItem(instanceUuid)));
+			} finally {
+				lock.reset();
+			}
+		}
+	}
+
+	@Test
+	@Timeout(30)
+	public void test_launch_uuid_get_for_ten_processes_through_coordinator_returns_equal_values() {
+		String port = String.valueOf(parameters.getLockPortNumber());
+		List<Process> processes = Stream.generate(() -> UUID.randomUUID().toString()).limit(10).map(u -> {
+			try {
+				return ProcessUtils.buildProcess(LockNetworkRunner.class, COORDINATOR_HOST, port, u);
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}).collect(toList());
+
+		List<Triple<OutputStreamWriter, BufferedReader, BufferedReader>> processIos = processes.stream()
+				.map(LockTestUtil::getProcessIos)
+				.collect(toList());
+		String lineSeparator = System.getProperty("line.separator");
+		List<String> results;
+		try {
+			for (Triple<OutputStreamWriter, BufferedReader, BufferedReader> io : processIos) {
+				waitForLine(io.getMiddle(), io.getRight(), WELCOME_MESSAGE_PREDICATE);
+			}
+			results = processIos.stream().map(io -> {
+				try {
+					io.getLeft().write(lineSeparator);
+					io.getLeft().flush();
+					return waitForLine(io.getMiddle(), io.getRight(), ANY_STRING_PREDICATE);
+				} catch (IOException e) {
+					throw new IllegalStateException(e);
+				}
+			}).collect(toList());
+
+			// secondary instances finish first, the coordinator host process last
+			Collections.reverse(processIos);
+			Collections.reverse(processes);
+			for (int i = 0; i < processes.size(); i++) {
+				processIos.get(i).getLeft().write(lineSeparator);
+				processIos.get(i).getLeft().flush();
+				processes.get(i).waitFor();
+			}
+		} catch (IOException | InterruptedException e) {
+			throw new IllegalStateException(e);
+		} finally {
+			processIos.forEach(LockTestUtil::closeIos);
+			processes.forEach(Process::destroyForcibly);
+		}
+
+		assertThat(results, hasSize(10));
+		assertThat(results, everyItem(equalTo(results.iterator().next())));
+	}
+}
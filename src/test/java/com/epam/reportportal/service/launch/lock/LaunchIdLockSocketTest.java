@@ -33,13 +33,18 @@ import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.net.InetAddress;
 import java.net.ServerSocket;
+import java.net.Socket;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -312,4 +317,105 @@ public class LaunchIdLockSocketTest {
 		assertThat(liveUuids, hasSize(2));
 		assertThat(liveUuids, containsInAnyOrder(launchUuid, clientUuid));
 	}
+
+	@Test
+	@Timeout(10)
+	public void test_server_answers_pipelined_commands_in_order_and_pushes_close() throws IOException {
+		String launchUuid = UUID.randomUUID().toString();
+		List<String> clientUuids = Stream.generate(() -> UUID.randomUUID().toString()).limit(3).collect(toList());
+		launchIdLockSocket.obtainLaunchUuid(launchUuid);
+
+		try (Socket socket = new Socket(InetAddress.getLocalHost(), launchIdLockSocket.parameters.getLockPortNumber())) {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), LaunchIdLockSocket.TRANSFER_CHARSET));
+			assertThat(reader.readLine(), equalTo("LAUNCH - " + launchUuid));
+
+			String commands = clientUuids.stream().map(u -> "UPDATE - " + u + "\n").collect(Collectors.joining());
+			socket.getOutputStream().write(commands.getBytes(LaunchIdLockSocket.TRANSFER_CHARSET));
+			socket.getOutputStream().flush();
+
+			for (String clientUuid : clientUuids) {
+				assertThat(reader.readLine(), equalTo("OK - " + clientUuid));
+			}
+			assertThat(launchIdLockSocket.getLiveInstanceUuids(), hasItems(clientUuids.toArray(new String[0])));
+
+			launchIdLockSocket.reset();
+			assertThat(reader.readLine(), equalTo("CLOSE - " + launchUuid));
+		}
+	}
+
+	@Test
+	public void test_many_threads_send_commands_through_socket() throws InterruptedException {
+		String launchUuid = UUID.randomUUID().toString();
+		launchIdLockSocket.obtainLaunchUuid(launchUuid);
+		int threadNum = 10;
+		ExecutorService executor = testExecutor(threadNum);
+		Map<String, Callable<String>> tasks = Stream.generate(() -> UUID.randomUUID().toString())
+				.limit(threadNum)
+				.collect(Collectors.toMap(u -> u, u -> () -> launchIdLockSocket.sendCommand(LaunchIdLockSocket.Command.UPDATE, u)));
+
+		Collection<String> results = executor.invokeAll(tasks.values()).stream().map(new GetFutureResults<>()).collect(toList());
+
+		assertThat(results, everyItem(equalTo(launchUuid)));
+		assertThat(launchIdLockSocket.getLiveInstanceUuids(), hasItems(tasks.keySet().toArray(new String[0])));
+	}
+
+	@Test
+	public void test_instances_completion_fires_on_secondary_finish_command() throws Exception {
+		String launchUuid = UUID.randomUUID().toString();
+		String instanceUuid = UUID.randomUUID().toString();
+		launchIdLockSocket.obtainLaunchUuid(launchUuid);
+		assertThat(launchIdLockSocket.sendCommand(LaunchIdLockSocket.Command.UPDATE, instanceUuid), equalTo(launchUuid));
+
+		CompletableFuture<Void> completion = launchIdLockSocket.getInstancesCompletion(launchUuid);
+		Thread.sleep(200);
+		assertThat(completion.isDone(), equalTo(Boolean.FALSE));
+
+		launchIdLockSocket.sendCommand(LaunchIdLockSocket.Command.FINISH, instanceUuid);
+		completion.get(1, TimeUnit.SECONDS);
+	}
+
+	@Test
+	@Timeout(10)
+	public void test_server_pushes_launch_start_to_connected_and_new_clients() throws IOException {
+		String launchUuid = UUID.randomUUID().toString();
+		launchIdLockSocket.obtainLaunchUuid(launchUuid);
+		int port = launchIdLockSocket.parameters.getLockPortNumber();
+
+		try (Socket socket = new Socket(InetAddress.getLocalHost(), port)) {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), LaunchIdLockSocket.TRANSFER_CHARSET));
+			assertThat(reader.readLine(), equalTo("LAUNCH - " + launchUuid));
+
+			launchIdLockSocket.publishLaunchStart(launchUuid);
+			assertThat(reader.readLine(), equalTo("STARTED - " + launchUuid));
+		}
+
+		try (Socket socket = new Socket(InetAddress.getLocalHost(), port)) {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), LaunchIdLockSocket.TRANSFER_CHARSET));
+			assertThat(reader.readLine(), equalTo("LAUNCH - " + launchUuid));
+			assertThat(reader.readLine(), equalTo("STARTED - " + launchUuid));
+		}
+	}
+
+	@Test
+	public void test_launch_start_fires_on_primary_publish() throws Exception {
+		String launchUuid = UUID.randomUUID().toString();
+		launchIdLockSocket.obtainLaunchUuid(launchUuid);
+
+		CompletableFuture<Boolean> started = launchIdLockSocket.getLaunchStart(launchUuid);
+		Thread.sleep(200);
+		assertThat(started.isDone(), equalTo(Boolean.FALSE));
+
+		launchIdLockSocket.publishLaunchStart(launchUuid);
+		assertThat(started.get(1, TimeUnit.SECONDS), equalTo(Boolean.TRUE));
+	}
+
+	@Test
+	public void test_launch_start_fails_on_primary_finish() throws Exception {
+		String launchUuid = UUID.randomUUID().toString();
+		launchIdLockSocket.obtainLaunchUuid(launchUuid);
+
+		CompletableFuture<Boolean> started = launchIdLockSocket.getLaunchStart(launchUuid);
+		launchIdLockSocket.finishInstanceUuid(launchUuid);
+		assertThat(started.get(1, TimeUnit.SECONDS), equalTo(Boolean.FALSE));
+	}
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.logs;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.test.TestUtils;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import io.reactivex.schedulers.Schedulers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class LogForwardingTest {
+	private static final String LAUNCH_UUID = "launch";
+
+	private final List<List<SaveLogRQ>> batches = new CopyOnWriteArrayList<>();
+
+	private ListenerParameters parameters;
+	private LogForwardingServer server;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		parameters = TestUtils.standardParameters();
+		parameters.setBatchLogsSize(100);
+		try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+			parameters.setLogForwardingPortNumber(socket.getLocalPort());
+		}
+		server = LogForwardingServer.start(LAUNCH_UUID, rqs -> {
+			batches.add(rqs);
+			return Maybe.just(new BatchSaveOperatingRS());
+		}, Schedulers.single(), parameters);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		if (server != null) {
+			server.complete().blockingAwait(10, TimeUnit.SECONDS);
+		}
+	}
+
+	private static SaveLogRQ log(String itemUuid, String message) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setLaunchUuid(LAUNCH_UUID);
+		rq.setItemUuid(itemUuid);
+		rq.setLevel("INFO");
+		rq.setLogTime(new Date());
+		rq.setMessage(message);
+		return rq;
+	}
+
+	@Test
+	public void test_logs_of_several_clients_are_merged_into_shared_batches() {
+		assertThat(server, notNullValue());
+		List<LogForwardingClient> clients = IntStream.range(0, 3).mapToObj(i -> new LogForwardingClient(parameters, Maybe.just(LAUNCH_UUID))).collect(Collectors.toList());
+		for (int i = 0; i < clients.size(); i++) {
+			for (int j = 0; j < 5; j++) {
+				assertThat(clients.get(i).send(Arrays.asList(log("item_" + i, "message_" + j), log("item_" + i, "next_" + j))), empty());
+			}
+		}
+		clients.forEach(c -> {
+			assertThat(c.flush(), empty());
+			c.close();
+		});
+
+		server.complete().blockingAwait(10, TimeUnit.SECONDS);
+		server = null;
+
+		assertThat(batches, hasSize(1));
+		List<SaveLogRQ> logs = batches.get(0);
+		assertThat(logs, hasSize(30));
+		assertThat(logs.stream().map(SaveLogRQ::getItemUuid).collect(Collectors.toSet()), containsInAnyOrder("item_0", "item_1", "item_2"));
+		assertThat(logs.stream().map(SaveLogRQ::getLaunchUuid).collect(Collectors.toSet()), contains(LAUNCH_UUID));
+	}
+
+	@Test
+	public void test_forwarded_log_keeps_file_content() {
+		assertThat(server, notNullValue());
+		SaveLogRQ rq = log("item", "file message");
+		SaveLogRQ.File file = new SaveLogRQ.File();
+		file.setName("file.txt");
+		file.setContentType("text/plain");
+		file.setContent("file content".getBytes(StandardCharsets.UTF_8));
+		rq.setFile(file);
+
+		LogForwardingClient client = new LogForwardingClient(parameters, Maybe.just(LAUNCH_UUID));
+		assertThat(client.send(Collections.singletonList(rq)), empty());
+		assertThat(client.flush(), empty());
+		client.close();
+		server.complete().blockingAwait(10, TimeUnit.SECONDS);
+		server = null;
+
+		SaveLogRQ result = batches.get(0).get(0);
+		assertThat(result.getMessage(), equalTo("file message"));
+		assertThat(result.getFile().getName(), equalTo("file.txt"));
+		assertThat(result.getFile().getContentType(), equalTo("text/plain"));
+		assertThat(new String(result.getFile().getContent(), StandardCharsets.UTF_8), equalTo("file content"));
+	}
+
+	@Test
+	public void test_server_loop_runs_on_its_own_thread() {
+		assertThat(server, notNullValue());
+		assertThat(Thread.getAllStackTraces().keySet().stream().map(Thread::getName).collect(Collectors.toList()),
+				hasItem("rp-log-forwarding")
+		);
+	}
+
+	@Test
+	public void test_server_drops_connection_with_oversized_greeting() throws IOException {
+		assertThat(server, notNullValue());
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), parameters.getLogForwardingPortNumber()));
+			socket.setSoTimeout((int) TimeUnit.SECONDS.toMillis(10));
+			DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+			output.write(LogForwardingProtocol.HELLO);
+			output.writeInt(LogForwardingProtocol.MAX_HELLO_SIZE + 1);
+			output.flush();
+			assertThat(socket.getInputStream().read(), equalTo(-1));
+		}
+	}
+
+	@Test
+	public void test_batch_over_frame_limit_is_returned_for_direct_upload() {
+		assertThat(server, notNullValue());
+		parameters.setBatchPayloadLimit(0L);
+		LogForwardingClient client = new LogForwardingClient(parameters, Maybe.just(LAUNCH_UUID));
+		SaveLogRQ rq = log("item", "file message");
+		SaveLogRQ.File file = new SaveLogRQ.File();
+		file.setContent(new byte[(int) LogForwardingProtocol.FRAME_HEADROOM]);
+		rq.setFile(file);
+		List<SaveLogRQ> batch = Collections.singletonList(rq);
+
+		assertThat(client.send(batch), contains(batch));
+		assertThat(client.isFailed(), equalTo(false));
+		assertThat(client.send(Collections.singletonList(log("item", "message"))), empty());
+		assertThat(client.flush(), empty());
+		client.close();
+	}
+
+	@Test
+	public void test_client_fails_when_no_primary_is_listening() {
+		server.complete().blockingAwait(10, TimeUnit.SECONDS);
+		server = null;
+
+		LogForwardingClient client = new LogForwardingClient(parameters, Maybe.just(LAUNCH_UUID));
+		List<SaveLogRQ> batch = Collections.singletonList(log("item", "message"));
+		assertThat(client.send(batch), contains(batch));
+		assertThat(client.isFailed(), equalTo(true));
+		assertThat(client.flush(), empty());
+	}
+
+	@Test
+	public void test_server_rejects_client_of_another_launch() {
+		assertThat(server, notNullValue());
+		LogForwardingClient client = new LogForwardingClient(parameters, Maybe.just("another_launch"));
+		List<SaveLogRQ> batch = Collections.singletonList(log("item", "message"));
+		assertThat(client.send(batch), contains(batch));
+		assertThat(client.isFailed(), equalTo(true));
+
+		server.complete().blockingAwait(10, TimeUnit.SECONDS);
+		server = null;
+		assertThat(batches, empty());
+	}
+
+	@Test
+	public void test_client_returns_unacknowledged_batches_if_primary_is_gone() {
+		assertThat(server, notNullValue());
+		LogForwardingClient client = new LogForwardingClient(parameters, Maybe.just(LAUNCH_UUID));
+		List<SaveLogRQ> first = Collections.singletonList(log("item", "first"));
+		List<SaveLogRQ> second = Collections.singletonList(log("item", "second"));
+		assertThat(client.send(first), empty());
+		assertThat(client.send(second), empty());
+
+		server.complete().blockingAwait(10, TimeUnit.SECONDS);
+		server = null;
+
+		assertThat(client.flush(), contains(first, second));
+		assertThat(client.isFailed(), equalTo(true));
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.recording;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.ItemType;
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.subjects.CompletableSubject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class WorkloadRecorderTest {
+
+	@TempDir
+	Path directory;
+
+	private static StartTestItemRQ startRq(ItemType type) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName("Test item");
+		rq.setType(type.name());
+		rq.setStartTime(Calendar.getInstance().getTime());
+		return rq;
+	}
+
+	private static FinishTestItemRQ finishRq(ItemStatus status) {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setStatus(status.name());
+		rq.setEndTime(Calendar.getInstance().getTime());
+		return rq;
+	}
+
+	private static SaveLogRQ log(String itemUuid, byte[] content) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setItemUuid(itemUuid);
+		rq.setLevel(LogLevel.ERROR.name());
+		rq.setMessage("Error\tmessage");
+		rq.setLogTime(Calendar.getInstance().getTime());
+		if (content != null) {
+			SaveLogRQ.File file = new SaveLogRQ.File();
+			file.setContent(content);
+			file.setContentType("image/png");
+			rq.setFile(file);
+		}
+		return rq;
+	}
+
+	@Test
+	public void test_recorded_calls_are_read_back() throws Exception {
+		Path file = directory.resolve("workload.gz");
+		WorkloadRecorder recorder = WorkloadRecorder.create(file.toString());
+		assertThat(recorder, notNullValue());
+
+		Maybe<String> suite = Maybe.just("suite");
+		Maybe<String> test = Maybe.just("test");
+		recorder.startLaunch(new StartLaunchRQ());
+		recorder.startItem(null, suite, startRq(ItemType.SUITE));
+		recorder.startItem(suite, test, startRq(ItemType.STEP));
+		recorder.logs(Arrays.asList(log("test", null), log(null, new byte[] { 1, 2, 3 })));
+		recorder.finishItem(test, finishRq(ItemStatus.PASSED), Completable.complete());
+		recorder.finishItem(suite, finishRq(ItemStatus.FAILED), Completable.complete());
+		recorder.finishLaunch(new FinishExecutionRQ());
+		recorder.close();
+
+		List<WorkloadRecord> records = WorkloadRecord.read(file);
+		assertThat(records, hasSize(7));
+		assertThat(records.get(0).getType(), equalTo(WorkloadRecord.Type.LAUNCH_START));
+		assertThat(records.get(6).getType(), equalTo(WorkloadRecord.Type.LAUNCH_FINISH));
+
+		WorkloadRecord suiteStart = records.get(1);
+		assertThat(suiteStart.getType(), equalTo(WorkloadRecord.Type.ITEM_START));
+		assertThat(suiteStart.getItem(), equalTo(0));
+		assertThat(suiteStart.getParent(), equalTo(-1));
+		assertThat(suiteStart.getKind(), equalTo(ItemType.SUITE.name()));
+		assertThat(suiteStart.getSize(), greaterThan(0L));
+
+		WorkloadRecord testStart = records.get(2);
+		assertThat(testStart.getItem(), equalTo(1));
+		assertThat(testStart.getParent(), equalTo(0));
+		assertThat(testStart.getLane(), equalTo(suiteStart.getLane()));
+
+		WorkloadRecord itemLog = records.get(3);
+		assertThat(itemLog.getType(), equalTo(WorkloadRecord.Type.LOG));
+		assertThat(itemLog.getItem(), equalTo(1));
+		assertThat(itemLog.getKind(), equalTo(LogLevel.ERROR.name()));
+		assertThat(itemLog.getSize(), equalTo(13L));
+		assertThat(itemLog.getFileSize(), equalTo(0L));
+		assertThat(itemLog.getContentType(), nullValue());
+
+		WorkloadRecord launchLog = records.get(4);
+		assertThat(launchLog.getItem(), equalTo(-1));
+		assertThat(launchLog.getFileSize(), equalTo(3L));
+		assertThat(launchLog.getContentType(), equalTo("image/png"));
+
+		assertThat(records.get(5).getItem(), equalTo(0));
+		assertThat(records.get(5).getKind(), equalTo(ItemStatus.FAILED.name()));
+	}
+
+	@Test
+	public void test_recorder_assigns_lanes_by_threads() throws Exception {
+		Path file = directory.resolve("workload.gz");
+		WorkloadRecorder recorder = WorkloadRecorder.create(file.toString());
+		assertThat(recorder, notNullValue());
+
+		recorder.startItem(null, Maybe.just("first"), startRq(ItemType.SUITE));
+		CompletableFuture.runAsync(() -> recorder.startItem(null, Maybe.just("second"), startRq(ItemType.SUITE)))
+				.get(10, TimeUnit.SECONDS);
+		recorder.close();
+
+		List<WorkloadRecord> records = WorkloadRecord.read(file);
+		assertThat(records, hasSize(2));
+		assertThat(records.get(0).getLane(), equalTo(0));
+		assertThat(records.get(1).getLane(), equalTo(1));
+	}
+
+	@Test
+	public void test_recorder_forgets_item_ids_when_items_finish() throws Exception {
+		Path file = directory.resolve("workload.gz");
+		WorkloadRecorder recorder = WorkloadRecorder.create(file.toString());
+		assertThat(recorder, notNullValue());
+
+		Maybe<String> test = Maybe.just("test");
+		CompletableSubject finished = CompletableSubject.create();
+		recorder.startItem(null, test, startRq(ItemType.STEP));
+		recorder.finishItem(test, finishRq(ItemStatus.PASSED), finished);
+		recorder.logs(Collections.singletonList(log("test", null)));
+		finished.onComplete();
+		recorder.logs(Collections.singletonList(log("test", null)));
+		recorder.close();
+
+		List<WorkloadRecord> records = WorkloadRecord.read(file);
+		assertThat(records, hasSize(4));
+		assertThat(records.get(2).getItem(), equalTo(0));
+		assertThat(records.get(3).getItem(), equalTo(-1));
+	}
+
+	@Test
+	public void test_recorder_does_not_overwrite_file_being_recorded() throws Exception {
+		Path file = directory.resolve("workload.gz");
+		WorkloadRecorder recorder = WorkloadRecorder.create(file.toString());
+		assertThat(recorder, notNullValue());
+		assertThat(WorkloadRecorder.create(file.toString()), nullValue());
+
+		recorder.startLaunch(new StartLaunchRQ());
+		recorder.close();
+		assertThat(WorkloadRecord.read(file), hasSize(1));
+
+		WorkloadRecorder next = WorkloadRecorder.create(file.toString());
+		assertThat(next, notNullValue());
+		next.close();
+		assertThat(WorkloadRecord.read(file), empty());
+	}
+}
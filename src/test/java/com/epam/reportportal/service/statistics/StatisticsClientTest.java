@@ -16,6 +16,7 @@
 
 package com.epam.reportportal.service.statistics;
 
+import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.statistics.item.StatisticsEvent;
 import com.epam.reportportal.util.test.ProcessUtils;
 import com.epam.reportportal.utils.files.Utils;
@@ -35,6 +36,7 @@ import java.util.stream.Collectors;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -75,6 +77,25 @@ public class StatisticsClientTest {
 		Assertions.assertThrows(RuntimeException.class, result::blockingGet);
 	}
 
+	@Test
+	public void verify_shared_transport_is_released_only_by_its_last_user() {
+		ListenerParameters parameters = new ListenerParameters();
+		StatisticsClient first = new StatisticsClient("id", parameters);
+		StatisticsClient second = new StatisticsClient("id", parameters);
+		assertThat(second.getHttpClient(), sameInstance(first.getHttpClient()));
+
+		first.close();
+		first.close();
+		StatisticsClient third = new StatisticsClient("id", parameters);
+		assertThat(third.getHttpClient(), sameInstance(second.getHttpClient()));
+
+		second.close();
+		third.close();
+		StatisticsClient fourth = new StatisticsClient("id", parameters);
+		assertThat(fourth.getHttpClient(), not(sameInstance(third.getHttpClient())));
+		fourth.close();
+	}
+
 	@Test
 	public void verify_client_sends_same_client_id_and_different_user_ids() {
 		when(httpClient.send(anyString(), any())).thenReturn(Maybe.create(e -> e.onSuccess(Response.success(ResponseBody.create(MediaType.get(
@@ -32,6 +32,7 @@ import retrofit2.Response;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -95,7 +96,7 @@ public class StatisticsServiceTest {
 		service.close();
 
 		ArgumentCaptor<StatisticsItem> argumentCaptor = ArgumentCaptor.forClass(StatisticsItem.class);
-		verify(statistics, times(1)).send(argumentCaptor.capture());
+		verify(statistics, timeout(2000).times(1)).send(argumentCaptor.capture());
 
 		StatisticsItem value = argumentCaptor.getValue();
 
@@ -120,7 +121,7 @@ public class StatisticsServiceTest {
 		service.close();
 
 		ArgumentCaptor<StatisticsItem> argumentCaptor = ArgumentCaptor.forClass(StatisticsItem.class);
-		verify(statistics, times(1)).send(argumentCaptor.capture());
+		verify(statistics, timeout(2000).times(1)).send(argumentCaptor.capture());
 
 		StatisticsItem value = argumentCaptor.getValue();
 		Map<String, String> params = value.getParams();
@@ -142,4 +143,16 @@ public class StatisticsServiceTest {
 		service.sendEvent(launchMaybe, launchRq);
 		verify(statistics, timeout(2000).times(1)).send(any());
 	}
+
+	@Test
+	public void test_statistics_close_does_not_wait_for_event() {
+		StartLaunchRQ launchRq = TestUtils.standardLaunchRequest(parameters);
+		service.sendEvent(launchMaybe, launchRq);
+
+		long start = System.nanoTime();
+		service.close();
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(200L));
+
+		verify(statistics, timeout(2000).times(1)).send(any());
+	}
 }
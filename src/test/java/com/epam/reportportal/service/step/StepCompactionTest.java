@@ -0,0 +1,221 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.step;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.test.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.test.TestUtils.*;
+import static com.epam.reportportal.util.test.CommonUtils.shutdownExecutorService;
+import static com.epam.reportportal.utils.markdown.MarkdownUtils.MARKDOWN_MODE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class StepCompactionTest {
+
+	private final String testLaunchUuid = CommonUtils.namedId("launch_");
+	private final String testClassUuid = CommonUtils.namedId("class_");
+	private final String testMethodUuid = CommonUtils.namedId("test_");
+	private final String nestedStepUuid = CommonUtils.namedId("nested_");
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	private ReportPortalClient client;
+	private Launch launch;
+	private Maybe<String> testClassUuidMaybe;
+	private Maybe<String> testMethodUuidMaybe;
+	private StepReporter sr;
+
+	private void startLaunch(Duration threshold) {
+		client = mock(ReportPortalClient.class);
+		mockLaunch(client, testLaunchUuid, testClassUuid, testMethodUuid);
+		mockBatchLogging(client);
+
+		ListenerParameters parameters = TestUtils.standardParameters();
+		parameters.setStepCompaction(true);
+		parameters.setStepCompactionThreshold(threshold);
+		ReportPortal rp = ReportPortal.create(client, parameters, executor);
+		launch = rp.newLaunch(TestUtils.standardLaunchRequest(parameters));
+		testClassUuidMaybe = launch.startTestItem(TestUtils.standardStartTestRequest());
+		testMethodUuidMaybe = launch.startTestItem(testClassUuidMaybe, TestUtils.standardStartStepRequest());
+		sr = launch.getStepReporter();
+	}
+
+	private void finishLaunch() {
+		launch.finishTestItem(testMethodUuidMaybe, positiveFinishRequest());
+		launch.finishTestItem(testClassUuidMaybe, positiveFinishRequest());
+		launch.finish(standardLaunchFinishRequest());
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<SaveLogRQ> getLogs() {
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, timeout(1000).atLeastOnce()).log(logCaptor.capture());
+		return logCaptor.getAllValues().stream().flatMap(rq -> TestUtils.extractJsonParts(rq).stream()).collect(Collectors.toList());
+	}
+
+	@AfterEach
+	public void cleanup() {
+		shutdownExecutorService(executor);
+	}
+
+	@Test
+	public void verify_short_passed_steps_are_reported_as_a_parent_log() {
+		startLaunch(Duration.ofMinutes(1));
+		String stepName = "verify_short_passed_steps_are_reported_as_a_parent_log";
+		String secondStepName = "second|step";
+
+		Maybe<String> stepId = sr.startNestedStep(StepRequestUtils.buildStartStepRequest(stepName, null));
+		sr.finishNestedStep();
+		sr.step(secondStepName);
+		finishLaunch();
+
+		verify(client, after(1000).times(0)).startTestItem(eq(testMethodUuid), any(StartTestItemRQ.class));
+		assertThat(stepId.isEmpty().blockingGet(), equalTo(Boolean.TRUE));
+
+		List<SaveLogRQ> logs = getLogs();
+		assertThat(logs, hasSize(1));
+		SaveLogRQ summary = logs.get(0);
+		assertThat(summary.getItemUuid(), equalTo(testMethodUuid));
+		assertThat(summary.getMessage(), startsWith(MARKDOWN_MODE));
+		assertThat(summary.getMessage(), containsString("| " + stepName + " |"));
+		assertThat(summary.getMessage(), containsString("| second\\|step |"));
+	}
+
+	@Test
+	public void verify_compacted_steps_of_unfinished_parent_are_reported_on_launch_finish() {
+		startLaunch(Duration.ofMinutes(1));
+		String stepName = "verify_compacted_steps_of_unfinished_parent_are_reported_on_launch_finish";
+
+		sr.step(stepName);
+		long retained = sr.getRetainedStepCount();
+		launch.finish(standardLaunchFinishRequest());
+
+		assertThat(sr.getRetainedStepCount(), equalTo(retained - 1));
+		List<SaveLogRQ> logs = getLogs();
+		assertThat(logs, hasSize(1));
+		assertThat(logs.get(0).getItemUuid(), equalTo(testMethodUuid));
+		assertThat(logs.get(0).getMessage(), containsString("| " + stepName + " |"));
+	}
+
+	@Test
+	public void verify_failed_step_is_reported_as_an_item() {
+		startLaunch(Duration.ofMinutes(1));
+		mockNestedSteps(client, Pair.of(testMethodUuid, nestedStepUuid));
+		String stepName = "verify_failed_step_is_reported_as_an_item";
+
+		sr.step(ItemStatus.FAILED, stepName);
+		finishLaunch();
+
+		ArgumentCaptor<StartTestItemRQ> startCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, timeout(1000)).startTestItem(eq(testMethodUuid), startCaptor.capture());
+		assertThat(startCaptor.getValue().getName(), equalTo(stepName));
+
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client, timeout(1000)).finishTestItem(eq(nestedStepUuid), finishCaptor.capture());
+		assertThat(finishCaptor.getValue().getStatus(), equalTo(ItemStatus.FAILED.name()));
+	}
+
+	@Test
+	public void verify_slow_step_is_reported_as_an_item() {
+		startLaunch(Duration.ZERO);
+		mockNestedSteps(client, Pair.of(testMethodUuid, nestedStepUuid));
+		String stepName = "verify_slow_step_is_reported_as_an_item";
+
+		Maybe<String> stepId = sr.startNestedStep(StepRequestUtils.buildStartStepRequest(stepName, null));
+		try {
+			Thread.sleep(10);
+		} catch (InterruptedException ignore) {
+		}
+		sr.finishNestedStep();
+		finishLaunch();
+
+		verify(client, timeout(1000)).startTestItem(eq(testMethodUuid), any(StartTestItemRQ.class));
+		verify(client, timeout(1000)).finishTestItem(eq(nestedStepUuid), any(FinishTestItemRQ.class));
+		assertThat(stepId.blockingGet(), equalTo(nestedStepUuid));
+	}
+
+	@Test
+	public void verify_step_with_children_is_reported_as_an_item() {
+		startLaunch(Duration.ofMinutes(1));
+		mockNestedSteps(client, Pair.of(testMethodUuid, nestedStepUuid));
+		String stepName = "verify_step_with_children_is_reported_as_an_item";
+		String childStepName = "child step";
+
+		sr.startNestedStep(StepRequestUtils.buildStartStepRequest(stepName, null));
+		sr.step(childStepName);
+		sr.finishNestedStep();
+		finishLaunch();
+
+		ArgumentCaptor<StartTestItemRQ> startCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, timeout(1000)).startTestItem(eq(testMethodUuid), startCaptor.capture());
+		assertThat(startCaptor.getValue().getName(), equalTo(stepName));
+		verify(client, timeout(1000)).finishTestItem(eq(nestedStepUuid), any(FinishTestItemRQ.class));
+		verify(client, after(1000).times(0)).startTestItem(eq(nestedStepUuid), any(StartTestItemRQ.class));
+
+		List<SaveLogRQ> logs = getLogs();
+		assertThat(logs, hasSize(1));
+		assertThat(logs.get(0).getItemUuid(), equalTo(nestedStepUuid));
+		assertThat(logs.get(0).getMessage(), containsString("| " + childStepName + " |"));
+	}
+
+	@Test
+	public void verify_step_with_logs_is_reported_as_an_item_with_its_logs() {
+		startLaunch(Duration.ofMinutes(1));
+		mockNestedSteps(client, Pair.of(testMethodUuid, nestedStepUuid));
+		String stepName = "verify_step_with_logs_is_reported_as_an_item_with_its_logs";
+		String message = "nested step log";
+
+		sr.startNestedStep(StepRequestUtils.buildStartStepRequest(stepName, null));
+		ReportPortal.emitLog(message, "INFO", Calendar.getInstance().getTime());
+		sr.finishNestedStep();
+		finishLaunch();
+
+		ArgumentCaptor<StartTestItemRQ> startCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, timeout(1000)).startTestItem(eq(testMethodUuid), startCaptor.capture());
+		assertThat(startCaptor.getValue().getName(), equalTo(stepName));
+		verify(client, timeout(1000)).finishTestItem(eq(nestedStepUuid), any(FinishTestItemRQ.class));
+
+		List<SaveLogRQ> logs = getLogs();
+		assertThat(logs, hasSize(1));
+		assertThat(logs.get(0).getItemUuid(), equalTo(nestedStepUuid));
+		assertThat(logs.get(0).getMessage(), equalTo(message));
+	}
+}
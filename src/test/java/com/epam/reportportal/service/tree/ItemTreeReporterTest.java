@@ -0,0 +1,165 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.tree;
+
+import com.epam.reportportal.service.LaunchLoggingContext;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.test.TestUtils;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.EntryCreatedAsyncRS;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.MaybeSubject;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class ItemTreeReporterTest {
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final MaybeSubject<String> launchUuid = MaybeSubject.create();
+	private final String parentUuid = UUID.randomUUID().toString();
+	private final String itemUuid = UUID.randomUUID().toString();
+
+	@Test
+	public void test_start_item_does_not_block_until_launch_uuid() {
+		when(client.startTestItem(eq(parentUuid), any(StartTestItemRQ.class))).thenReturn(Maybe.just(new ItemCreatedRS(itemUuid, itemUuid)));
+		TestItemTree.TestItemLeaf leaf = TestItemTree.createTestItemLeaf(Maybe.just(parentUuid), Maybe.empty());
+
+		Maybe<String> result = ItemTreeReporter.startItem(client, new StartTestItemRQ(), launchUuid, leaf);
+		result.subscribe();
+		verify(client, never()).startTestItem(any(), any(StartTestItemRQ.class));
+
+		String launch = UUID.randomUUID().toString();
+		launchUuid.onSuccess(launch);
+		ArgumentCaptor<StartTestItemRQ> captor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client).startTestItem(eq(parentUuid), captor.capture());
+		assertThat(captor.getValue().getLaunchUuid(), equalTo(launch));
+		assertThat(result.blockingGet(), equalTo(itemUuid));
+	}
+
+	@Test
+	public void test_finish_item_is_sent_after_previous_finish_of_the_leaf() {
+		MaybeSubject<OperationCompletionRS> firstFinish = MaybeSubject.create();
+		OperationCompletionRS secondFinish = new OperationCompletionRS();
+		when(client.finishTestItem(eq(itemUuid), any(FinishTestItemRQ.class))).thenReturn(firstFinish, Maybe.just(secondFinish));
+		TestItemTree.TestItemLeaf leaf = TestItemTree.createTestItemLeaf(Maybe.just(parentUuid), Maybe.just(itemUuid));
+		launchUuid.onSuccess(UUID.randomUUID().toString());
+
+		FinishTestItemRQ firstRq = new FinishTestItemRQ();
+		Maybe<OperationCompletionRS> first = ItemTreeReporter.finishItem(client, firstRq, launchUuid, leaf);
+		first.subscribe();
+		FinishTestItemRQ secondRq = new FinishTestItemRQ();
+		Maybe<OperationCompletionRS> second = ItemTreeReporter.finishItem(client, secondRq, launchUuid, leaf);
+		second.subscribe();
+		verify(client, times(1)).finishTestItem(any(), any(FinishTestItemRQ.class));
+
+		firstFinish.onSuccess(new OperationCompletionRS());
+		InOrder order = inOrder(client);
+		order.verify(client).finishTestItem(eq(itemUuid), same(firstRq));
+		order.verify(client).finishTestItem(eq(itemUuid), same(secondRq));
+		assertThat(second.blockingGet(), equalTo(secondFinish));
+		assertThat(leaf.getFinishResponse(), equalTo(second));
+	}
+
+	@Test
+	public void test_send_log_is_batched_in_launch_logging_context() {
+		MaybeSubject<String> item = MaybeSubject.create();
+		when(client.log(anyList())).thenReturn(Maybe.just(new BatchSaveOperatingRS()));
+		TestItemTree.TestItemLeaf leaf = TestItemTree.createTestItemLeaf(Maybe.just(parentUuid), item);
+		launchUuid.onSuccess(UUID.randomUUID().toString());
+		LaunchLoggingContext.init(launchUuid, client, Schedulers.computation(), TestUtils.standardParameters());
+
+		Date logTime = Calendar.getInstance().getTime();
+		assertThat(ItemTreeReporter.sendLog(client, "INFO", "first", logTime, launchUuid, leaf), equalTo(true));
+		assertThat(ItemTreeReporter.sendLog(client, "INFO", "second", logTime, launchUuid, leaf), equalTo(true));
+		item.onSuccess(itemUuid);
+		LaunchLoggingContext.complete().blockingAwait();
+
+		verify(client, timeout(2000).times(1)).log(anyList());
+		verify(client, never()).log(any(SaveLogRQ.class));
+	}
+
+	@Test
+	public void test_send_log_is_sent_directly_after_launch_logging_context_completion() {
+		when(client.log(any(SaveLogRQ.class))).thenReturn(Maybe.just(new EntryCreatedAsyncRS()));
+		TestItemTree.TestItemLeaf leaf = TestItemTree.createTestItemLeaf(Maybe.just(parentUuid), Maybe.just(itemUuid));
+		launchUuid.onSuccess(UUID.randomUUID().toString());
+		LaunchLoggingContext.init(launchUuid, client, Schedulers.computation(), TestUtils.standardParameters());
+		LaunchLoggingContext.complete().blockingAwait();
+
+		assertThat(ItemTreeReporter.sendLog(client, "INFO", "message", Calendar.getInstance().getTime(), launchUuid, leaf), equalTo(true));
+
+		ArgumentCaptor<SaveLogRQ> captor = ArgumentCaptor.forClass(SaveLogRQ.class);
+		verify(client).log(captor.capture());
+		assertThat(captor.getValue().getItemUuid(), equalTo(itemUuid));
+	}
+
+	@Test
+	public void test_send_log_of_failed_item_does_not_terminate_launch_logging_context() {
+		when(client.log(anyList())).thenReturn(Maybe.just(new BatchSaveOperatingRS()));
+		TestItemTree.TestItemLeaf failedLeaf = TestItemTree.createTestItemLeaf(Maybe.just(parentUuid),
+				Maybe.error(new IllegalStateException("Item start rejected"))
+		);
+		TestItemTree.TestItemLeaf leaf = TestItemTree.createTestItemLeaf(Maybe.just(parentUuid), Maybe.just(itemUuid));
+		launchUuid.onSuccess(UUID.randomUUID().toString());
+		LaunchLoggingContext.init(launchUuid, client, Schedulers.computation(), TestUtils.standardParameters());
+
+		Date logTime = Calendar.getInstance().getTime();
+		assertThat(ItemTreeReporter.sendLog(client, "INFO", "lost", logTime, launchUuid, failedLeaf), equalTo(true));
+		assertThat(ItemTreeReporter.sendLog(client, "INFO", "delivered", logTime, launchUuid, leaf), equalTo(true));
+		LaunchLoggingContext.complete().blockingAwait();
+
+		verify(client, timeout(2000).times(1)).log(anyList());
+		verify(client, never()).log(any(SaveLogRQ.class));
+	}
+
+	@Test
+	public void test_send_log_of_another_launch_is_sent_directly() {
+		when(client.log(any(SaveLogRQ.class))).thenReturn(Maybe.just(new EntryCreatedAsyncRS()));
+		TestItemTree.TestItemLeaf leaf = TestItemTree.createTestItemLeaf(Maybe.just(parentUuid), Maybe.just(itemUuid));
+		launchUuid.onSuccess(UUID.randomUUID().toString());
+		LaunchLoggingContext.init(launchUuid, client, Schedulers.computation(), TestUtils.standardParameters());
+		String anotherLaunch = UUID.randomUUID().toString();
+
+		assertThat(ItemTreeReporter.sendLog(client, "INFO", "message", Calendar.getInstance().getTime(), Maybe.just(anotherLaunch), leaf),
+				equalTo(true)
+		);
+
+		ArgumentCaptor<SaveLogRQ> captor = ArgumentCaptor.forClass(SaveLogRQ.class);
+		verify(client).log(captor.capture());
+		assertThat(captor.getValue().getLaunchUuid(), equalTo(anotherLaunch));
+		LaunchLoggingContext.complete().blockingAwait();
+		verify(client, never()).log(anyList());
+	}
+}
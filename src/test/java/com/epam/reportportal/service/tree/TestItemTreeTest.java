@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.tree;
+
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class TestItemTreeTest {
+
+	private final TestItemTree tree = new TestItemTree();
+
+	@Test
+	public void test_leaf_maps_are_allocated_on_write() {
+		TestItemTree.TestItemLeaf leaf = TestItemTree.createTestItemLeaf(Maybe.just("item"));
+		tree.getTestItems().put(TestItemTree.ItemTreeKey.of("leaf"), leaf);
+
+		assertThat(leaf.getChildItem(TestItemTree.ItemTreeKey.of("child")), nullValue());
+		assertThat(leaf.getAttribute("attribute"), nullValue());
+		assertThat(tree.getFootprint().getLeafCount(), equalTo(1L));
+		assertThat(tree.getFootprint().getMapCount(), equalTo(1L));
+
+		leaf.setAttribute("attribute", "value");
+		leaf.getChildItems().put(TestItemTree.ItemTreeKey.of("child"), TestItemTree.createTestItemLeaf(Maybe.just("child")));
+		assertThat(tree.getFootprint().getLeafCount(), equalTo(2L));
+		assertThat(tree.getFootprint().getMapCount(), equalTo(3L));
+	}
+
+	@Test
+	public void test_leaf_attributes_view_reflects_later_writes() {
+		TestItemTree.TestItemLeaf leaf = TestItemTree.createTestItemLeaf(Maybe.just("item"));
+		Map<String, Object> attributes = leaf.getAttributes();
+		assertThat(attributes.entrySet(), empty());
+
+		leaf.setAttribute("attribute", "value");
+		assertThat(attributes, hasEntry("attribute", (Object) "value"));
+		leaf.clearAttribute("attribute");
+		assertThat(attributes.entrySet(), empty());
+	}
+
+	@Test
+	public void test_leaf_with_parent_and_child_items_keeps_ids() {
+		Maybe<String> parentId = Maybe.just("parent");
+		Maybe<String> itemId = Maybe.just("item");
+		TestItemTree.TestItemLeaf leaf = TestItemTree.createTestItemLeaf(parentId, itemId, Collections.emptyMap(), Collections.emptyMap());
+
+		assertThat(leaf.getParentId(), sameInstance(parentId));
+		assertThat(leaf.getItemId(), sameInstance(itemId));
+	}
+
+	@Test
+	public void test_finished_subtree_is_evicted_after_finish_completes() {
+		TestItemTree.ItemTreeKey suiteKey = TestItemTree.ItemTreeKey.of("suite");
+		TestItemTree.ItemTreeKey testKey = TestItemTree.ItemTreeKey.of("test");
+		TestItemTree.TestItemLeaf suite = TestItemTree.createTestItemLeaf(Maybe.just("suite"));
+		TestItemTree.TestItemLeaf test = TestItemTree.createTestItemLeaf(Maybe.just("suite"), Maybe.just("test"));
+		tree.getTestItems().put(suiteKey, suite);
+		suite.getChildItems().put(testKey, test);
+
+		assertThat(tree.evictOnFinish(null, suiteKey), equalTo(false));
+
+		MaybeSubject<OperationCompletionRS> finish = MaybeSubject.create();
+		suite.setFinishResponse(finish);
+		assertThat(tree.evictOnFinish(null, suiteKey), equalTo(true));
+		assertThat(tree.getFootprint().getLeafCount(), equalTo(2L));
+
+		finish.onSuccess(new OperationCompletionRS());
+		assertThat(tree.getTestItems(), not(hasKey(suiteKey)));
+		assertThat(tree.getFootprint().getLeafCount(), equalTo(0L));
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils;
+
+import io.reactivex.Maybe;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.MaybeSubject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class AdmissionControllerTest {
+
+	@Test
+	public void test_disabled_admission_does_not_wrap_requests() {
+		AdmissionController controller = new AdmissionController(0, 1, TimeUnit.SECONDS, Schedulers.trampoline());
+		Maybe<String> request = Maybe.just("test");
+
+		assertThat(controller.isEnabled(), equalTo(Boolean.FALSE));
+		assertThat(controller.limitInFlight(request), sameInstance(request));
+	}
+
+	@Test
+	public void test_requests_over_limit_are_deferred_until_a_slot_is_free() {
+		AdmissionController controller = new AdmissionController(2, 1, TimeUnit.SECONDS, Schedulers.trampoline());
+		MaybeSubject<String> first = MaybeSubject.create();
+		MaybeSubject<String> second = MaybeSubject.create();
+		MaybeSubject<String> third = MaybeSubject.create();
+
+		TestObserver<String> firstResult = controller.limitInFlight(first).test();
+		controller.limitInFlight(second).test();
+		TestObserver<String> thirdResult = controller.limitInFlight(third).test();
+
+		assertThat(first.hasObservers(), equalTo(Boolean.TRUE));
+		assertThat(second.hasObservers(), equalTo(Boolean.TRUE));
+		assertThat(third.hasObservers(), equalTo(Boolean.FALSE));
+		assertThat(controller.getInFlight(), equalTo(2));
+		assertThat(controller.getDeferred(), equalTo(1));
+
+		first.onSuccess("first");
+		firstResult.assertValue("first");
+
+		assertThat(third.hasObservers(), equalTo(Boolean.TRUE));
+		assertThat(controller.getInFlight(), equalTo(2));
+		assertThat(controller.getDeferred(), equalTo(0));
+
+		third.onSuccess("third");
+		thirdResult.assertValue("third");
+		assertThat(controller.getInFlight(), equalTo(1));
+	}
+
+	@Test
+	public void test_disposed_deferred_request_is_not_executed() {
+		AdmissionController controller = new AdmissionController(1, 1, TimeUnit.SECONDS, Schedulers.trampoline());
+		MaybeSubject<String> first = MaybeSubject.create();
+		MaybeSubject<String> second = MaybeSubject.create();
+
+		controller.limitInFlight(first).test();
+		TestObserver<String> secondResult = controller.limitInFlight(second).test();
+		secondResult.dispose();
+		first.onComplete();
+
+		assertThat(second.hasObservers(), equalTo(Boolean.FALSE));
+		assertThat(controller.getInFlight(), equalTo(0));
+	}
+
+	@Test
+	@Timeout(value = 10)
+	public void test_admission_does_not_wait_by_default() {
+		AdmissionController controller = new AdmissionController(1, 0, TimeUnit.MILLISECONDS, Schedulers.trampoline());
+		controller.limitInFlight(Maybe.never()).test();
+		controller.limitInFlight(Maybe.never()).test();
+		assertThat(controller.getDeferred(), equalTo(1));
+
+		long start = System.nanoTime();
+		controller.awaitAdmission();
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(100L));
+	}
+
+	@Test
+	@Timeout(value = 10)
+	public void test_admission_wait_is_bounded_by_timeout() {
+		AdmissionController controller = new AdmissionController(1, 100, TimeUnit.MILLISECONDS, Schedulers.trampoline());
+		controller.awaitAdmission();
+		controller.limitInFlight(Maybe.never()).test();
+		controller.awaitAdmission();
+		controller.limitInFlight(Maybe.never()).test();
+
+		long start = System.nanoTime();
+		controller.awaitAdmission();
+		long waitMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertThat(waitMs, greaterThanOrEqualTo(90L));
+		assertThat(controller.getInFlight(), equalTo(1));
+		assertThat(controller.getDeferred(), equalTo(1));
+	}
+
+	@Test
+	@Timeout(value = 10)
+	public void test_admission_wait_ends_when_deferred_request_is_sent() throws InterruptedException {
+		AdmissionController controller = new AdmissionController(1, 10, TimeUnit.SECONDS, Schedulers.trampoline());
+		MaybeSubject<String> first = MaybeSubject.create();
+		controller.limitInFlight(first).test();
+		controller.limitInFlight(Maybe.never()).test();
+
+		Thread release = new Thread(() -> {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException ignore) {
+			}
+			first.onSuccess("first");
+		});
+		long start = System.nanoTime();
+		release.start();
+		controller.awaitAdmission();
+		long waitMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		release.join();
+
+		assertThat(waitMs, lessThan(5000L));
+		assertThat(controller.getDeferred(), equalTo(0));
+	}
+
+	@Test
+	@Timeout(value = 10)
+	public void test_admission_waits_without_timeout_when_deferred_queue_is_full() throws InterruptedException {
+		AdmissionController controller = new AdmissionController(1, 0, TimeUnit.MILLISECONDS, Schedulers.trampoline());
+		MaybeSubject<String> first = MaybeSubject.create();
+		controller.limitInFlight(first).test();
+		for (int i = 0; i < controller.getMaxDeferred(); i++) {
+			controller.limitInFlight(Maybe.never()).test();
+		}
+		assertThat(controller.getDeferred(), equalTo(AdmissionController.MAX_DEFERRED_FACTOR));
+
+		Thread waiter = new Thread(controller::awaitAdmission);
+		waiter.start();
+		waiter.join(200);
+		assertThat(waiter.isAlive(), equalTo(Boolean.TRUE));
+
+		first.onSuccess("first");
+		waiter.join(TimeUnit.SECONDS.toMillis(5));
+		assertThat(waiter.isAlive(), equalTo(Boolean.FALSE));
+		assertThat(controller.getDeferred(), equalTo(AdmissionController.MAX_DEFERRED_FACTOR - 1));
+	}
+
+	@Test
+	public void test_not_subscribed_request_does_not_take_a_slot() {
+		AdmissionController controller = new AdmissionController(1, 0, TimeUnit.MILLISECONDS, Schedulers.trampoline());
+		controller.limitInFlight(Maybe.just("never subscribed"));
+
+		TestObserver<String> result = controller.limitInFlight(Maybe.just("test")).test();
+		result.assertValue("test");
+		assertThat(controller.getInFlight(), equalTo(0));
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2020 EPAM Systems
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.epam.reportportal.utils;
+
+import com.epam.reportportal.annotations.ParameterKey;
+import com.epam.reportportal.annotations.TestCaseIdKey;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Executable;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ExecutableMetadataTest {
+
+	@SuppressWarnings("unused")
+	public static class MetadataTestObject {
+		public MetadataTestObject(String first, @TestCaseIdKey int second) {
+		}
+
+		public void method(@TestCaseIdKey @ParameterKey("key") String first, Integer second, @TestCaseIdKey Object third) {
+		}
+	}
+
+	@Test
+	public void test_executable_metadata_reads_parameter_annotations() throws NoSuchMethodException {
+		Executable method = MetadataTestObject.class.getMethod("method", String.class, Integer.class, Object.class);
+
+		ExecutableMetadata metadata = ExecutableMetadata.get(method);
+
+		assertThat(metadata.getTestCaseIdKeys(), equalTo(new int[] { 0, 2 }));
+		assertThat(metadata.getParameterNames(), arrayContaining("key", Integer.class.getName(), Object.class.getName()));
+		assertThat(ExecutableMetadata.get(method), sameInstance(metadata));
+	}
+
+	@Test
+	public void test_executable_metadata_finds_methods_and_constructors() throws NoSuchMethodException {
+		String className = MetadataTestObject.class.getName();
+
+		assertThat(ExecutableMetadata.find(className + ".method", 3),
+				equalTo(Optional.of(MetadataTestObject.class.getMethod("method", String.class, Integer.class, Object.class)))
+		);
+		assertThat(ExecutableMetadata.find(className, 2),
+				equalTo(Optional.of(MetadataTestObject.class.getConstructor(String.class, int.class)))
+		);
+		assertThat(ExecutableMetadata.find(className + ".method", 1), equalTo(Optional.empty()));
+		assertThat(ExecutableMetadata.find("com.example.Unknown.method", 0), equalTo(Optional.empty()));
+	}
+}
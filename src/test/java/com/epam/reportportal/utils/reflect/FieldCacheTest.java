@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.reflect;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class FieldCacheTest {
+
+	@SuppressWarnings("unused")
+	private static class Parent {
+		private final String parentField = "parent";
+		public final String publicField = "public";
+	}
+
+	@SuppressWarnings("unused")
+	private static class Child extends Parent {
+		private final String childField = "child";
+	}
+
+	@Test
+	public void test_private_and_inherited_fields_are_resolved() throws NoSuchFieldException {
+		Child child = new Child();
+
+		assertThat(FieldCache.getValue(child, "childField"), equalTo("child"));
+		assertThat(FieldCache.getValue(child, "parentField"), equalTo("parent"));
+		assertThat(FieldCache.getValue(child, "publicField"), equalTo("public"));
+	}
+
+	@Test
+	public void test_resolved_field_is_cached() {
+		Field first = FieldCache.getField(Child.class, "parentField");
+		Field second = FieldCache.getField(Child.class, "parentField");
+
+		assertThat(first, notNullValue());
+		assertThat(second, sameInstance(first));
+	}
+
+	@Test
+	public void test_missing_field() {
+		assertThat(FieldCache.getField(Child.class, "missingField"), nullValue());
+		assertThat(FieldCache.getField(Child.class, "missingField"), nullValue());
+		Assertions.assertThrows(NoSuchFieldException.class, () -> FieldCache.getValue(new Child(), "missingField"));
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.templating;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class CompiledTemplateTest {
+
+	private static final List<String> VARIABLES = Arrays.asList("method", "value", "list", "array", "object");
+
+	@SuppressWarnings("unused")
+	private static class Pojo {
+		private final String name = "pojo";
+		private final Pojo child;
+
+		private Pojo(Pojo child) {
+			this.child = child;
+		}
+
+		@Override
+		public String toString() {
+			return "POJO";
+		}
+	}
+
+	private static final Object[] VALUES = new Object[] { "stepMethod", null, Arrays.asList("a", "b"), new String[] { "c", "d" },
+			new Pojo(new Pojo(null)) };
+
+	public static Object[][] templates() {
+		return new Object[][] { { "Constant name" }, { "" }, { "{method}" }, { "Method: {method}, value: {value}" },
+				{ "List {list} and array {array}" }, { "{object} {object.name} {object.child.name} {object.child.child}" },
+				{ "Unknown {unknown} and {object.unknown}" }, { "Not a template: {}, { method }, {method" },
+				{ "Special characters: $1 \\{method} {method}$" } };
+	}
+
+	@ParameterizedTest
+	@MethodSource("templates")
+	public void test_compiled_template_renders_the_same_as_template_processing(String pattern) {
+		TemplateConfiguration config = new TemplateConfiguration();
+		Map<String, Object> parameters = new HashMap<>();
+		for (int i = 0; i < VARIABLES.size(); i++) {
+			parameters.put(VARIABLES.get(i), VALUES[i]);
+		}
+
+		CompiledTemplate template = CompiledTemplate.compile(pattern, config, VARIABLES::indexOf);
+
+		assertThat(template.render(VALUES), equalTo(TemplateProcessing.processTemplate(pattern, parameters, config)));
+	}
+
+	@Test
+	public void test_compiled_template_renders_different_values() {
+		CompiledTemplate template = CompiledTemplate.compile("Value: {0}", new TemplateConfiguration(), v -> "0".equals(v) ? 0 : -1);
+
+		assertThat(template.render(new Object[] { "first" }), equalTo("Value: first"));
+		assertThat(template.render(new Object[] { "second" }), equalTo("Value: second"));
+	}
+
+	@Test
+	public void test_compiled_template_nested_rendering() {
+		CompiledTemplate inner = CompiledTemplate.compile("inner {0}", new TemplateConfiguration(), v -> 0);
+		Object value = new Object() {
+			@Override
+			public String toString() {
+				return inner.render(new Object[] { "value" });
+			}
+		};
+		CompiledTemplate outer = CompiledTemplate.compile("{0} and outer {0}", new TemplateConfiguration(), v -> 0);
+
+		assertThat(outer.render(new Object[] { value }), equalTo("inner value and outer inner value"));
+	}
+}